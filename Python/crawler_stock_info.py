@@ -41,7 +41,10 @@ HEADERS = {
 # ===============================
 # Spring Boot API URL
 # ===============================
-API_URL = "http://localhost:8484/api/stocks"
+BULK_API_URL = "http://localhost:8484/api/stocks/bulk"
+BULK_SIZE = 500          # 한 번에 보낼 종목 수
+BULK_MAX_RETRY = 5       # 429(서버 수집 대기열 가득) / 연결 오류 / 5xx 재시도 횟수
+BULK_BACKOFF_MAX = 60    # 재시도 대기 최대 초
 
 
 # ===============================
@@ -112,17 +115,61 @@ def parse_page(page):
 
 
 # ===============================
-# Spring API로 POST (안전 버전)
+# Spring 대량 수집 API로 POST
+# - 429 이면 Retry-After 와 지수 백오프 중 긴 만큼, 연결 오류 / 5xx 는 지수 백오프만큼 쉬고 재시도
+# - 재시도를 다 쓰면 chunk 를 버리고 로그만 남김 (단건 API 로 나눠 보내면 서버 수집 대기열 제한을 우회하게 됨)
 # ===============================
-def send_to_api(item):
+def backoff_seconds(attempt):
+    return min(BULK_BACKOFF_MAX, 2 ** attempt)
+
+
+def retry_after_seconds(resp, attempt):
     try:
-        resp = requests.post(API_URL, json=item, timeout=5)
-        if resp.status_code == 200:
-            print(f"[OK] {item['stockCode']} 저장")
-        else:
-            print(f"[FAIL] {item['stockCode']} → 서버 응답 {resp.status_code}")
-    except Exception as e:
-        print(f"[ERROR] {item['stockCode']} → {e}")
+        retry_after = int(resp.headers.get("Retry-After", "0"))
+    except ValueError:
+        retry_after = 0
+    return min(BULK_BACKOFF_MAX, max(retry_after, backoff_seconds(attempt)))
+
+
+def send_bulk_to_api(items):
+    for attempt in range(BULK_MAX_RETRY + 1):
+        last = attempt == BULK_MAX_RETRY
+        try:
+            resp = requests.post(BULK_API_URL, json=items, timeout=60)
+        except Exception as e:
+            print(f"[ERROR] 대량 전송 실패 → {e}")
+            if last:
+                break
+            time.sleep(backoff_seconds(attempt))
+            continue
+
+        if resp.status_code == 429 or resp.status_code >= 500:
+            if last:
+                print(f"[FAIL] 대량 전송 → 서버 응답 {resp.status_code}")
+                break
+            wait = retry_after_seconds(resp, attempt)
+            print(f"[WAIT] 서버 응답 {resp.status_code} → {wait}초 후 재시도")
+            time.sleep(wait)
+            continue
+
+        if resp.status_code != 200:
+            print(f"[FAIL] 대량 전송 → 서버 응답 {resp.status_code}")
+            break
+
+        result = resp.json()
+        print(f"[OK] {result['succeeded']}/{result['total']}건 저장 ({result['elapsedMs']}ms)")
+        for row in result["rows"]:
+            if row["status"] != "ERROR":
+                continue
+            # 요청 본문 읽기 중단 행은 index 가 마지막 항목 다음
+            index = row["index"]
+            code = items[index]["stockCode"] if 0 <= index < len(items) else "-"
+            print(f"[FAIL] {code} (index {index}) → {row['message']}")
+        return True
+
+    codes = [item["stockCode"] for item in items]
+    print(f"[DROP] 대량 전송 {len(items)}건 포기 ({codes[0]} ~ {codes[-1]}) → 다음 수집 때 다시 반영")
+    return False
 
 
 # ===============================
@@ -146,10 +193,15 @@ def main():
 
     print(f"\n총 {len(all_data)}개 종목 수집 완료\n")
 
-    # API 전송
-    for item in all_data:
-        send_to_api(item)
-        time.sleep(0.05)
+    # API 전송 (BULK_SIZE 개씩 한 번에, 재시도 후에도 실패한 chunk 는 버림)
+    dropped = 0
+    for i in range(0, len(all_data), BULK_SIZE):
+        chunk = all_data[i:i + BULK_SIZE]
+        if not send_bulk_to_api(chunk):
+            dropped += len(chunk)
+
+    if dropped:
+        print(f"\n전송 실패로 {dropped}개 종목 미반영\n")
 
 if __name__ == "__main__":
     try:
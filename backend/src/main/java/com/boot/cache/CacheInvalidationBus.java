@@ -0,0 +1,107 @@
+package com.boot.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버 간 로컬 캐시 무효화 (Redis pub/sub)
+ * - 어떤 서버에서 캐시를 지우면 cache.invalidation.channel 로 "서버ID|캐시 이름|키" 발행
+ * - 모든 서버가 구독 (RedisConfig 의 RedisMessageListenerContainer) → 캐시 이름으로 등록된 로컬 무효화 실행
+ *   자기가 보낸 메시지는 무시 (발행 전에 이미 로컬을 지움)
+ * - 키가 ALL 이면 해당 캐시 전체, 여러 키는 줄바꿈으로 이어 메시지 하나로 발행 (대량 수집 chunk 단위 무효화)
+ * - Redis 장애 중에는 발행하지 못함 → 복구 시 모든 로컬 캐시를 비워 놓친 무효화를 대신함 (RedisAvailability)
+ */
+@Component
+public class CacheInvalidationBus implements MessageListener {
+
+    public static final String ALL = "*";
+
+    private static final String SEPARATOR = "|";
+    private static final String KEY_SEPARATOR = "\n";
+
+    @Autowired
+    private RedisTemplate<String, byte[]> binaryRedisTemplate;
+
+    @Autowired
+    private RedisAvailability redisAvailability;
+
+    @Value("${cache.invalidation.channel:cache:invalidate}")
+    private String channel;
+
+    // 서버(프로세스)마다 다른 값
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        redisAvailability.onRecovery(() -> listeners.forEach((cache, list) -> dispatch(cache, ALL)));
+    }
+
+    /** 다른 서버에서 cache 의 키가 무효화될 때 실행할 로컬 작업 등록 (키 또는 ALL) */
+    public void register(String cache, Consumer<String> onInvalidate) {
+        listeners.computeIfAbsent(cache, c -> new CopyOnWriteArrayList<>()).add(onInvalidate);
+    }
+
+    /** 다른 서버들에 무효화 전파 (로컬은 호출한 쪽에서 이미 지운 상태) */
+    public void publish(String cache, String key) {
+        if (!redisAvailability.available()) return;
+        String message = nodeId + SEPARATOR + cache + SEPARATOR + key;
+        try {
+            binaryRedisTemplate.convertAndSend(channel, message.getBytes(StandardCharsets.UTF_8));
+            redisAvailability.success();
+        } catch (Exception e) {
+            redisAvailability.failure(e);
+            System.err.println("[CacheInvalidationBus] 무효화 발행 실패 (" + cache + ":" + key + "): " + e.getMessage());
+        }
+    }
+
+    /** 여러 키를 메시지 하나로 전파 (키에는 줄바꿈이 없어야 함) */
+    public void publish(String cache, Collection<String> keys) {
+        if (keys.isEmpty()) return;
+        publish(cache, String.join(KEY_SEPARATOR, keys));
+    }
+
+    public void publishAll(String cache) {
+        publish(cache, ALL);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\" + SEPARATOR, 3);
+        if (parts.length < 3 || nodeId.equals(parts[0])) return;
+        for (String key : parts[2].split(KEY_SEPARATOR)) {
+            dispatch(parts[1], key);
+        }
+    }
+
+    private void dispatch(String cache, String key) {
+        List<Consumer<String>> list = listeners.get(cache);
+        if (list == null) return;
+        for (Consumer<String> listener : list) {
+            try {
+                listener.accept(key);
+            } catch (RuntimeException e) {
+                System.err.println("[CacheInvalidationBus] 로컬 무효화 실패 (" + cache + ":" + key + "): " + e.getMessage());
+            }
+        }
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+}
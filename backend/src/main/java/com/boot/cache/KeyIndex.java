@@ -0,0 +1,50 @@
+package com.boot.cache;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 캐시 키 역색인 (항목 → 그 항목으로 무효화해야 하는 캐시 키)
+ * - SearchResultCache 의 로컬 캐시용: 뉴스 토큰 / 종목코드로 무효화 대상 키를 바로 찾음 (Redis 의 종목별/토큰별 키 목록과 같은 역할)
+ * - 로컬 캐시에서 키가 빠질 때 (만료, 크기 제한, 무효화) 함께 제거, 빈 목록은 지움
+ */
+final class KeyIndex {
+
+    private final Map<String, Set<String>> keysByTerm = new ConcurrentHashMap<>();
+
+    void add(String term, String key) {
+        keysByTerm.compute(term, (t, keys) -> {
+            if (keys == null) keys = ConcurrentHashMap.newKeySet();
+            keys.add(key);
+            return keys;
+        });
+    }
+
+    void remove(String term, String key) {
+        keysByTerm.computeIfPresent(term, (t, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    /** 항목들 중 하나라도 걸린 키 (합집합) */
+    Set<String> get(Collection<String> terms) {
+        Set<String> result = new HashSet<>();
+        for (String term : terms) {
+            Set<String> keys = keysByTerm.get(term);
+            if (keys != null) result.addAll(keys);
+        }
+        return result;
+    }
+
+    int size() {
+        return keysByTerm.size();
+    }
+
+    void clear() {
+        keysByTerm.clear();
+    }
+}
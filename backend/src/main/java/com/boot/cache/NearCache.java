@@ -0,0 +1,104 @@
+package com.boot.cache;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Redis 앞 로컬(JVM) 캐시 계층
+ * - 최대 건수 제한 Caffeine, 값은 Redis 에서 읽어 역직렬화까지 끝난 객체 → 적중 시 네트워크/역직렬화 없음
+ * - ttl 이 지난 값은 Redis 에서 다시 읽음 (다른 서버의 무효화 메시지를 놓쳐도 ttl 안에 맞춰짐)
+ * - Redis 장애 모드 (RedisAvailability) 에서는 ttl 이 지난 값도 degraded-max-age 까지 계속 사용
+ *   Redis 조회가 예외로 끝나도 남아 있는 값이 있으면 그 값 사용
+ * - invalidate: 로컬 삭제 + CacheInvalidationBus 로 다른 서버에 전파
+ * - 지표: cache.* {cache=near.이름}
+ */
+public class NearCache<V> {
+
+    private final String name;
+    private final Cache<String, Entry<V>> local;
+    private final long ttlNanos;
+    private final CacheInvalidationBus bus;
+    private final RedisAvailability redisAvailability;
+
+    public NearCache(String name, long maxSize, Duration ttl, Duration degradedMaxAge,
+                     CacheInvalidationBus bus, RedisAvailability redisAvailability, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.ttlNanos = ttl.toNanos();
+        this.bus = bus;
+        this.redisAvailability = redisAvailability;
+        // 장애 모드에서도 쓸 수 있도록 실제 보관은 둘 중 긴 시간
+        this.local = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(degradedMaxAge.compareTo(ttl) > 0 ? degradedMaxAge : ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "near." + name);
+        bus.register(name, this::invalidateLocal);
+    }
+
+    // ================= 조회 =================
+    /**
+     * 로컬(ttl 이내) → remote → (장애 시) 로컬(ttl 지난 값)
+     * @param remote Redis 조회 (Redis 미스면 원본 적재까지), null 이면 저장하지 않음
+     */
+    public V get(String key, Supplier<V> remote) {
+        Entry<V> cached = local.getIfPresent(key);
+        if (cached != null && (cached.fresh(ttlNanos) || !redisAvailability.available())) {
+            return cached.value;
+        }
+
+        V value;
+        try {
+            value = remote.get();
+        } catch (RuntimeException e) {
+            if (cached != null) {
+                System.err.println("[NearCache] " + name + " 원격 조회 실패 - 로컬 값 사용: " + e.getMessage());
+                return cached.value;
+            }
+            throw e;
+        }
+        if (value != null) local.put(key, new Entry<>(value));
+        return value;
+    }
+
+    public void put(String key, V value) {
+        if (value == null) return;
+        local.put(key, new Entry<>(value));
+    }
+
+    // ================= 무효화 =================
+    /** 이 서버 + 다른 서버들의 로컬 값 삭제 */
+    public void invalidate(String key) {
+        local.invalidate(key);
+        bus.publish(name, key);
+    }
+
+    /** 이 서버만 (무효화 메시지 수신 시) */
+    public void invalidateLocal(String key) {
+        if (CacheInvalidationBus.ALL.equals(key)) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        final long writtenAt = System.nanoTime();
+
+        Entry(V value) {
+            this.value = value;
+        }
+
+        boolean fresh(long ttlNanos) {
+            return System.nanoTime() - writtenAt < ttlNanos;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.boot.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Redis 연결 상태 (로컬 캐시 계층의 장애 모드 판단용)
+ * - Redis 호출 코드가 실패/성공을 알려 줌 (failure / success)
+ * - 실패 뒤 retry-seconds 동안은 Redis 를 호출하지 않음 (available() == false)
+ *   → 요청마다 명령 시간 초과를 기다리지 않고 로컬 캐시/DB 로 바로 처리
+ * - 그 뒤 첫 호출이 성공하면 정상 복귀 → 장애 중 놓친 무효화가 있을 수 있으므로 등록된 복구 작업 실행 (로컬 캐시 비우기)
+ * - 지표: cache.redis.degraded (1 = 장애 모드)
+ */
+@Component
+public class RedisAvailability {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${cache.redis.retry-seconds:5}")
+    private long retrySeconds;
+
+    private volatile boolean degraded;
+    private volatile long retryAt;
+    private final List<Runnable> recoveryListeners = new CopyOnWriteArrayList<>();
+
+    @PostConstruct
+    public void init() {
+        meterRegistry.gauge("cache.redis.degraded", this, a -> a.degraded ? 1 : 0);
+    }
+
+    /** Redis 를 호출해도 되는지 (장애 모드면 재시도 시각이 지났을 때만) */
+    public boolean available() {
+        return !degraded || System.nanoTime() - retryAt >= 0;
+    }
+
+    public boolean isDegraded() {
+        return degraded;
+    }
+
+    public void failure(Exception e) {
+        retryAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(retrySeconds);
+        if (!degraded) {
+            degraded = true;
+            System.err.println("[RedisAvailability] Redis 연결 실패 → 로컬 캐시 장애 모드: " + e.getMessage());
+        }
+    }
+
+    public void success() {
+        if (!degraded) return;
+        synchronized (this) {
+            if (!degraded) return;
+            degraded = false;
+        }
+        System.out.println("[RedisAvailability] Redis 연결 복구 → 로컬 캐시 비움");
+        for (Runnable listener : recoveryListeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                System.err.println("[RedisAvailability] 복구 작업 실패: " + e.getMessage());
+            }
+        }
+    }
+
+    /** 장애 모드에서 정상으로 돌아올 때 실행 */
+    public void onRecovery(Runnable listener) {
+        recoveryListeners.add(listener);
+    }
+}
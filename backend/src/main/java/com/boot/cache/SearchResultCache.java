@@ -0,0 +1,431 @@
+package com.boot.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.boot.dto.StockInfoDTO;
+import com.boot.dto.StockNewsDTO;
+import com.boot.search.HangulJamo;
+import com.boot.search.NewsTokenizer;
+import com.boot.search.StockSearchIndex;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 통합 검색(searchIntegrated) 결과 2단 캐시
+ * - 키: 정규화된 질의 (공백 제거 + 대문자, StockSearchIndex.normalize)
+ * - 1차: 로컬 Caffeine (W-TinyLFU, 최대 건수 제한) → 소수의 인기 접두어가 대부분인 자동완성 트래픽에 적합
+ * - 2차: Redis (CacheConfig 의 RedisCacheManager, "searchCache")
+ * - partial(뉴스 검색 시간 초과) 결과는 캐시하지 않음
+ * - 무효화: insertStockInfo / insertStockNews 가 바뀐 데이터와 일치하는 질의 키만 삭제
+ *   종목별 키 목록(STOCK_KEY_PREFIX + 종목코드), 토큰별 키 목록(TOKEN_KEY_PREFIX + 대표 토큰) 으로 바로 찾음
+ *   (Redis 집합 + 로컬 캐시용 KeyIndex), 캐시된 키 전체(KEY_SET) 비교는 신규 상장/종목명 변경 때만
+ *   대량 수집은 chunk 단위로 한 번 (키 목록 조회/질의 토큰화를 행마다 반복하지 않음)
+ * - 삭제한 키는 CacheInvalidationBus 로 다른 서버에도 전파 (메시지 하나) → 각 서버의 로컬 캐시에서도 삭제
+ * - Redis 장애 시 로컬 캐시만으로 동작 (RedisAvailability 장애 모드 동안은 Redis 를 호출하지 않음)
+ */
+@Component
+public class SearchResultCache {
+
+    public static final String CACHE_NAME = "searchCache";
+
+    private static final String KEY_SET = "searchCache:keys";
+    private static final String STOCK_KEY_PREFIX = "searchCache:stock:";
+    private static final String TOKEN_KEY_PREFIX = "searchCache:token:";
+
+    @Autowired
+    private RedisCacheManager cacheManager;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Autowired
+    private RedisAvailability redisAvailability;
+
+    @Value("${search.cache.local.max-size:2000}")
+    private long localMaxSize;
+
+    @Value("${search.cache.local.ttl-seconds:30}")
+    private long localTtlSeconds;
+
+    @Value("${search.cache.remote.ttl-minutes:10}")
+    private long remoteTtlMinutes;
+
+    private com.github.benmanes.caffeine.cache.Cache<String, Map<String, Object>> local;
+    // 로컬 캐시 키 역색인 (뉴스 대표 토큰 → 키, 결과 종목코드 → 키)
+    private final KeyIndex localByToken = new KeyIndex();
+    private final KeyIndex localByStock = new KeyIndex();
+    private Counter remoteHits;
+    private Counter remoteMisses;
+
+    @PostConstruct
+    public void init() {
+        local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtlSeconds, TimeUnit.SECONDS)
+                // 역색인 정리를 제거한 스레드에서 바로 실행 (비동기면 다시 저장된 키의 색인을 지울 수 있음)
+                .executor(Runnable::run)
+                .removalListener(this::unindexLocal)
+                .recordStats()
+                .build();
+
+        // cache.gets{result=hit|miss}, cache.evictions 등 Micrometer 지표로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, local, CACHE_NAME + ".local");
+        remoteHits = meterRegistry.counter("search.cache.remote", "result", "hit");
+        remoteMisses = meterRegistry.counter("search.cache.remote", "result", "miss");
+
+        // 다른 서버에서 삭제한 키
+        cacheInvalidationBus.register(CACHE_NAME, key -> {
+            if (CacheInvalidationBus.ALL.equals(key)) {
+                local.invalidateAll();
+            } else {
+                local.invalidate(key);
+            }
+        });
+    }
+
+    // ================= 조회 =================
+    /** 로컬 → Redis → loader 순으로 조회, loader 결과는 partial 이 아니면 두 계층에 저장 */
+    public Map<String, Object> get(String keyword, Supplier<Map<String, Object>> loader) {
+        String key = StockSearchIndex.normalize(keyword);
+        if (key.isEmpty()) return loader.get();
+
+        Map<String, Object> cached = local.getIfPresent(key);
+        if (cached != null) return cached;
+
+        cached = getRemote(key);
+        if (cached != null) {
+            putLocal(key, cached);
+            return cached;
+        }
+
+        Map<String, Object> result = loader.get();
+        if (!Boolean.TRUE.equals(result.get("partial"))) {
+            putLocal(key, result);
+            putRemote(key, result);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> getRemote(String key) {
+        if (!redisAvailability.available()) {
+            remoteMisses.increment();
+            return null;
+        }
+        try {
+            Cache.ValueWrapper wrapper = remote().get(key);
+            redisAvailability.success();
+            if (wrapper != null && wrapper.get() instanceof Map) {
+                remoteHits.increment();
+                return (Map<String, Object>) wrapper.get();
+            }
+        } catch (Exception e) {
+            redisAvailability.failure(e);
+            System.err.println("[SearchResultCache] Redis 조회 실패 - 로컬 캐시만 사용: " + e.getMessage());
+        }
+        remoteMisses.increment();
+        return null;
+    }
+
+    private void putRemote(String key, Map<String, Object> result) {
+        if (!redisAvailability.available()) return;
+        try {
+            remote().put(key, result);
+
+            Duration ttl = Duration.ofMinutes(remoteTtlMinutes);
+            redisTemplate.opsForSet().add(KEY_SET, key);
+            redisTemplate.expire(KEY_SET, ttl);
+            String token = indexToken(key);
+            if (token != null) {
+                redisTemplate.opsForSet().add(TOKEN_KEY_PREFIX + token, key);
+                redisTemplate.expire(TOKEN_KEY_PREFIX + token, ttl);
+            }
+            for (String code : stockCodesOf(result)) {
+                redisTemplate.opsForSet().add(STOCK_KEY_PREFIX + code, key);
+                redisTemplate.expire(STOCK_KEY_PREFIX + code, ttl);
+            }
+        } catch (Exception e) {
+            redisAvailability.failure(e);
+            System.err.println("[SearchResultCache] Redis 저장 실패: " + e.getMessage());
+        }
+    }
+
+    // ================= 무효화 =================
+    /**
+     * 종목 등록/갱신 시 (대량 수집은 chunk 단위)
+     * - 결과에 이 종목들이 들어 있는 키 (가격/등락률 변경): 종목별 키 목록으로 바로 조회
+     * - 새 종목명/코드와 일치하는 키: 신규 상장, 종목명 변경(renamed) 이 있을 때만 캐시된 키 전체와 비교
+     *   (크롤러의 시세 갱신은 대부분 가격만 바뀌므로 전체 비교를 하지 않음)
+     */
+    public void evictStocks(Collection<StockInfoDTO> stocks, Collection<StockInfoDTO> renamed) {
+        Set<String> codes = new HashSet<>();
+        for (StockInfoDTO dto : stocks) {
+            if (dto == null || dto.getStockCode() == null) continue;
+            codes.add(StockSearchIndex.normalize(dto.getStockCode()));
+        }
+        if (codes.isEmpty()) return;
+
+        Set<String> targets = localByStock.get(codes);
+        List<String> stockKeys = new ArrayList<>(codes.size());
+        for (String code : codes) stockKeys.add(STOCK_KEY_PREFIX + code);
+        targets.addAll(union(stockKeys));
+
+        if (!renamed.isEmpty()) {
+            List<String[]> names = new ArrayList<>(renamed.size());
+            for (StockInfoDTO dto : renamed) {
+                if (dto != null && dto.getStockCode() != null) names.add(stockTerms(dto));
+            }
+            for (String key : allKeys()) {
+                if (matchesStock(key, names)) targets.add(key);
+            }
+        }
+
+        evict(targets);
+        deleteQuietly(stockKeys);
+    }
+
+    /**
+     * 뉴스 등록 시 (대량 수집은 chunk 단위)
+     * 질의 토큰이 모두 어느 한 기사의 제목/본문에 들어 있는 키 (NewsSearchIndex 의 AND 조건과 동일)
+     * 후보는 기사 토큰으로 토큰별 키 목록에서 바로 조회 (키마다 대표 토큰 하나로 등록, indexToken)
+     */
+    public void evictNews(Collection<StockNewsDTO> newsList) {
+        List<Set<String>> docs = new ArrayList<>();
+        // 기사 토큰 합집합 → 토큰별 키 목록 조회
+        Set<String> vocabulary = new HashSet<>();
+        for (StockNewsDTO news : newsList) {
+            if (news == null) continue;
+            Set<String> docTokens = newsTerms(news);
+            if (docTokens.isEmpty()) continue;
+            docs.add(docTokens);
+            vocabulary.addAll(docTokens);
+        }
+        if (docs.isEmpty()) return;
+
+        Set<String> candidates = localByToken.get(vocabulary);
+        List<String> tokenKeys = new ArrayList<>(vocabulary.size());
+        for (String token : vocabulary) tokenKeys.add(TOKEN_KEY_PREFIX + token);
+        candidates.addAll(union(tokenKeys));
+
+        Set<String> targets = new HashSet<>();
+        for (String key : candidates) {
+            if (matchesNews(NewsTokenizer.tokenize(key), docs)) targets.add(key);
+        }
+        evict(targets);
+    }
+
+    /** 전체 삭제 (별칭 사전 재적재 등 종목 검색 규칙 자체가 바뀐 경우) */
+    public void clear() {
+        Set<String> keys = allKeys();
+        local.invalidateAll();
+        cacheInvalidationBus.publishAll(CACHE_NAME);
+        evict(keys, false);
+        deleteQuietly(Collections.singletonList(KEY_SET));
+    }
+
+    // 이름 비교용 전체 키 (신규 상장/종목명 변경, clear 에서만 사용)
+    private Set<String> allKeys() {
+        Set<String> keys = new HashSet<>(local.asMap().keySet());
+        if (!redisAvailability.available()) return keys;
+        try {
+            Set<Object> remoteKeys = redisTemplate.opsForSet().members(KEY_SET);
+            if (remoteKeys != null) {
+                for (Object k : remoteKeys) keys.add(String.valueOf(k));
+            }
+        } catch (Exception e) {
+            System.err.println("[SearchResultCache] Redis 키 목록 조회 실패: " + e.getMessage());
+        }
+        return keys;
+    }
+
+    // 종목별/토큰별 키 목록을 한 번에 (SUNION)
+    private Set<String> union(List<String> setKeys) {
+        Set<String> keys = new HashSet<>();
+        if (setKeys.isEmpty() || !redisAvailability.available()) return keys;
+        try {
+            Set<Object> members = redisTemplate.opsForSet().union(setKeys);
+            if (members != null) {
+                for (Object k : members) keys.add(String.valueOf(k));
+            }
+        } catch (Exception e) {
+            System.err.println("[SearchResultCache] Redis 키 목록 조회 실패: " + e.getMessage());
+        }
+        return keys;
+    }
+
+    private void evict(Set<String> keys) {
+        evict(keys, true);
+    }
+
+    private void evict(Set<String> keys, boolean broadcast) {
+        if (keys.isEmpty()) return;
+        local.invalidateAll(keys);
+        if (broadcast) {
+            cacheInvalidationBus.publish(CACHE_NAME, keys);
+        }
+        if (!redisAvailability.available()) return;
+        try {
+            Cache remote = remote();
+            Map<String, List<Object>> byToken = new HashMap<>();
+            for (String key : keys) {
+                remote.evict(key);
+                String token = indexToken(key);
+                if (token != null) byToken.computeIfAbsent(TOKEN_KEY_PREFIX + token, t -> new ArrayList<>()).add(key);
+            }
+            redisTemplate.opsForSet().remove(KEY_SET, keys.toArray());
+            for (Map.Entry<String, List<Object>> e : byToken.entrySet()) {
+                redisTemplate.opsForSet().remove(e.getKey(), e.getValue().toArray());
+            }
+        } catch (Exception e) {
+            System.err.println("[SearchResultCache] Redis 삭제 실패: " + e.getMessage());
+        }
+    }
+
+    private void deleteQuietly(Collection<String> redisKeys) {
+        if (!redisAvailability.available()) return;
+        try {
+            redisTemplate.delete(redisKeys);
+        } catch (Exception e) {
+            System.err.println("[SearchResultCache] Redis 삭제 실패: " + e.getMessage());
+        }
+    }
+
+    private Cache remote() {
+        return cacheManager.getCache(CACHE_NAME);
+    }
+
+    // ================= 로컬 역색인 =================
+    private void putLocal(String key, Map<String, Object> result) {
+        local.put(key, result);
+        String token = indexToken(key);
+        if (token != null) localByToken.add(token, key);
+        for (String code : stockCodesOf(result)) localByStock.add(code, key);
+    }
+
+    // 로컬 캐시에서 빠진 키 (같은 키가 다시 저장된 경우는 유지)
+    private void unindexLocal(String key, Map<String, Object> result, RemovalCause cause) {
+        if (key == null || cause == RemovalCause.REPLACED || local.asMap().containsKey(key)) return;
+        String token = indexToken(key);
+        if (token != null) localByToken.remove(token, key);
+        if (result != null) {
+            for (String code : stockCodesOf(result)) localByStock.remove(code, key);
+        }
+    }
+
+    // ================= 일치 규칙 =================
+    /** 종목코드, 종목명, 종목명 초성, 종목명 자모 (정규화) */
+    static String[] stockTerms(StockInfoDTO dto) {
+        String code = StockSearchIndex.normalize(dto.getStockCode());
+        String name = StockSearchIndex.normalize(dto.getStockName());
+        return new String[] { code, name, HangulJamo.choseong(name), HangulJamo.decompose(name) };
+    }
+
+    /** 질의 키가 종목들 중 하나의 코드/종목명/초성/자모(입력 중인 글자)와 부분 일치하는지 (StockSearchIndex 검색 규칙) */
+    static boolean matchesStock(String key, List<String[]> stocks) {
+        String keyJamo = HangulJamo.decompose(key);
+        for (String[] s : stocks) {
+            if (s[0].contains(key) || s[1].contains(key) || s[2].contains(key) || s[3].contains(keyJamo)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** 기사 제목/본문 토큰 + 1글자 질의 ("삼", SQL 부분 문자열 검색 결과) 도 맞춰 보도록 글자 단위 토큰 */
+    static Set<String> newsTerms(StockNewsDTO news) {
+        Set<String> tokens = new HashSet<>(NewsTokenizer.tokenize(news.getTitle()));
+        tokens.addAll(NewsTokenizer.tokenize(news.getContent()));
+        for (String token : new ArrayList<>(tokens)) {
+            for (int i = 0; i < token.length(); i++) tokens.add(String.valueOf(token.charAt(i)));
+        }
+        return tokens;
+    }
+
+    /** 질의 토큰이 모두 한 기사에 들어 있는지 */
+    static boolean matchesNews(List<String> queryTokens, List<Set<String>> docs) {
+        if (queryTokens.isEmpty()) return false;
+        for (Set<String> docTokens : docs) {
+            if (docTokens.containsAll(queryTokens)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 키를 등록할 대표 토큰 (가장 긴 토큰, 같으면 앞쪽)
+     * 질의 토큰이 모두 있어야 일치하므로 하나만 등록해도 후보에서 빠지지 않음, 토큰이 없으면 null
+     */
+    static String indexToken(String key) {
+        String best = null;
+        for (String token : NewsTokenizer.tokenize(key)) {
+            if (best == null || token.length() > best.length()) best = token;
+        }
+        return best;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<String> stockCodesOf(Map<String, Object> result) {
+        Set<String> codes = new HashSet<>();
+        Object stocks = result.get("stocks");
+        if (!(stocks instanceof List)) return codes;
+        for (Object o : (List<Object>) stocks) {
+            if (o instanceof StockInfoDTO && ((StockInfoDTO) o).getStockCode() != null) {
+                codes.add(StockSearchIndex.normalize(((StockInfoDTO) o).getStockCode()));
+            }
+        }
+        return codes;
+    }
+
+    // ================= 통계 =================
+    public Map<String, Object> stats() {
+        CacheStats s = local.stats();
+        Map<String, Object> localStats = new LinkedHashMap<>();
+        localStats.put("size", local.estimatedSize());
+        localStats.put("hitCount", s.hitCount());
+        localStats.put("missCount", s.missCount());
+        localStats.put("hitRatio", s.hitRate());
+        localStats.put("evictionCount", s.evictionCount());
+
+        double hits = remoteHits.count();
+        double misses = remoteMisses.count();
+        Map<String, Object> remoteStats = new LinkedHashMap<>();
+        remoteStats.put("hitCount", (long) hits);
+        remoteStats.put("missCount", (long) misses);
+        remoteStats.put("hitRatio", hits + misses == 0 ? 0.0 : hits / (hits + misses));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("local", localStats);
+        result.put("remote", remoteStats);
+        return result;
+    }
+}
@@ -0,0 +1,157 @@
+package com.boot.chart;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.boot.cache.CacheInvalidationBus;
+import com.boot.dto.IndexDataDTO;
+import com.boot.index.IndexHistoryStore;
+import com.boot.service.IndexReadService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 차트용 지수 이력 (/api/chart/*-history?from=&to=&maxPoints=)
+ * - 원본은 IndexReadService 의 Redis 이력 (IndexHistoryStore) → 로컬에 원시 배열(IndexSeries)로 한 벌만 보관
+ * - from/to 로 구간을 자르고 maxPoints 보다 많으면 LTTB 로 줄임
+ * - 줄인 결과는 (지수, 실제 구간, 버킷 수) 키로 로컬 캐시 → 같은 화면 크기 요청은 다시 계산하지 않음
+ * - 이력 갱신/삭제(CacheEvictService) 시 해당 지수의 사본/다운샘플 결과도 함께 비움
+ *   다른 서버에서 갱신된 경우는 IndexHistoryStore 의 무효화 메시지 (CacheInvalidationBus) 로 비움
+ * - 메시지를 놓쳐도 조회마다 원본 목록 객체가 사본을 만든 목록과 같은지 확인
+ *   → IndexHistoryStore 로컬 계층이 Redis 에서 다시 읽으면 (cache.near.ttl-seconds) 새 목록이므로 내용을 비교해 달라졌으면 다시 만듦
+ */
+@Service
+public class ChartHistoryService {
+
+    public static final String KOSPI = IndexHistoryStore.KOSPI;
+    public static final String KOSDAQ = IndexHistoryStore.KOSDAQ;
+
+    @Autowired
+    private IndexReadService indexReadService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    // maxPoints 상한 (이보다 큰 값은 이 값으로 → 버킷 수별 캐시 항목 수 제한)
+    @Value("${chart.history.max-points-limit:5000}")
+    private int maxPointsLimit;
+
+    @Value("${chart.history.cache-size:256}")
+    private long cacheSize;
+
+    @Value("${chart.history.cache-ttl-minutes:60}")
+    private long cacheTtlMinutes;
+
+    private Cache<String, IndexSeries> series;
+    private Cache<String, List<IndexDataDTO>> downsampled;
+    // 지수별로 사본(series) 을 만든 원본 목록 (객체 비교용)
+    private final Map<String, List<IndexDataDTO>> sources = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        series = Caffeine.newBuilder()
+                .expireAfterWrite(cacheTtlMinutes, TimeUnit.MINUTES)
+                .build();
+        downsampled = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(cacheTtlMinutes, TimeUnit.MINUTES)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, downsampled, "chartHistoryCache");
+
+        cacheInvalidationBus.register(IndexHistoryStore.CACHE_NAME, market -> {
+            if (CacheInvalidationBus.ALL.equals(market)) {
+                series.invalidateAll();
+                sources.clear();
+                downsampled.invalidateAll();
+            } else {
+                evict(market);
+            }
+        });
+    }
+
+    // ================= 조회 =================
+    /**
+     * @param from      yyyyMMdd (포함, 없으면 처음부터)
+     * @param to        yyyyMMdd (포함, 없으면 끝까지)
+     * @param maxPoints 최대 점 개수 (없으면 구간 전체)
+     */
+    public List<IndexDataDTO> getHistory(String market, String from, String to, Integer maxPoints) {
+        Integer fromDt = parseDate(from, "from");
+        Integer toDt = parseDate(to, "to");
+        if (fromDt != null && toDt != null && fromDt > toDt) {
+            throw new IllegalArgumentException("from 이 to 보다 늦습니다.");
+        }
+        if (maxPoints != null && maxPoints < 3) {
+            throw new IllegalArgumentException("maxPoints 는 3 이상이어야 합니다.");
+        }
+
+        IndexSeries s = getSeries(market);
+        int lo = s.lowerBound(fromDt);
+        int hi = s.upperBound(toDt);
+        if (lo >= hi) return List.of();
+
+        if (maxPoints == null) return s.slice(lo, hi);
+        int points = Math.min(maxPoints, maxPointsLimit);
+        if (hi - lo <= points) return s.slice(lo, hi);
+
+        // 실제 구간의 첫/마지막 일자로 키를 만들어 휴장일로 시작/끝나는 요청도 같은 항목 사용
+        String key = market + ":" + s.dateAt(lo) + ":" + s.dateAt(hi - 1) + ":" + points;
+        return downsampled.get(key, k -> s.downsample(lo, hi, points));
+    }
+
+    /** 원시 배열 사본 (IndicatorService) */
+    public IndexSeries getSeries(String market) {
+        List<IndexDataDTO> history = load(market);
+        IndexSeries cached = series.getIfPresent(market);
+        if (cached != null && sources.get(market) == history) return cached;
+
+        IndexSeries fresh = IndexSeries.of(history);
+        if (cached != null && cached.sameRows(fresh)) {
+            // Redis 에서 다시 읽은 같은 내용 → 기존 사본과 다운샘플 결과 유지
+            fresh = cached;
+        } else {
+            downsampled.asMap().keySet().removeIf(k -> k.startsWith(market + ":"));
+        }
+        series.put(market, fresh);
+        sources.put(market, history);
+        return fresh;
+    }
+
+    /** 이력 갱신/삭제 시 호출 (CacheEvictService, 다른 서버의 무효화 메시지) */
+    public void evict(String market) {
+        series.invalidate(market);
+        sources.remove(market);
+        downsampled.asMap().keySet().removeIf(k -> k.startsWith(market + ":"));
+    }
+
+    // ================= 내부 구현 =================
+    private List<IndexDataDTO> load(String market) {
+        return KOSDAQ.equals(market)
+                ? indexReadService.getKosdaqTimeSeriesData()
+                : indexReadService.getKospiTimeSeriesData();
+    }
+
+    static Integer parseDate(String v, String name) {
+        if (v == null || v.isBlank()) return null;
+        String d = v.trim().replace("-", "");
+        if (!d.matches("\\d{8}")) {
+            throw new IllegalArgumentException(name + " 는 yyyyMMdd 형식이어야 합니다: " + v);
+        }
+        return Integer.parseInt(d);
+    }
+}
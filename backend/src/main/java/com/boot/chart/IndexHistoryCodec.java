@@ -0,0 +1,399 @@
+package com.boot.chart;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import com.boot.dto.IndexDataDTO;
+
+/**
+ * 지수 이력 열(column) 형식 바이너리 코덱 (application/x-index-history, Redis 이력 값)
+ * - 행마다 필드명/idxNm 을 반복하는 JSON 배열 대신 열별 배열로 저장
+ *   기준일자 : epoch day 의 차분 (대부분 1~3 → 1바이트)
+ *   실수 열  : 소수 자릿수(scale) 를 찾아 정수로 바꾼 뒤 차분
+ *   정수 열  : 차분
+ *   → 모든 차분은 zigzag varint, 전체 본문은 deflate 압축
+ * - 열마다 모드 바이트: 0 = 전부 null, 1 = 전부 있음, 2 = 존재 비트맵 뒤따름 (null 은 그대로 복원)
+ * - idxNm 은 모든 행이 같으면 한 번만 저장
+ * - updatedAt / totalCount 는 저장하지 않음 (이력 조회 컬럼이 아님)
+ * - 손실 없이 표현할 수 없는 값 (yyyyMMdd 가 아닌 기준일자, 소수 6자리 초과 등) 은 IllegalArgumentException
+ *   → 호출 측은 JSON 으로 대체
+ *
+ * 형식: "IXH" + 버전(1) + deflate( varint 행수, idxNm, basDt, clpr, vs, fltRt, mkp, hipr, lopr, trqu, trPrc, lstgMrktTotAmt )
+ */
+public final class IndexHistoryCodec {
+
+    public static final String MEDIA_TYPE = "application/x-index-history";
+
+    private static final byte[] MAGIC = { 'I', 'X', 'H', 1 };
+    private static final int MAX_SCALE = 6;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private static final byte ALL_NULL = 0;
+    private static final byte ALL_PRESENT = 1;
+    private static final byte BITMAP = 2;
+
+    // idxNm 모드 (ALL_NULL 과 같은 0 사용)
+    private static final byte NAME_CONSTANT = 1;
+    private static final byte NAME_PER_ROW = 2;
+
+    private IndexHistoryCodec() {
+    }
+
+    /** 이 코덱으로 만든 값인지 (아니면 JSON 등 다른 형식) */
+    public static boolean isColumnar(byte[] data) {
+        if (data == null || data.length < MAGIC.length) return false;
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (data[i] != MAGIC[i]) return false;
+        }
+        return true;
+    }
+
+    // ================= 인코딩 =================
+    public static byte[] encode(List<IndexDataDTO> rows) {
+        Buffer out = new Buffer(rows.size() * 8 + 64);
+        out.varint(rows.size());
+
+        writeName(out, rows);
+        writeDates(out, rows);
+        writeDoubles(out, rows, IndexDataDTO::getClpr);
+        writeDoubles(out, rows, IndexDataDTO::getVs);
+        writeDoubles(out, rows, IndexDataDTO::getFltRt);
+        writeDoubles(out, rows, IndexDataDTO::getMkp);
+        writeDoubles(out, rows, IndexDataDTO::getHipr);
+        writeDoubles(out, rows, IndexDataDTO::getLopr);
+        writeLongs(out, rows, IndexDataDTO::getTrqu);
+        writeLongs(out, rows, IndexDataDTO::getTrPrc);
+        writeLongs(out, rows, IndexDataDTO::getLstgMrktTotAmt);
+
+        return deflate(out.toByteArray());
+    }
+
+    private static void writeName(Buffer out, List<IndexDataDTO> rows) {
+        String first = rows.isEmpty() ? null : rows.get(0).getIdxNm();
+        boolean constant = true;
+        for (IndexDataDTO r : rows) {
+            String n = r.getIdxNm();
+            if (first == null ? n != null : !first.equals(n)) {
+                constant = false;
+                break;
+            }
+        }
+
+        if (constant && first == null) {
+            out.write(ALL_NULL);
+        } else if (constant) {
+            out.write(NAME_CONSTANT);
+            out.string(first);
+        } else {
+            out.write(NAME_PER_ROW);
+            writeBitmap(out, rows, IndexDataDTO::getIdxNm);
+            for (IndexDataDTO r : rows) {
+                if (r.getIdxNm() != null) out.string(r.getIdxNm());
+            }
+        }
+    }
+
+    private static void writeDates(Buffer out, List<IndexDataDTO> rows) {
+        if (!writeMode(out, rows, IndexDataDTO::getBasDt)) return;
+        long prev = 0;
+        for (IndexDataDTO r : rows) {
+            if (r.getBasDt() == null) continue;
+            long day = toEpochDay(r.getBasDt());
+            out.zigzag(day - prev);
+            prev = day;
+        }
+    }
+
+    private static void writeDoubles(Buffer out, List<IndexDataDTO> rows, Function<IndexDataDTO, Double> getter) {
+        if (!writeMode(out, rows, getter)) return;
+
+        int scale = findScale(rows, getter);
+        double factor = Math.pow(10, scale);
+        out.write(scale);
+
+        long prev = 0;
+        for (IndexDataDTO r : rows) {
+            Double v = getter.apply(r);
+            if (v == null) continue;
+            long scaled = (long) Math.rint(v * factor);
+            out.zigzag(scaled - prev);
+            prev = scaled;
+        }
+    }
+
+    private static void writeLongs(Buffer out, List<IndexDataDTO> rows, Function<IndexDataDTO, Long> getter) {
+        if (!writeMode(out, rows, getter)) return;
+        long prev = 0;
+        for (IndexDataDTO r : rows) {
+            Long v = getter.apply(r);
+            if (v == null) continue;
+            out.zigzag(v - prev);
+            prev = v;
+        }
+    }
+
+    /** 열 모드 (+ 비트맵) 기록, 값을 이어 쓸 필요가 있으면 true */
+    private static boolean writeMode(Buffer out, List<IndexDataDTO> rows, Function<IndexDataDTO, ?> getter) {
+        int present = 0;
+        for (IndexDataDTO r : rows) {
+            if (getter.apply(r) != null) present++;
+        }
+        if (present == 0) {
+            out.write(ALL_NULL);
+            return false;
+        }
+        if (present == rows.size()) {
+            out.write(ALL_PRESENT);
+            return true;
+        }
+        out.write(BITMAP);
+        writeBitmap(out, rows, getter);
+        return true;
+    }
+
+    private static void writeBitmap(Buffer out, List<IndexDataDTO> rows, Function<IndexDataDTO, ?> getter) {
+        int bits = 0;
+        int count = 0;
+        for (IndexDataDTO r : rows) {
+            if (getter.apply(r) != null) bits |= 1 << count;
+            if (++count == 8) {
+                out.write(bits);
+                bits = 0;
+                count = 0;
+            }
+        }
+        if (count > 0) out.write(bits);
+    }
+
+    /** 모든 값이 정확히 복원되는 가장 작은 소수 자릿수 */
+    private static int findScale(List<IndexDataDTO> rows, Function<IndexDataDTO, Double> getter) {
+        for (int scale = 0; scale <= MAX_SCALE; scale++) {
+            double factor = Math.pow(10, scale);
+            boolean exact = true;
+            for (IndexDataDTO r : rows) {
+                Double v = getter.apply(r);
+                if (v == null) continue;
+                double scaled = Math.rint(v * factor);
+                if (Double.isNaN(scaled) || Math.abs(scaled) > (1L << 52) || scaled / factor != v) {
+                    exact = false;
+                    break;
+                }
+            }
+            if (exact) return scale;
+        }
+        throw new IllegalArgumentException("소수 " + MAX_SCALE + "자리 이내로 표현할 수 없는 값");
+    }
+
+    private static long toEpochDay(String basDt) {
+        try {
+            if (basDt.length() != 8) throw new DateTimeParseException("length", basDt, 0);
+            return LocalDate.parse(basDt, DATE_FORMATTER).toEpochDay();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("기준일자 형식 오류: " + basDt);
+        }
+    }
+
+    // ================= 디코딩 =================
+    public static List<IndexDataDTO> decode(byte[] data) {
+        if (!isColumnar(data)) throw new IllegalArgumentException("열 형식 지수 이력이 아닙니다.");
+
+        Reader in = new Reader(inflate(data));
+        int n = (int) in.varint();
+        List<IndexDataDTO> rows = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) rows.add(new IndexDataDTO());
+
+        readName(in, rows);
+        readDates(in, rows);
+        readDoubles(in, rows, IndexDataDTO::setClpr);
+        readDoubles(in, rows, IndexDataDTO::setVs);
+        readDoubles(in, rows, IndexDataDTO::setFltRt);
+        readDoubles(in, rows, IndexDataDTO::setMkp);
+        readDoubles(in, rows, IndexDataDTO::setHipr);
+        readDoubles(in, rows, IndexDataDTO::setLopr);
+        readLongs(in, rows, IndexDataDTO::setTrqu);
+        readLongs(in, rows, IndexDataDTO::setTrPrc);
+        readLongs(in, rows, IndexDataDTO::setLstgMrktTotAmt);
+        return rows;
+    }
+
+    private static void readName(Reader in, List<IndexDataDTO> rows) {
+        int mode = in.read();
+        if (mode == ALL_NULL) return;
+        if (mode == NAME_CONSTANT) {
+            String name = in.string();
+            for (IndexDataDTO r : rows) r.setIdxNm(name);
+            return;
+        }
+        boolean[] present = in.bitmap(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            if (present[i]) rows.get(i).setIdxNm(in.string());
+        }
+    }
+
+    private static void readDates(Reader in, List<IndexDataDTO> rows) {
+        boolean[] present = readMode(in, rows.size());
+        if (present == null) return;
+        long day = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            if (!present[i]) continue;
+            day += in.zigzag();
+            rows.get(i).setBasDt(LocalDate.ofEpochDay(day).format(DATE_FORMATTER));
+        }
+    }
+
+    private static void readDoubles(Reader in, List<IndexDataDTO> rows, BiConsumer<IndexDataDTO, Double> setter) {
+        boolean[] present = readMode(in, rows.size());
+        if (present == null) return;
+        double factor = Math.pow(10, in.read());
+        long scaled = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            if (!present[i]) continue;
+            scaled += in.zigzag();
+            setter.accept(rows.get(i), scaled / factor);
+        }
+    }
+
+    private static void readLongs(Reader in, List<IndexDataDTO> rows, BiConsumer<IndexDataDTO, Long> setter) {
+        boolean[] present = readMode(in, rows.size());
+        if (present == null) return;
+        long v = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            if (!present[i]) continue;
+            v += in.zigzag();
+            setter.accept(rows.get(i), v);
+        }
+    }
+
+    /** 행별 존재 여부, 전부 null 이면 null */
+    private static boolean[] readMode(Reader in, int n) {
+        int mode = in.read();
+        if (mode == ALL_NULL) return null;
+        if (mode == BITMAP) return in.bitmap(n);
+        boolean[] all = new boolean[n];
+        Arrays.fill(all, true);
+        return all;
+    }
+
+    // ================= 압축 =================
+    private static byte[] deflate(byte[] body) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            deflater.setInput(body);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2 + 16);
+            out.write(MAGIC, 0, MAGIC.length);
+            byte[] buf = new byte[8192];
+            while (!deflater.finished()) {
+                int len = deflater.deflate(buf);
+                out.write(buf, 0, len);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] data) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data, MAGIC.length, data.length - MAGIC.length);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 4);
+            byte[] buf = new byte[8192];
+            while (!inflater.finished()) {
+                int len = inflater.inflate(buf);
+                if (len == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("지수 이력 데이터가 잘렸습니다.");
+                }
+                out.write(buf, 0, len);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("지수 이력 압축 해제 실패: " + e.getMessage());
+        } finally {
+            inflater.end();
+        }
+    }
+
+    // ================= varint 입출력 =================
+    private static final class Buffer extends ByteArrayOutputStream {
+        Buffer(int size) {
+            super(size);
+        }
+
+        void varint(long v) {
+            while ((v & ~0x7FL) != 0) {
+                write((int) ((v & 0x7F) | 0x80));
+                v >>>= 7;
+            }
+            write((int) v);
+        }
+
+        void zigzag(long v) {
+            varint((v << 1) ^ (v >> 63));
+        }
+
+        void string(String s) {
+            byte[] b = s.getBytes(StandardCharsets.UTF_8);
+            varint(b.length);
+            write(b, 0, b.length);
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] buf;
+        private int pos;
+
+        Reader(byte[] buf) {
+            this.buf = buf;
+        }
+
+        int read() {
+            if (pos >= buf.length) throw new IllegalArgumentException("지수 이력 데이터가 잘렸습니다.");
+            return buf[pos++] & 0xFF;
+        }
+
+        long varint() {
+            long v = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = read();
+                v |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return v;
+            }
+            throw new IllegalArgumentException("varint 형식 오류");
+        }
+
+        long zigzag() {
+            long v = varint();
+            return (v >>> 1) ^ -(v & 1);
+        }
+
+        String string() {
+            int len = (int) varint();
+            if (len < 0 || pos + len > buf.length) throw new IllegalArgumentException("지수 이력 데이터가 잘렸습니다.");
+            String s = new String(buf, pos, len, StandardCharsets.UTF_8);
+            pos += len;
+            return s;
+        }
+
+        boolean[] bitmap(int n) {
+            boolean[] present = new boolean[n];
+            int bits = 0;
+            for (int i = 0; i < n; i++) {
+                if ((i & 7) == 0) bits = read();
+                present[i] = (bits & (1 << (i & 7))) != 0;
+            }
+            return present;
+        }
+    }
+}
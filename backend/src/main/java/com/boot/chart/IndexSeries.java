@@ -0,0 +1,105 @@
+package com.boot.chart;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.boot.dto.IndexDataDTO;
+
+/**
+ * 캐시된 지수 이력 (List&lt;IndexDataDTO&gt;) 의 원시 배열 사본
+ * - dates : 기준일자 yyyyMMdd (int, 구간 이진 탐색용)
+ * - x     : 기준일자의 epoch day (LTTB 의 x 축, 휴장일 간격 반영)
+ * - y     : 종가
+ * - rows  : 같은 위치의 원본 DTO (선택된 점을 그대로 응답)
+ * 종가/기준일자가 없는 행은 제외, 기준일자 오름차순 (selectKospiHistory 정렬 그대로)
+ */
+public final class IndexSeries {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final int[] dates;
+    private final int[] x;
+    private final double[] y;
+    private final IndexDataDTO[] rows;
+
+    private IndexSeries(int[] dates, int[] x, double[] y, IndexDataDTO[] rows) {
+        this.dates = dates;
+        this.x = x;
+        this.y = y;
+        this.rows = rows;
+    }
+
+    public static IndexSeries of(List<IndexDataDTO> history) {
+        int n = history.size();
+        int[] dates = new int[n];
+        int[] x = new int[n];
+        double[] y = new double[n];
+        IndexDataDTO[] rows = new IndexDataDTO[n];
+
+        int size = 0;
+        for (IndexDataDTO dto : history) {
+            String basDt = dto.getBasDt();
+            if (basDt == null || basDt.length() != 8 || dto.getClpr() == null) continue;
+            dates[size] = Integer.parseInt(basDt);
+            x[size] = (int) LocalDate.parse(basDt, DATE_FORMATTER).toEpochDay();
+            y[size] = dto.getClpr();
+            rows[size] = dto;
+            size++;
+        }
+        return new IndexSeries(Arrays.copyOf(dates, size), Arrays.copyOf(x, size),
+                Arrays.copyOf(y, size), Arrays.copyOf(rows, size));
+    }
+
+    public int size() {
+        return rows.length;
+    }
+
+    public int dateAt(int i) {
+        return dates[i];
+    }
+
+    /** 종가 배열 (내부 배열 그대로 → 수정하지 않음, IndicatorState 가 이전 배열과 같은 객체인지로 변경 여부 판단) */
+    double[] closes() {
+        return y;
+    }
+
+    /** 같은 행 (일자/종가/등락 등 DTO 전체) 으로 만들어졌는지 */
+    public boolean sameRows(IndexSeries other) {
+        return Arrays.equals(dates, other.dates) && Arrays.equals(y, other.y) && Arrays.equals(rows, other.rows);
+    }
+
+    /** from 이상인 첫 위치 (from == null 이면 0) */
+    public int lowerBound(Integer from) {
+        if (from == null) return 0;
+        int i = Arrays.binarySearch(dates, from);
+        return i >= 0 ? i : -i - 1;
+    }
+
+    /** to 이하인 마지막 위치 + 1 (to == null 이면 size) */
+    public int upperBound(Integer to) {
+        if (to == null) return rows.length;
+        int i = Arrays.binarySearch(dates, to);
+        return i >= 0 ? i + 1 : -i - 1;
+    }
+
+    /** [from, to) 구간 원본 그대로 */
+    public List<IndexDataDTO> slice(int from, int to) {
+        return new ArrayList<>(Arrays.asList(rows).subList(from, to));
+    }
+
+    /** [from, to) 구간을 LTTB 로 maxPoints 개까지 줄임 */
+    public List<IndexDataDTO> downsample(int from, int to, int maxPoints) {
+        int[] picked = select(from, to, maxPoints);
+        List<IndexDataDTO> result = new ArrayList<>(picked.length);
+        for (int i : picked) result.add(rows[i]);
+        return result;
+    }
+
+    /** downsample 이 고르는 위치 (지표 값을 차트 점과 같은 위치로 맞출 때) */
+    public int[] select(int from, int to, int maxPoints) {
+        return Lttb.select(x, y, from, to, maxPoints);
+    }
+}
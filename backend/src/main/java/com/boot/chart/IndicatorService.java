@@ -0,0 +1,153 @@
+package com.boot.chart;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 차트 기술 지표 (/api/chart/*-indicators?indicators=sma:20,rsi:14&from=&to=&maxPoints=)
+ * - 입력은 ChartHistoryService 의 원시 배열 사본 (IndexSeries 종가 double[]) → DTO 를 거치지 않고 계산
+ * - (지수, 지표 + 파라미터) 마다 계산 상태(IndicatorState) 를 로컬 캐시
+ *   이력이 갱신돼 새 IndexSeries 가 만들어져도 앞부분이 같으면 새 영업일만 이어서 계산
+ * - from/to/maxPoints 는 이력 조회와 같은 규칙 → maxPoints 를 주면 LTTB 로 고른 차트 점과 같은 위치의 값만 응답
+ * - 계산 전 구간 (기간보다 앞쪽) 값은 null
+ */
+@Service
+public class IndicatorService {
+
+    @Autowired
+    private ChartHistoryService chartHistoryService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${chart.history.max-points-limit:5000}")
+    private int maxPointsLimit;
+
+    @Value("${chart.indicator.max-period:500}")
+    private int maxPeriod;
+
+    @Value("${chart.indicator.max-per-request:8}")
+    private int maxPerRequest;
+
+    @Value("${chart.indicator.cache-size:64}")
+    private long cacheSize;
+
+    @Value("${chart.indicator.cache-ttl-minutes:360}")
+    private long cacheTtlMinutes;
+
+    private Cache<String, IndicatorState> states;
+    private Counter computed;
+
+    @PostConstruct
+    public void init() {
+        states = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterAccess(cacheTtlMinutes, TimeUnit.MINUTES)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, states, "chartIndicatorCache");
+        // 실제로 계산한 위치 수 (캐시 적중/증분 계산이면 거의 늘지 않음)
+        computed = meterRegistry.counter("chart.indicator.computed.points");
+    }
+
+    // ================= 조회 =================
+    /**
+     * @param indicators 쉼표로 구분한 지표 목록 (IndicatorSpec 형식)
+     * @return market, dates (yyyyMMdd), indicators (지표 key → 출력 열 이름 → 값 목록)
+     */
+    public Map<String, Object> getIndicators(String market, String indicators, String from, String to,
+                                             Integer maxPoints) {
+        Map<String, IndicatorSpec> specs = parseSpecs(indicators);
+        Integer fromDt = ChartHistoryService.parseDate(from, "from");
+        Integer toDt = ChartHistoryService.parseDate(to, "to");
+        if (fromDt != null && toDt != null && fromDt > toDt) {
+            throw new IllegalArgumentException("from 이 to 보다 늦습니다.");
+        }
+        if (maxPoints != null && maxPoints < 3) {
+            throw new IllegalArgumentException("maxPoints 는 3 이상이어야 합니다.");
+        }
+
+        IndexSeries s = chartHistoryService.getSeries(market);
+        int lo = s.lowerBound(fromDt);
+        int hi = s.upperBound(toDt);
+        int[] picked = lo >= hi
+                ? new int[0]
+                : s.select(lo, hi, maxPoints == null ? hi - lo : Math.min(maxPoints, maxPointsLimit));
+
+        List<String> dates = new ArrayList<>(picked.length);
+        for (int i : picked) dates.add(String.valueOf(s.dateAt(i)));
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (IndicatorSpec spec : specs.values()) {
+            values.put(spec.key(), compute(market, spec, s, picked));
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("market", market);
+        result.put("dates", dates);
+        result.put("indicators", values);
+        return result;
+    }
+
+    // ================= 내부 구현 =================
+    private Map<String, List<Double>> compute(String market, IndicatorSpec spec, IndexSeries s, int[] picked) {
+        IndicatorState state = states.get(market + ":" + spec.key(), k -> spec.newState());
+        String[] names = spec.outputs();
+        Map<String, List<Double>> columns = new LinkedHashMap<>();
+
+        // 같은 상태를 동시에 이어서 계산/읽지 않도록 상태 단위로 잠금 (지표가 다르면 병렬)
+        synchronized (state) {
+            int n = state.sync(s.closes());
+            if (n > 0) computed.increment(n);
+
+            for (int col = 0; col < state.outputs(); col++) {
+                List<Double> list = new ArrayList<>(picked.length);
+                for (int i : picked) list.add(round(state.value(col, i)));
+                columns.put(names[col], list);
+            }
+        }
+        return columns;
+    }
+
+    private Map<String, IndicatorSpec> parseSpecs(String indicators) {
+        if (indicators == null || indicators.isBlank()) {
+            throw new IllegalArgumentException("indicators 는 필수입니다. (예: sma:20,rsi:14,macd:12:26:9,bb:20:2)");
+        }
+        // 같은 지표를 여러 번 적으면 한 번만
+        Map<String, IndicatorSpec> specs = new LinkedHashMap<>();
+        for (String part : indicators.split(",")) {
+            if (part.isBlank()) continue;
+            IndicatorSpec spec = IndicatorSpec.parse(part, maxPeriod);
+            specs.put(spec.key(), spec);
+        }
+        if (specs.isEmpty()) {
+            throw new IllegalArgumentException("indicators 는 필수입니다.");
+        }
+        if (specs.size() > maxPerRequest) {
+            throw new IllegalArgumentException("지표는 한 번에 " + maxPerRequest + "개까지 요청할 수 있습니다.");
+        }
+        return specs;
+    }
+
+    /** 소수 4자리, 계산 전 구간(NaN) 은 null */
+    private static Double round(double v) {
+        if (Double.isNaN(v) || Double.isInfinite(v)) return null;
+        return Math.round(v * 10_000) / 10_000.0;
+    }
+}
@@ -0,0 +1,147 @@
+package com.boot.chart;
+
+import java.util.Locale;
+
+/**
+ * 기술 지표 종류 + 파라미터 (/api/chart/*-indicators?indicators=sma:20,rsi:14 의 한 항목)
+ * - sma:기간, ema:기간, rsi:기간 (Wilder), macd:단기:장기:시그널, bb:기간:표준편차배수
+ * - 파라미터를 생략하면 관례적인 기본값 (sma/ema 20, rsi 14, macd 12:26:9, bb 20:2)
+ * - key() 는 기본값까지 채운 정규화 문자열 → 지표 상태 캐시 키, 응답의 지표 이름
+ */
+public final class IndicatorSpec {
+
+    public enum Type {
+        SMA, EMA, RSI, MACD, BB
+    }
+
+    private final Type type;
+    private final int[] periods;
+    private final double multiplier;
+
+    private IndicatorSpec(Type type, int[] periods, double multiplier) {
+        this.type = type;
+        this.periods = periods;
+        this.multiplier = multiplier;
+    }
+
+    /** "macd:12:26:9" 형식, 잘못된 값은 IllegalArgumentException */
+    public static IndicatorSpec parse(String text, int maxPeriod) {
+        String[] parts = text.trim().toLowerCase(Locale.ROOT).split(":");
+        Type type;
+        try {
+            type = Type.valueOf(parts[0].toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 지표입니다: " + text);
+        }
+
+        switch (type) {
+            case SMA:
+            case EMA:
+                expectArgs(text, parts, 1);
+                return new IndicatorSpec(type, new int[] { period(parts, 1, 20, text, maxPeriod) }, 0);
+            case RSI:
+                expectArgs(text, parts, 1);
+                return new IndicatorSpec(type, new int[] { period(parts, 1, 14, text, maxPeriod) }, 0);
+            case MACD: {
+                expectArgs(text, parts, 3);
+                int fast = period(parts, 1, 12, text, maxPeriod);
+                int slow = period(parts, 2, 26, text, maxPeriod);
+                int signal = period(parts, 3, 9, text, maxPeriod);
+                if (fast >= slow) {
+                    throw new IllegalArgumentException("macd 단기 기간은 장기 기간보다 짧아야 합니다: " + text);
+                }
+                return new IndicatorSpec(type, new int[] { fast, slow, signal }, 0);
+            }
+            default: {
+                expectArgs(text, parts, 2);
+                int period = period(parts, 1, 20, text, maxPeriod);
+                double k = parts.length > 2 ? number(parts[2], text) : 2.0;
+                if (!(k > 0 && k <= 10)) {
+                    throw new IllegalArgumentException("bb 표준편차 배수는 0 초과 10 이하여야 합니다: " + text);
+                }
+                return new IndicatorSpec(type, new int[] { period }, k);
+            }
+        }
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int period(int i) {
+        return periods[i];
+    }
+
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    public String key() {
+        StringBuilder sb = new StringBuilder(type.name().toLowerCase(Locale.ROOT));
+        for (int p : periods) sb.append(':').append(p);
+        if (type == Type.BB) sb.append(':').append(formatMultiplier());
+        return sb.toString();
+    }
+
+    /** 응답의 출력 열 이름 (IndicatorState 열 순서와 같음) */
+    public String[] outputs() {
+        switch (type) {
+            case MACD:
+                return new String[] { "macd", "signal", "histogram" };
+            case BB:
+                return new String[] { "middle", "upper", "lower" };
+            default:
+                return new String[] { type.name().toLowerCase(Locale.ROOT) };
+        }
+    }
+
+    public IndicatorState newState() {
+        switch (type) {
+            case SMA:
+                return new IndicatorState.Sma(periods[0]);
+            case EMA:
+                return new IndicatorState.Ema(periods[0]);
+            case RSI:
+                return new IndicatorState.Rsi(periods[0]);
+            case MACD:
+                return new IndicatorState.Macd(periods[0], periods[1], periods[2]);
+            default:
+                return new IndicatorState.Bollinger(periods[0], multiplier);
+        }
+    }
+
+    // ================= 파싱 =================
+    private static void expectArgs(String text, String[] parts, int max) {
+        if (parts.length - 1 > max) {
+            throw new IllegalArgumentException("지표 파라미터가 너무 많습니다: " + text);
+        }
+    }
+
+    private static int period(String[] parts, int i, int defaultValue, String text, int maxPeriod) {
+        if (parts.length <= i) return defaultValue;
+        int p;
+        try {
+            p = Integer.parseInt(parts[i]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("지표 기간은 정수여야 합니다: " + text);
+        }
+        if (p < 1 || p > maxPeriod) {
+            throw new IllegalArgumentException("지표 기간은 1 ~ " + maxPeriod + " 이어야 합니다: " + text);
+        }
+        return p;
+    }
+
+    private static double number(String v, String text) {
+        try {
+            return Double.parseDouble(v);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("bb 표준편차 배수는 숫자여야 합니다: " + text);
+        }
+    }
+
+    private String formatMultiplier() {
+        return multiplier == Math.rint(multiplier)
+                ? String.valueOf((long) multiplier)
+                : String.valueOf(multiplier);
+    }
+}
@@ -0,0 +1,217 @@
+package com.boot.chart;
+
+import java.util.Arrays;
+
+/**
+ * 종가 배열 (IndexSeries.closes) 위에서 증분 계산하는 기술 지표
+ * - 열(column) 단위 double[] 에 위치별 값 저장, 계산 전 구간(warm-up) 은 NaN
+ *   앞쪽 outputs 개 열이 응답 값, 나머지는 다음 위치 계산용 중간 값 (RSI 평균 상승/하락폭, MACD 단기/장기 EMA)
+ * - i 위치 값은 i - 1 위치의 열 값과 종가만으로 계산 → 어느 위치에서든 이어서 계산 가능
+ * - sync: 이전에 반영한 종가와 앞부분이 같으면 새로 붙은 영업일만 계산,
+ *   중간 값이 바뀌었으면 처음 달라진 위치부터 다시 계산 (과거 이력 보정)
+ * 동시 접근은 호출하는 쪽에서 객체 단위로 동기화 (IndicatorService)
+ */
+public abstract class IndicatorState {
+
+    private final int outputs;
+    protected double[][] cols;
+    private int size;
+    // 마지막으로 반영한 종가 배열 (IndexSeries 내부 배열 참조, 같은 객체면 비교 생략)
+    private double[] source;
+
+    IndicatorState(int outputs, int columns) {
+        this.outputs = outputs;
+        this.cols = new double[columns][0];
+    }
+
+    /** @return 이번에 계산한 위치 수 (0 이면 캐시된 값 그대로) */
+    public final int sync(double[] closes) {
+        if (closes != source) {
+            int common = Math.min(size, closes.length);
+            int m = source == null ? 0 : Arrays.mismatch(source, 0, common, closes, 0, common);
+            size = m < 0 ? common : m;
+            source = closes;
+        }
+
+        int from = size;
+        if (closes.length > cols[0].length) {
+            int capacity = Math.max(closes.length, cols[0].length + (cols[0].length >> 1));
+            for (int c = 0; c < cols.length; c++) cols[c] = Arrays.copyOf(cols[c], capacity);
+        }
+        for (int i = from; i < closes.length; i++) {
+            compute(closes, i);
+        }
+        size = closes.length;
+        return size - from;
+    }
+
+    public final int size() {
+        return size;
+    }
+
+    public final int outputs() {
+        return outputs;
+    }
+
+    public final double value(int col, int i) {
+        return cols[col][i];
+    }
+
+    /** cols[*][i] 계산 (cols[*][0..i-1] 은 계산 완료 상태) */
+    protected abstract void compute(double[] c, int i);
+
+    // ================= 공통 계산 =================
+    /** src[start..] 의 n 기간 단순 이동 평균, n 위치마다 합을 새로 구해 누적 오차 제거 */
+    static void sma(double[] dst, double[] src, int i, int start, int n) {
+        int k = i - start;
+        if (k < n - 1) {
+            dst[i] = Double.NaN;
+        } else if (k == n - 1 || k % n == 0) {
+            double sum = 0;
+            for (int j = i - n + 1; j <= i; j++) sum += src[j];
+            dst[i] = sum / n;
+        } else {
+            dst[i] = dst[i - 1] + (src[i] - src[i - n]) / n;
+        }
+    }
+
+    /** src[start..] 의 n 기간 지수 이동 평균 (첫 값은 n 개 단순 평균) */
+    static void ema(double[] dst, double[] src, int i, int start, int n) {
+        int k = i - start;
+        if (k < n - 1) {
+            dst[i] = Double.NaN;
+        } else if (k == n - 1) {
+            double sum = 0;
+            for (int j = start; j <= i; j++) sum += src[j];
+            dst[i] = sum / n;
+        } else {
+            dst[i] = dst[i - 1] + 2.0 / (n + 1) * (src[i] - dst[i - 1]);
+        }
+    }
+
+    // ================= 지표 =================
+    static final class Sma extends IndicatorState {
+        private final int n;
+
+        Sma(int n) {
+            super(1, 1);
+            this.n = n;
+        }
+
+        @Override
+        protected void compute(double[] c, int i) {
+            sma(cols[0], c, i, 0, n);
+        }
+    }
+
+    static final class Ema extends IndicatorState {
+        private final int n;
+
+        Ema(int n) {
+            super(1, 1);
+            this.n = n;
+        }
+
+        @Override
+        protected void compute(double[] c, int i) {
+            ema(cols[0], c, i, 0, n);
+        }
+    }
+
+    /** Wilder RSI: 열 = rsi, 평균 상승폭, 평균 하락폭 */
+    static final class Rsi extends IndicatorState {
+        private final int n;
+
+        Rsi(int n) {
+            super(1, 3);
+            this.n = n;
+        }
+
+        @Override
+        protected void compute(double[] c, int i) {
+            double[] rsi = cols[0], gain = cols[1], loss = cols[2];
+            if (i < n) {
+                rsi[i] = gain[i] = loss[i] = Double.NaN;
+                return;
+            }
+            if (i == n) {
+                double g = 0, l = 0;
+                for (int j = 1; j <= n; j++) {
+                    double d = c[j] - c[j - 1];
+                    if (d > 0) g += d; else l -= d;
+                }
+                gain[i] = g / n;
+                loss[i] = l / n;
+            } else {
+                double d = c[i] - c[i - 1];
+                gain[i] = (gain[i - 1] * (n - 1) + Math.max(d, 0)) / n;
+                loss[i] = (loss[i - 1] * (n - 1) + Math.max(-d, 0)) / n;
+            }
+            if (loss[i] == 0) {
+                rsi[i] = gain[i] == 0 ? 50 : 100;
+            } else {
+                rsi[i] = 100 - 100 / (1 + gain[i] / loss[i]);
+            }
+        }
+    }
+
+    /** 열 = macd, signal, histogram, 단기 EMA, 장기 EMA */
+    static final class Macd extends IndicatorState {
+        private final int fast;
+        private final int slow;
+        private final int signal;
+
+        Macd(int fast, int slow, int signal) {
+            super(3, 5);
+            this.fast = fast;
+            this.slow = slow;
+            this.signal = signal;
+        }
+
+        @Override
+        protected void compute(double[] c, int i) {
+            double[] macd = cols[0], sig = cols[1], hist = cols[2], fastEma = cols[3], slowEma = cols[4];
+            ema(fastEma, c, i, 0, fast);
+            ema(slowEma, c, i, 0, slow);
+            macd[i] = i < slow - 1 ? Double.NaN : fastEma[i] - slowEma[i];
+            // 시그널은 MACD 값이 나오기 시작한 위치부터의 EMA
+            if (i < slow - 1) {
+                sig[i] = Double.NaN;
+            } else {
+                ema(sig, macd, i, slow - 1, signal);
+            }
+            hist[i] = macd[i] - sig[i];
+        }
+    }
+
+    /** 볼린저 밴드: 열 = 중심선(SMA), 상단, 하단 (모표준편차 × 배수) */
+    static final class Bollinger extends IndicatorState {
+        private final int n;
+        private final double k;
+
+        Bollinger(int n, double k) {
+            super(3, 3);
+            this.n = n;
+            this.k = k;
+        }
+
+        @Override
+        protected void compute(double[] c, int i) {
+            double[] middle = cols[0], upper = cols[1], lower = cols[2];
+            sma(middle, c, i, 0, n);
+            if (i < n - 1) {
+                upper[i] = lower[i] = Double.NaN;
+                return;
+            }
+            double mean = middle[i];
+            double sq = 0;
+            for (int j = i - n + 1; j <= i; j++) {
+                double d = c[j] - mean;
+                sq += d * d;
+            }
+            double band = k * Math.sqrt(sq / n);
+            upper[i] = mean + band;
+            lower[i] = mean - band;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.boot.chart;
+
+/**
+ * Largest-Triangle-Three-Buckets 다운샘플링
+ * - 첫/마지막 점은 항상 유지, 나머지를 (threshold - 2) 개 버킷으로 나눠 버킷마다 한 점 선택
+ * - 선택 기준: 직전에 고른 점 + 다음 버킷 평균점과 만드는 삼각형 넓이가 가장 큰 점
+ *   → 급등/급락 같은 모양이 남아 단순 간격 추출보다 차트가 원본에 가까움
+ * - x, y 는 원시 배열 그대로 사용 (객체 생성 없이 O(n))
+ */
+public final class Lttb {
+
+    private Lttb() {
+    }
+
+    /**
+     * [from, to) 구간을 threshold 개 점으로 줄인 인덱스 (오름차순)
+     * 구간 길이가 threshold 이하이거나 threshold < 3 이면 구간 전체
+     */
+    public static int[] select(int[] x, double[] y, int from, int to, int threshold) {
+        int n = to - from;
+        if (n <= 0) return new int[0];
+        if (threshold >= n || threshold < 3) {
+            int[] all = new int[n];
+            for (int i = 0; i < n; i++) all[i] = from + i;
+            return all;
+        }
+
+        int[] picked = new int[threshold];
+        int count = 0;
+        picked[count++] = from;
+
+        // 첫/마지막 점을 뺀 나머지를 버킷으로 (경계는 정수 나눗셈 → 부동소수 오차로 점이 빠지거나 겹치지 않음)
+        int buckets = threshold - 2;
+        int a = from;
+
+        for (int b = 0; b < buckets; b++) {
+            int bucketStart = bucketBound(from, n, buckets, b);
+            int bucketEnd = bucketBound(from, n, buckets, b + 1);
+
+            // 다음 버킷 평균점 (마지막 버킷이면 마지막 점)
+            int nextStart = bucketEnd;
+            int nextEnd = bucketBound(from, n, buckets, b + 2);
+            if (b + 1 == buckets) {
+                nextStart = to - 1;
+                nextEnd = to;
+            }
+            double avgX = 0;
+            double avgY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                avgX += x[i];
+                avgY += y[i];
+            }
+            int nextCount = nextEnd - nextStart;
+            avgX /= nextCount;
+            avgY /= nextCount;
+
+            double ax = x[a];
+            double ay = y[a];
+            double maxArea = -1;
+            int maxIndex = bucketStart;
+            for (int i = bucketStart; i < bucketEnd; i++) {
+                // 넓이의 2배 (비교만 하므로 /2 생략)
+                double area = Math.abs((ax - avgX) * (y[i] - ay) - (ax - x[i]) * (avgY - ay));
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = i;
+                }
+            }
+
+            picked[count++] = maxIndex;
+            a = maxIndex;
+        }
+
+        picked[count] = to - 1;
+        return picked;
+    }
+
+    // b 번째 버킷 시작 인덱스 = from + 1 + b * (n - 2) / buckets (b == buckets 이면 to - 1)
+    private static int bucketBound(int from, int n, int buckets, int b) {
+        return from + 1 + (int) ((long) b * (n - 2) / buckets);
+    }
+}
@@ -1,5 +1,6 @@
 package com.boot.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
@@ -13,6 +14,10 @@ import java.time.Duration;
 @Configuration
 public class CacheConfig {
 
+    // 통합 검색 결과 캐시(SearchResultCache) 의 Redis 보관 시간
+    @Value("${search.cache.remote.ttl-minutes:10}")
+    private long searchCacheTtlMinutes;
+
     @Bean
     public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
         
@@ -27,6 +32,8 @@ public class CacheConfig {
 
         return RedisCacheManager.builder(connectionFactory)
             .cacheDefaults(config) 
+            // 검색 결과는 시세/뉴스가 계속 바뀌므로 짧게 유지
+            .withCacheConfiguration("searchCache", config.entryTtl(Duration.ofMinutes(searchCacheTtlMinutes)))
             .build();
     }
 }
\ No newline at end of file
@@ -3,11 +3,15 @@ package com.boot.config;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import com.boot.ingest.IngestBusyException;
+
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
@@ -30,4 +34,19 @@ public class GlobalExceptionHandler {
         // 400 Bad Request + { "email": "...", "password": "..." }
         return ResponseEntity.badRequest().body(errors);
     }
+
+    /**
+     * 대량 수집 동시 처리 한도 초과
+     * 429 Too Many Requests + Retry-After(초) → 크롤러는 그만큼 기다렸다 같은 요청을 다시 보냄
+     */
+    @ExceptionHandler(IngestBusyException.class)
+    public ResponseEntity<?> handleIngestBusy(IngestBusyException ex) {
+
+        Map<String, String> body = new HashMap<>();
+        body.put("message", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(body);
+    }
 }
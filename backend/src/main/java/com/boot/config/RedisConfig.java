@@ -1,19 +1,42 @@
 package com.boot.config;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.boot.cache.CacheInvalidationBus;
 
 @Configuration
 public class RedisConfig {
 
+    @Value("${spring.redis.host:localhost}")
+    private String host;
+
+    @Value("${spring.redis.port:6379}")
+    private int port;
+
+    // 명령 시간 초과 (Lettuce 기본 60초 → Redis 장애 시 요청이 그만큼 묶이지 않도록 짧게)
+    @Value("${cache.redis.command-timeout-ms:1000}")
+    private long commandTimeoutMs;
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory("localhost", 6379);
+        LettuceClientConfiguration client = LettuceClientConfiguration.builder()
+                .commandTimeout(Duration.ofMillis(commandTimeoutMs))
+                .build();
+        return new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port), client);
     }
 
     @Bean
@@ -33,4 +56,33 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
+
+    // 값을 byte[] 그대로 저장 (지수 이력 열 형식 등 직접 인코딩하는 값)
+    @Bean
+    public RedisTemplate<String, byte[]> binaryRedisTemplate(
+            RedisConnectionFactory connectionFactory) {
+
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setHashValueSerializer(RedisSerializer.byteArray());
+
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    // 서버 간 로컬 캐시 무효화 구독 (연결이 끊기면 컨테이너가 재구독)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory, CacheInvalidationBus cacheInvalidationBus) {
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheInvalidationBus, new ChannelTopic(cacheInvalidationBus.getChannel()));
+        return container;
+    }
 }
@@ -0,0 +1,29 @@
+package com.boot.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+// 통합 검색의 뉴스 검색 전용 스레드 풀 (종목 검색은 요청 스레드에서 실행)
+// 큐가 가득 차면 즉시 거절 → 호출 측에서 부분 결과로 처리 (요청 스레드가 밀리지 않도록)
+@Configuration
+public class SearchExecutorConfig {
+
+    @Value("${search.executor.pool-size:8}")
+    private int poolSize;
+
+    @Value("${search.executor.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Bean(name = "searchExecutor")
+    public ThreadPoolTaskExecutor searchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("search-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -47,8 +47,12 @@ public class SecurityConfig {
 	
 	        // 4. admin
 	        .antMatchers("/admin/**").hasRole("ADMIN")
+
+	        // 5. actuator (헬스 체크만 공개, 지표는 관리자)
+	        .antMatchers("/actuator/health/**").permitAll()
+	        .antMatchers("/actuator/**").hasRole("ADMIN")
 	
-	        // 5. 모든 나머지 요청 로그인 필요
+	        // 6. 모든 나머지 요청 로그인 필요
 	        .anyRequest().authenticated()
 	        
 	        
@@ -1,9 +1,14 @@
 package com.boot.controller;
 
+import com.boot.chart.ChartHistoryService;
+import com.boot.chart.IndexHistoryCodec;
+import com.boot.chart.IndicatorService;
 import com.boot.dto.IndexDataDTO;
 import com.boot.service.IndexReadService;
 import com.boot.service.IndexService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
@@ -16,23 +21,124 @@ public class IndexController {
 
     @Autowired
     private IndexReadService IndexReadService;
-    
+
     @Autowired
     private IndexService indexService;
 
+    @Autowired
+    private ChartHistoryService chartHistoryService;
+
+    @Autowired
+    private IndicatorService indicatorService;
+
+    // from/to (yyyyMMdd) 로 구간 제한, maxPoints 를 주면 LTTB 로 그 개수 이하로 줄임
+    // 파라미터가 없으면 기존과 같이 전체 이력
+    // Accept: application/x-index-history 이면 열 형식 바이너리 (IndexHistoryCodec), 그 외에는 JSON 배열
     @GetMapping("/kospi-history")
-    public ResponseEntity<List<IndexDataDTO>> getKospiHistory() {
-        return ResponseEntity.ok(IndexReadService.getKospiTimeSeriesData());
+    public ResponseEntity<?> getKospiHistory(
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) Integer maxPoints) {
+        return json(ChartHistoryService.KOSPI, from, to, maxPoints);
+    }
+
+    @GetMapping(value = "/kospi-history", produces = IndexHistoryCodec.MEDIA_TYPE)
+    public ResponseEntity<?> getKospiHistoryColumnar(
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) Integer maxPoints) {
+        return columnar(ChartHistoryService.KOSPI, from, to, maxPoints);
     }
 
     @GetMapping("/kosdaq-history")
-    public ResponseEntity<List<IndexDataDTO>> getKosdaqHistory() {
-        return ResponseEntity.ok(IndexReadService.getKosdaqTimeSeriesData());
+    public ResponseEntity<?> getKosdaqHistory(
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) Integer maxPoints) {
+        return json(ChartHistoryService.KOSDAQ, from, to, maxPoints);
+    }
+
+    @GetMapping(value = "/kosdaq-history", produces = IndexHistoryCodec.MEDIA_TYPE)
+    public ResponseEntity<?> getKosdaqHistoryColumnar(
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) Integer maxPoints) {
+        return columnar(ChartHistoryService.KOSDAQ, from, to, maxPoints);
+    }
+
+    // 기술 지표 (indicators=sma:20,ema:60,rsi:14,macd:12:26:9,bb:20:2)
+    // from/to/maxPoints 는 *-history 와 같음 → 같은 값으로 요청하면 차트 점과 같은 날짜의 지표 값
+    @GetMapping("/kospi-indicators")
+    public ResponseEntity<?> getKospiIndicators(
+            @RequestParam String indicators,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) Integer maxPoints) {
+        try {
+            return ResponseEntity.ok(indicatorService.getIndicators(ChartHistoryService.KOSPI, indicators, from, to, maxPoints));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/kosdaq-indicators")
+    public ResponseEntity<?> getKosdaqIndicators(
+            @RequestParam String indicators,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) Integer maxPoints) {
+        try {
+            return ResponseEntity.ok(indicatorService.getIndicators(ChartHistoryService.KOSDAQ, indicators, from, to, maxPoints));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
-    
 
     @GetMapping("/latest")
     public Map<String, Object> getLatestIndex() {
         return indexService.getLatestIndexData();
     }
+
+    private List<IndexDataDTO> history(String market, String from, String to, Integer maxPoints) {
+        if (from == null && to == null && maxPoints == null) {
+            return ChartHistoryService.KOSDAQ.equals(market)
+                    ? IndexReadService.getKosdaqTimeSeriesData()
+                    : IndexReadService.getKospiTimeSeriesData();
+        }
+        return chartHistoryService.getHistory(market, from, to, maxPoints);
+    }
+
+    // 같은 URL 이 Accept 에 따라 JSON / 열 형식으로 나뉘므로 JSON 응답에도 Vary: Accept (공유 캐시가 섞어 주지 않도록)
+    private ResponseEntity<?> json(String market, String from, String to, Integer maxPoints) {
+        try {
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                    .body(history(market, from, to, maxPoints));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                    .body(e.getMessage());
+        }
+    }
+
+    private ResponseEntity<?> columnar(String market, String from, String to, Integer maxPoints) {
+        List<IndexDataDTO> rows;
+        try {
+            rows = history(market, from, to, maxPoints);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().contentType(MediaType.TEXT_PLAIN).body(e.getMessage());
+        }
+
+        try {
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                    .body(IndexHistoryCodec.encode(rows));
+        } catch (IllegalArgumentException e) {
+            // 열 형식으로 손실 없이 담을 수 없는 값 → 같은 데이터를 JSON 으로
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(rows);
+        }
+    }
 }
@@ -0,0 +1,56 @@
+package com.boot.controller;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.boot.cache.SearchResultCache;
+import com.boot.search.StockSearchIndex;
+import com.boot.search.StockTagger;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/admin/search")
+@RequiredArgsConstructor
+public class SearchAdminController {
+
+    private final StockSearchIndex stockSearchIndex;
+    private final SearchResultCache searchResultCache;
+    private final StockTagger stockTagger;
+
+    // ✔ 종목 별칭 사전(STOCK_ALIAS) 재적재 - 서버 재시작 없이 검색에 반영
+    @PostMapping("/aliases/reload")
+    public ResponseEntity<?> reloadAliases() {
+        try {
+            int count = stockSearchIndex.reloadAliases();
+            // 별칭이 바뀌면 기존 검색 결과가 달라지므로 캐시 전체 삭제
+            searchResultCache.clear();
+            // 뉴스 종목 태깅에도 별칭이 쓰이므로 백그라운드에서 재구성
+            stockTagger.markDirty();
+            Map<String, Object> body = new HashMap<>();
+            body.put("aliases", count);
+            return ResponseEntity.ok(body);
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body("Alias Reload Failed: " + e.getMessage());
+        }
+    }
+
+    // ✔ 통합 검색 캐시 적중률 / 축출 건수
+    @GetMapping("/cache/stats")
+    public ResponseEntity<?> cacheStats() {
+        return ResponseEntity.ok(searchResultCache.stats());
+    }
+
+    // ✔ 통합 검색 캐시 전체 삭제
+    @PostMapping("/cache/clear")
+    public ResponseEntity<?> clearCache() {
+        searchResultCache.clear();
+        return ResponseEntity.ok("Search Cache Cleared Successfully.");
+    }
+}
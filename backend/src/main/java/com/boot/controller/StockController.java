@@ -9,9 +9,12 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import com.boot.StockRealtimeHandler;
+import com.boot.dto.IngestResultDTO;
 import com.boot.dto.StockDetailResponseDTO;
 import com.boot.dto.StockInfoDTO;
 import com.boot.dto.StockNewsDTO;
+import com.boot.dto.StockNewsPageDTO;
+import com.boot.ingest.IngestReader;
 import com.boot.service.StockInfoService;
 import com.boot.service.StockNewsService;
 import com.boot.service.StockService;
@@ -22,8 +25,14 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import lombok.RequiredArgsConstructor;
 
+import java.io.IOException;
+
+import javax.servlet.http.HttpServletRequest;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.web.bind.annotation.*;
@@ -41,6 +50,9 @@ public class StockController {
     private final StockInfoService stockInfoService;
     private final StockNewsService stockNewsService;
     private final StockService stockService;
+    private final ObjectMapper objectMapper;
+
+    private static final int DETAIL_NEWS_PAGE_SIZE = 20;
 
     // 자동완성 + 검색
     @GetMapping("/search")
@@ -57,7 +69,10 @@ public class StockController {
         StockDetailResponseDTO dto = new StockDetailResponseDTO();
 
         dto.setStockInfo(stockInfoService.getStockDetail(stockCode));
-        dto.setNewsList(stockNewsService.getNewsByStock(stockCode));
+        // 뉴스는 첫 페이지만 (이후는 /api/news/{stockCode}/page 로 이어서 조회)
+        StockNewsPageDTO newsPage = stockNewsService.getNewsPageByStock(stockCode, null, DETAIL_NEWS_PAGE_SIZE);
+        dto.setNewsList(newsPage.getNewsList());
+        dto.setNewsNextCursor(newsPage.getNextCursor());
         dto.setSentiment(stockNewsService.getSentimentSummary(stockCode));
 
         return dto;
@@ -79,6 +94,20 @@ public class StockController {
     	stockService.insertStockNews(dto);
         return "OK";
     }
+
+    // 대량 수집: JSON 배열 또는 NDJSON (Content-Type: application/x-ndjson)
+    //     동시 처리 한도를 넘으면 429 + Retry-After (GlobalExceptionHandler)
+    @PostMapping("/bulk")
+    public IngestResultDTO insertStockInfoBulk(HttpServletRequest request) throws IOException {
+        return stockService.insertStockInfoBulk(IngestReader.read(objectMapper, request.getInputStream(),
+                IngestReader.isNdjson(request.getContentType()), StockInfoDTO.class));
+    }
+
+    @PostMapping("/news/bulk")
+    public IngestResultDTO insertStockNewsBulk(HttpServletRequest request) throws IOException {
+        return stockService.insertStockNewsBulk(IngestReader.read(objectMapper, request.getInputStream(),
+                IngestReader.isNdjson(request.getContentType()), StockNewsDTO.class));
+    }
     // 시가총액 순위 조회 엔드포인트 추가
     @GetMapping("/marketcap")
     public ResponseEntity<Map<String, Object>> getMarketCapRanking(
@@ -4,9 +4,11 @@ package com.boot.controller;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import com.boot.dto.StockNewsDTO;
+import com.boot.dto.StockNewsPageDTO;
 import com.boot.dto.SentimentSummaryDTO;
 import com.boot.service.StockNewsService;
 
@@ -26,6 +28,29 @@ public class StockNewsController {
         return stockNewsService.getNewsByStock(stockCode);
     }
 
+    // 종목별 뉴스 목록 (키셋 페이지, 본문 제외)
+    //     예: /api/news/005930/page?size=20&cursor=20250101093000_12345
+    @GetMapping("/{stockCode}/page")
+    public ResponseEntity<?> getNewsPage(
+            @PathVariable String stockCode,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            StockNewsPageDTO page = stockNewsService.getNewsPageByStock(stockCode, cursor, size);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // 뉴스 본문 (목록에서 선택한 한 건)
+    @GetMapping("/article/{newsId}")
+    public ResponseEntity<StockNewsDTO> getNewsArticle(@PathVariable long newsId) {
+        StockNewsDTO news = stockNewsService.getNewsArticle(newsId);
+        if (news == null) return ResponseEntity.notFound().build();
+        return ResponseEntity.ok(news);
+    }
+
     // 종목별 감성 요약 (기본)
     @GetMapping("/{stockCode}/sentiment")
     public SentimentSummaryDTO getSentimentSummary(@PathVariable String stockCode) {
@@ -87,6 +112,18 @@ public class StockNewsController {
         return stockNewsService.getTopKeywordsAll(days);
     }
 
+    // 실시간 트렌드 키워드 (1h / 24h / 7d, 메모리 요약 기반)
+    @GetMapping("/keywords/trending")
+    public ResponseEntity<?> getTrendingKeywords(
+            @RequestParam(defaultValue = "1h") String window,
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            return ResponseEntity.ok(stockNewsService.getTrendingKeywords(window, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     // 전체 감성 통계
     @GetMapping("/sentiment/overall")
     public Map<String, Object> getOverallSentimentSummary() {
@@ -106,15 +143,26 @@ public class StockNewsController {
     }
 
     // ✅ 키워드별 뉴스 조회
+    //     예: /api/news/by-keyword?keyword=반도체&size=20&cursor=... (응답의 nextCursor 로 다음 페이지)
     @GetMapping("/by-keyword")
-    public List<StockNewsDTO> getNewsByKeyword(@RequestParam String keyword) {
-        return stockNewsService.getNewsByKeyword(keyword);
+    public ResponseEntity<?> getNewsByKeyword(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(stockNewsService.getNewsByKeyword(keyword, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     // ✅ 키워드별 종목 조회
     @GetMapping("/stocks-by-keyword")
-    public List<Map<String, Object>> getStocksByKeyword(@RequestParam String keyword) {
-        return stockNewsService.getStocksByKeyword(keyword);
+    public List<Map<String, Object>> getStocksByKeyword(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        return stockNewsService.getStocksByKeyword(keyword, page, size);
     }
 
     // ================================
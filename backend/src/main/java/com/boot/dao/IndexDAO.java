@@ -2,6 +2,7 @@ package com.boot.dao;
 
 import com.boot.dto.IndexDataDTO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 import java.util.List;
 
 @Mapper
@@ -28,6 +29,14 @@ public interface IndexDAO {
 	 // KOSDAQ 테이블의 가장 최근 날짜를 'yyyyMMdd' 문자열로 조회
 	 String selectLatestKosdaqBasDt(String idxNm);
 	 
+	 // 연도별 (YR, MIN_DT, MAX_DT) 저장 범위 - 동기화 누락 구간 확인용
+	 List<java.util.Map<String, Object>> selectIndexYearRanges(String idxNm);
+	 List<java.util.Map<String, Object>> selectKosdaqIndexYearRanges(String idxNm);
+
+	 // [begin, end] 구간 이력 (yyyyMMdd) - 이력 캐시 연도 조각 갱신용
+	 List<IndexDataDTO> selectKospiHistoryRange(@Param("begin") String begin, @Param("end") String end);
+	 List<IndexDataDTO> selectKosdaqHistoryRange(@Param("begin") String begin, @Param("end") String end);
+
 	 IndexDataDTO selectLatestKospi();
 	 IndexDataDTO selectLatestKosdaq();
 
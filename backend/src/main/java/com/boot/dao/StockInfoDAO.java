@@ -4,7 +4,9 @@ import java.util.List;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
+import com.boot.dto.StockAliasDTO;
 import com.boot.dto.StockInfoDTO;
 import com.boot.dto.StockNewsDTO;
 
@@ -28,4 +30,17 @@ public interface StockInfoDAO {
     List<StockInfoDTO> selectTopFallingStocks();
     
     List<StockNewsDTO> searchNews(String keyword);
+
+    // 검색 인덱스 적재용 전체 종목
+    List<StockInfoDTO> selectAllStocksForIndex();
+
+    // 검색 인덱스 적재용 종목 별칭 사전 (STOCK_ALIAS)
+    List<StockAliasDTO> selectAllStockAliases();
+
+    // 뉴스 검색 인덱스 적재용 (한 건씩 스트리밍)
+    void selectAllNewsForIndex(ResultHandler<StockNewsDTO> handler);
+
+    // 뉴스 검색 인덱스 주기 반영용: afterId 이후 신규 + UPDATED_AT 이 since - overlapMinutes 이후인 뉴스
+    List<StockNewsDTO> selectNewsForIndexChanged(@Param("afterId") long afterId, @Param("since") String since,
+                                                 @Param("overlapMinutes") int overlapMinutes);
 }
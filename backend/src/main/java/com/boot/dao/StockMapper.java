@@ -1,6 +1,9 @@
 package com.boot.dao;
 
+import java.util.List;
+
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import com.boot.dto.StockInfoDTO;
 import com.boot.dto.StockNewsDTO;
@@ -9,4 +12,8 @@ import com.boot.dto.StockNewsDTO;
 public interface StockMapper {
     void insertStockInfo(StockInfoDTO dto);
     void insertStockNews(StockNewsDTO dto);
+
+    // 대량 수집 (BatchWriter)
+    List<Long> selectNewsIds(@Param("count") int count);
+    void insertStockNewsWithId(StockNewsDTO dto);
 }
@@ -6,14 +6,29 @@ import java.util.Map;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
+import com.boot.dto.SentimentCubeDTO;
 import com.boot.dto.StockNewsDTO;
+import com.boot.dto.StockNewsSummaryDTO;
 
 @Mapper
 public interface StockNewsDAO {
 
     List<StockNewsDTO> getNewsByStock(String stockCode);
 
+    // 종목별 뉴스 목록 한 페이지 (키셋 커서, CONTENT 제외 요약)
+    List<StockNewsSummaryDTO> getNewsSummaryPageByStock(@Param("stockCode") String stockCode,
+                                                        @Param("cursorDate") String cursorDate,
+                                                        @Param("cursorId") Long cursorId,
+                                                        @Param("limit") int limit);
+
+    // 유사 중복 탐지 창 복원 (최근 hours 시간 원본 기사의 NEWS_ID, STOCK_CODE, MINHASH, CREATED_AT)
+    List<StockNewsDTO> selectRecentFingerprints(@Param("hours") int hours);
+
+    // 뉴스 한 건 (본문 포함)
+    StockNewsDTO getNewsById(@Param("newsId") long newsId);
+
     Map<String, Object> getSentimentSummary(String stockCode);
 
     // 종목별 감성 통계 (상세)
@@ -31,11 +46,29 @@ public interface StockNewsDAO {
     // 종목별 날짜별 감성 통계 (트렌드)
     List<Map<String, Object>> getSentimentTrendByStock(@Param("stockCode") String stockCode, @Param("days") int days);
 
-    // 키워드 TOP 10 (특정 종목) - KEYWORDS만 반환
-    List<Map<String, Object>> getTopKeywordsByStock(String stockCode);
+    // 키워드 원본 집계용 KEYWORDS 스트리밍 (stockCode 가 null 이면 전체, days <= 0 이면 전체 기간)
+    void selectKeywordsForAggregate(@Param("stockCode") String stockCode, @Param("days") int days,
+                                    ResultHandler<StockNewsDTO> handler);
+
+    // 키워드 TOP N (특정 종목) - 집계 테이블 (KEYWORD, CNT)
+    List<Map<String, Object>> getTopKeywordsByStockRollup(@Param("stockCode") String stockCode, @Param("limit") int limit);
+
+    // 전체 키워드 TOP N (최근 days 일) - 집계 테이블 (KEYWORD, CNT)
+    List<Map<String, Object>> getTopKeywordsAllRollup(@Param("days") int days, @Param("limit") int limit);
+
+    // 트렌드 키워드 초기 적재용 최근 days 일 뉴스 (NEWS_ID, NEWS_DATE, KEYWORDS 만, 한 건씩 스트리밍)
+    void selectNewsKeywordsForTrend(@Param("days") int days, ResultHandler<StockNewsDTO> handler);
+
+    // 트렌드 키워드 주기 반영용: afterId 이후 신규 뉴스 + 최근 minutes 분 안에 KEYWORDS 가 갱신된 뉴스 (최근 days 일 기사만)
+    List<StockNewsDTO> selectNewsKeywordsChanged(@Param("afterId") long afterId, @Param("minutes") int minutes,
+                                                 @Param("days") int days);
+
+    // 감성 큐브 전체 적재 (NEWS_SENTIMENT_DAILY, 한 건씩 스트리밍)
+    void selectSentimentCube(ResultHandler<SentimentCubeDTO> handler);
 
-    // 전체 키워드 TOP 20 (트렌드) - KEYWORDS만 반환
-    List<Map<String, Object>> getTopKeywordsAll(@Param("days") int days);
+    // 감성 큐브 변경분 (UPDATED_AT 이 since - overlapMinutes 이후인 칸, since 가 null 이면 전체)
+    List<SentimentCubeDTO> selectSentimentCubeChanged(@Param("since") String since,
+                                                      @Param("overlapMinutes") int overlapMinutes);
 
     // 전체 감성 통계
     Map<String, Object> getOverallSentimentSummary();
@@ -47,10 +80,15 @@ public interface StockNewsDAO {
     List<StockNewsDTO> getNewsByIndustry(@Param("industry") String industry);
 
     // ✅ 키워드별 뉴스 조회
-    List<StockNewsDTO> getNewsByKeyword(@Param("keyword") String keyword);
+    List<StockNewsSummaryDTO> getNewsPageByKeyword(@Param("keyword") String keyword,
+                                                   @Param("cursorDate") String cursorDate,
+                                                   @Param("cursorId") Long cursorId,
+                                                   @Param("limit") int limit);
 
     // ✅ 키워드별 종목 조회
-    List<Map<String, Object>> getStocksByKeyword(@Param("keyword") String keyword);
+    List<Map<String, Object>> getStocksByKeyword(@Param("keyword") String keyword,
+                                                 @Param("start") int start,
+                                                 @Param("end") int end);
 
     List<Map<String, Object>> getTop10PopularStocks();
 
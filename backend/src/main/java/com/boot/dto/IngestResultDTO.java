@@ -0,0 +1,39 @@
+package com.boot.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/*
+ * 대량 수집(/api/stocks/bulk, /api/stocks/news/bulk) 결과
+ * rows 는 요청 순서(index, 0부터)대로 한 행씩의 처리 결과
+ * */
+@Data
+@NoArgsConstructor
+public class IngestResultDTO {
+
+    public static final String OK = "OK";
+    public static final String DUPLICATE = "DUPLICATE";   // 저장됨, 유사 중복 뉴스로 원본에 연결
+    public static final String ERROR = "ERROR";
+
+    private int total;        // 받은 행 수
+    private int succeeded;    // 저장된 행 수 (DUPLICATE 포함)
+    private int duplicates;   // 유사 중복으로 묶인 뉴스 수
+    private int failed;       // 실패한 행 수
+    private long elapsedMs;   // 처리 시간
+    private List<Row> rows = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Row {
+        private int index;              // 요청 안에서의 순번 (0부터)
+        private String status;          // OK / DUPLICATE / ERROR
+        private String key;             // 종목코드 또는 NEWS_ID
+        private Long canonicalNewsId;   // DUPLICATE 일 때 원본 뉴스 ID
+        private String message;         // ERROR 사유
+    }
+}
@@ -0,0 +1,26 @@
+package com.boot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// NEWS_SENTIMENT_DAILY 한 행 (종목 × 일자 감성 집계)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SentimentCubeDTO {
+
+    private String stockCode;     // 종목코드 (종목 없는 뉴스는 '-')
+    private String stockName;     // STOCK_INFO 조인
+    private String newsDay;       // YYYY-MM-DD
+
+    private long totalCnt;        // 감성 분석된 뉴스 수
+    private long posCnt;          // 긍정
+    private long negCnt;          // 부정
+    private long neuCnt;          // 보통
+
+    private long scoreSum;        // 점수 합
+    private long scoreCnt;        // 점수가 있는 뉴스 수
+
+    private String updatedAt;     // YYYY-MM-DD HH24:MI:SS (변경분 조회 기준)
+}
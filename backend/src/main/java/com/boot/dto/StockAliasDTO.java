@@ -0,0 +1,14 @@
+package com.boot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StockAliasDTO {
+
+    private String alias;         // 삼전
+    private String stockCode;     // 005930
+}
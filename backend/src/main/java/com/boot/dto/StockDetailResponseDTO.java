@@ -15,6 +15,7 @@ import java.util.List;
 public class StockDetailResponseDTO {
 
     private StockInfoDTO stockInfo; // 종목 기본 정보 
-    private List<StockNewsDTO> newsList; // 해당 종록 뉴스 목록 
+    private List<StockNewsSummaryDTO> newsList; // 해당 종록 뉴스 목록 (첫 페이지, 본문 제외)
+    private String newsNextCursor; // 다음 뉴스 페이지 커서 (/api/news/{stockCode}/page?cursor=, 없으면 null)
     private SentimentSummaryDTO sentiment; // 뉴스 감성 분석 요약
 }
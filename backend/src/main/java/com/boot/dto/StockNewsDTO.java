@@ -1,5 +1,8 @@
 package com.boot.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -23,4 +26,10 @@ public class StockNewsDTO {
     private Integer score;        // 감성 점수
     private String keywords;      // 추출 키워드
     private String updatedAt;     // 감성 분석 업데이트 시간
+
+    // 유사 중복 묶음 (서버에서 계산, 요청 값은 받지 않음)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long canonicalNewsId; // 유사 중복이면 원본 뉴스 ID (원본은 null)
+    @JsonIgnore
+    private byte[] minhash;       // 제목+본문 MinHash 서명 (64바이트, 응답에 노출하지 않음)
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.boot.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/*
+ * 종목별 뉴스 목록 한 페이지 (키셋 페이지네이션)
+ * 다음 페이지는 nextCursor 를 cursor 파라미터로 넘겨 조회 (마지막 페이지면 null)
+ * */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockNewsPageDTO {
+
+    private List<StockNewsSummaryDTO> newsList; // 뉴스 요약 목록 (최신순)
+    private String nextCursor;                  // 다음 페이지 커서
+    private boolean hasMore;                    // 다음 페이지 존재 여부
+}
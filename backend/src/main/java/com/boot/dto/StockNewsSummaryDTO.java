@@ -0,0 +1,27 @@
+package com.boot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/*
+ * 뉴스 목록용 요약 (CONTENT CLOB 대신 앞부분 summary 만)
+ * 본문은 /api/news/article/{newsId} 로 따로 조회
+ * */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockNewsSummaryDTO {
+
+    private Long newsId;          // 뉴스 ID
+    private String stockCode;     // 종목 코드
+    private String title;         // 뉴스 제목
+    private String summary;       // 본문 앞부분 (최대 200자)
+    private String url;           // 뉴스 URL
+    private String newsDate;      // 뉴스 날짜
+
+    // 감성 분석
+    private String sentiment;     // 긍정 / 보통 / 부정
+    private Integer score;        // 감성 점수
+    private String keywords;      // 추출 키워드
+}
@@ -0,0 +1,23 @@
+package com.boot.index;
+
+/**
+ * 지수 API 가 HTTP 200 으로 내려준 오류 응답 (returnReasonCode / resultCode)
+ * 22 = 서비스 요청 제한 횟수 초과 → 수집 스레드 전체 일시 중지 후 재시도
+ */
+public class IndexApiException extends RuntimeException {
+
+    private final String code;
+
+    public IndexApiException(String code) {
+        super("지수 API 오류 코드 " + code);
+        this.code = code;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public boolean isRateLimited() {
+        return "22".equals(code);
+    }
+}
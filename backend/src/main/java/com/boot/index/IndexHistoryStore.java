@@ -0,0 +1,472 @@
+package com.boot.index;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.stereotype.Component;
+
+import com.boot.cache.CacheInvalidationBus;
+import com.boot.cache.NearCache;
+import com.boot.cache.RedisAvailability;
+import com.boot.chart.IndexHistoryCodec;
+import com.boot.dao.IndexDAO;
+import com.boot.dto.IndexDataDTO;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 지수 일별 이력 Redis 저장소 (차트 /api/chart/*-history 원본)
+ * - 지수마다 해시 하나 (indexHistory:kospi), 필드 = 연도 (yyyy), 값 = 그 해 이력 (기준일자 오름차순)
+ * - 동기화가 창(연 단위)을 저장할 때마다 그 연도 필드만 DB 에서 다시 읽어 덮어씀 (refreshYear)
+ *   → 키 전체를 지우지 않으므로 일별 수집 뒤에도 조회가 DB 전체 재조회(cold miss)를 만나지 않음
+ * - 해시가 없거나 적재 완료 표시(complete)가 없으면 전체 이력을 한 번 읽어 연도별로 채움 (rebuild)
+ *   이때 이미 있는 연도 필드는 덮어쓰지 않음 (HSETNX) → 동시에 갱신된 최신 연도를 오래된 값으로 되돌리지 않음
+ * - 연도 값 형식: index.history.cache-format=columnar (IndexHistoryCodec, 기본) / json (기존 JSON 직렬화)
+ *   읽을 때는 앞 바이트로 형식을 구분 → 형식을 바꿔도 기존 값을 그대로 읽음, 열 형식으로 못 담는 값은 JSON 으로 저장
+ *
+ * 로컬 계층 (NearCache, 이름 indexHistory)
+ * - 해석까지 끝난 전체 이력을 서버마다 보관 → 차트 조회마다 HGETALL + 디코딩을 하지 않음 (cache.near.ttl-seconds 뒤 Redis 에서 다시 읽음)
+ * - 연도 갱신/삭제/재적재 시 이 서버는 바로, 다른 서버는 pub/sub 무효화로 비움
+ * - Redis 장애 모드 (RedisAvailability): 로컬 값을 계속 사용, 로컬에도 없으면 DB 에서 한 번 읽어 (지수별 single-flight) 로컬에만 보관
+ *
+ * 재적재 몰림 방지
+ * - 서버 안: 지수별로 적재는 한 스레드만, 나머지는 그 결과를 기다림 (single-flight)
+ * - 서버 간: indexHistory:lock:{지수} 잠금 (SET NX PX) 을 잡은 노드만 적재, 잡은 뒤 complete 를 다시 확인 (방금 다른 노드가 채웠으면 그 값 사용)
+ *   → 못 잡은 노드는 complete 표시가 생길 때까지 (HEXISTS) lock-wait-ms 동안 기다렸다 Redis 값을 읽음 (시간 초과 시 DB 직접 조회, 저장 안 함)
+ * - 연도 갱신 (refreshYear) 도 같은 잠금 안에서 수행 → 만료 전 재적재 (전 연도 덮어쓰기) 가 그 사이 갱신된 연도를 이전 DB 값으로 되돌리지 않음
+ * - 해시 TTL 은 ttl-hours (동기화가 놓친 변경의 안전망), complete 값에 만료 시각과 적재 소요 시간을 기록
+ *   → 조회 때 XFetch 확률식 (now - 소요시간 × beta × ln(rand) ≥ 만료 시각) 이 참이면 만료 전에 백그라운드 재적재
+ *     (자주 읽히는 지수일수록 만료 직전에 한 번 다시 채워져 만료 순간의 동시 미스가 없음)
+ */
+@Component
+public class IndexHistoryStore {
+
+    public static final String KOSPI = "kospi";
+    public static final String KOSDAQ = "kosdaq";
+
+    public static final String CACHE_NAME = "indexHistory";
+
+    private static final String KEY_PREFIX = "indexHistory:";
+    private static final String LOCK_PREFIX = "indexHistory:lock:";
+    private static final String COMPLETE = "complete";
+
+    // 내가 잡은 잠금일 때만 삭제
+    private static final RedisScript<Long> UNLOCK = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    @Autowired
+    private RedisTemplate<String, byte[]> binaryRedisTemplate;
+
+    @Autowired
+    private IndexDAO indexDAO;
+
+    @Autowired
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Autowired
+    private RedisAvailability redisAvailability;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${cache.near.ttl-seconds:30}")
+    private long nearTtlSeconds;
+
+    @Value("${cache.near.degraded-max-age-minutes:30}")
+    private long nearDegradedMaxAgeMinutes;
+
+    @Value("${index.history.cache-format:columnar}")
+    private String cacheFormat;
+
+    @Value("${index.history.ttl-hours:24}")
+    private long ttlHours;
+
+    // XFetch beta (클수록 더 일찍 재적재, 0 이면 미리 재적재하지 않음)
+    @Value("${index.history.refresh-beta:1.0}")
+    private double refreshBeta;
+
+    @Value("${index.history.lock-ms:30000}")
+    private long lockMs;
+
+    @Value("${index.history.lock-wait-ms:5000}")
+    private long lockWaitMs;
+
+    private final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+    private boolean columnar;
+
+    // 진행 중인 지수별 적재 (single-flight)
+    private final Map<String, CompletableFuture<List<IndexDataDTO>>> inflight = new ConcurrentHashMap<>();
+    private ExecutorService refresher;
+    private NearCache<List<IndexDataDTO>> near;
+
+    @PostConstruct
+    public void init() {
+        columnar = !"json".equalsIgnoreCase(cacheFormat);
+        // 지수 두 개 (kospi, kosdaq)
+        near = new NearCache<>(CACHE_NAME, 2, Duration.ofSeconds(nearTtlSeconds),
+                Duration.ofMinutes(nearDegradedMaxAgeMinutes), cacheInvalidationBus, redisAvailability, meterRegistry);
+        refresher = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "index-history-refresh");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    // ================= 조회 =================
+    /** 전체 이력 (기준일자 오름차순), 호출한 쪽에서 수정하지 않음 (서버 안 공유 객체) */
+    public List<IndexDataDTO> load(String market) {
+        return near.get(market, () -> loadRemote(market));
+    }
+
+    private List<IndexDataDTO> loadRemote(String market) {
+        if (!redisAvailability.available()) {
+            return loadOnce(market, () -> selectAll(market));
+        }
+
+        Map<String, byte[]> chunks;
+        try {
+            HashOperations<String, String, byte[]> hash = binaryRedisTemplate.opsForHash();
+            chunks = hash.entries(key(market));
+            redisAvailability.success();
+        } catch (Exception e) {
+            redisAvailability.failure(e);
+            System.err.println("[IndexHistoryStore] Redis 조회 실패 - DB 조회: " + e.getMessage());
+            return loadOnce(market, () -> selectAll(market));
+        }
+
+        if (chunks == null || !chunks.containsKey(COMPLETE)) {
+            System.out.println("[IndexHistoryStore] " + market + " 이력 캐시 없음 → DB 전체 조회 후 연도별 적재");
+            return loadOnce(market, () -> rebuildLocked(market));
+        }
+
+        List<IndexDataDTO> history;
+        try {
+            history = decodeAll(chunks);
+        } catch (RuntimeException e) {
+            // 읽을 수 없는 값 (손상/알 수 없는 형식) → 전체 다시 적재
+            System.err.println("[IndexHistoryStore] " + market + " 이력 캐시 해석 실패 - 다시 적재: " + e.getMessage());
+            clear(market);
+            return loadOnce(market, () -> rebuildLocked(market));
+        }
+
+        if (shouldRefreshEarly(chunks.get(COMPLETE))) {
+            refreshAhead(market);
+        }
+        return history;
+    }
+
+    // ================= 갱신 =================
+    /**
+     * 한 해 이력을 DB 에서 다시 읽어 해당 연도 필드만 교체 (동기화 창 저장 직후)
+     * Redis 저장에 실패해도 로컬 계층은 비움 (장애 모드에서 이전 이력을 계속 보여 주지 않도록)
+     */
+    public void refreshYear(String market, String year) {
+        String token = UUID.randomUUID().toString();
+        // 재적재가 잠금을 잡고 있으면 끝날 때까지 (최대 잠금 유지 시간) 기다림 - 동기화 스레드라 대기해도 됨
+        boolean locked = awaitLock(market, token, lockMs);
+        if (!locked) {
+            System.err.println("[IndexHistoryStore] " + market + " 잠금 대기 시간 초과 - 잠금 없이 " + year + " 갱신");
+        }
+        try {
+            List<IndexDataDTO> rows = selectRange(market, year + "0101", year + "1231");
+            HashOperations<String, String, byte[]> hash = binaryRedisTemplate.opsForHash();
+            if (rows.isEmpty()) {
+                hash.delete(key(market), year);
+            } else {
+                hash.put(key(market), year, encode(rows));
+            }
+        } finally {
+            if (locked) unlock(market, token);
+            near.invalidate(market);
+        }
+    }
+
+    /** 전체 삭제 (다음 조회 때 rebuild) */
+    public void clear(String market) {
+        try {
+            binaryRedisTemplate.delete(key(market));
+        } finally {
+            near.invalidate(market);
+        }
+    }
+
+    // ================= 재적재 (single-flight + 분산 잠금) =================
+    /** 미스 시: 이 서버에서 이미 적재 중이면 그 결과를 기다림 */
+    private List<IndexDataDTO> loadOnce(String market, Supplier<List<IndexDataDTO>> loader) {
+        CompletableFuture<List<IndexDataDTO>> mine = new CompletableFuture<>();
+        CompletableFuture<List<IndexDataDTO>> running = inflight.putIfAbsent(market, mine);
+        if (running != null) {
+            // 만료 전 재적재가 건너뛰어진 경우 (null) 는 직접 적재
+            List<IndexDataDTO> loaded = join(running);
+            return loaded != null ? loaded : loader.get();
+        }
+
+        try {
+            List<IndexDataDTO> history = loader.get();
+            mine.complete(history);
+            return history;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflight.remove(market, mine);
+        }
+    }
+
+    private List<IndexDataDTO> rebuildLocked(String market) {
+        String token = UUID.randomUUID().toString();
+        if (tryLock(market, token)) {
+            try {
+                // 잠금을 잡기 직전에 다른 서버가 적재를 끝냈으면 DB 를 다시 읽지 않음
+                List<IndexDataDTO> loaded = readIfComplete(market);
+                if (loaded != null) return loaded;
+                return rebuild(market, false);
+            } finally {
+                unlock(market, token);
+            }
+        }
+
+        // 다른 서버가 적재 중 → 끝날 때까지 잠깐 기다렸다 그 결과 사용
+        List<IndexDataDTO> loaded = awaitOtherNode(market);
+        if (loaded != null) return loaded;
+        System.err.println("[IndexHistoryStore] " + market + " 다른 서버 적재 대기 시간 초과 - DB 직접 조회");
+        return selectAll(market);
+    }
+
+    /** 만료 전 백그라운드 재적재 (이미 진행 중이거나 다른 서버가 잠금을 잡았으면 건너뜀) */
+    private void refreshAhead(String market) {
+        CompletableFuture<List<IndexDataDTO>> mine = new CompletableFuture<>();
+        if (inflight.putIfAbsent(market, mine) != null) return;
+
+        try {
+            refresher.execute(() -> {
+                String token = UUID.randomUUID().toString();
+                try {
+                    if (!tryLock(market, token)) {
+                        mine.complete(null);
+                        return;
+                    }
+                    try {
+                        System.out.println("[IndexHistoryStore] " + market + " 만료 전 재적재");
+                        List<IndexDataDTO> history = rebuild(market, true);
+                        // 이 서버는 새 이력으로 교체, 다른 서버는 다음 조회 때 Redis 에서 다시 읽음
+                        near.invalidate(market);
+                        near.put(market, history);
+                        mine.complete(history);
+                    } finally {
+                        unlock(market, token);
+                    }
+                } catch (RuntimeException e) {
+                    System.err.println("[IndexHistoryStore] " + market + " 만료 전 재적재 실패: " + e.getMessage());
+                    mine.complete(null);
+                } finally {
+                    inflight.remove(market, mine);
+                }
+            });
+        } catch (RuntimeException e) {
+            // 종료 중 등으로 작업을 넣지 못함
+            inflight.remove(market, mine);
+            mine.complete(null);
+        }
+    }
+
+    /**
+     * DB 전체 조회 → 연도별 저장 → complete (만료 시각:소요 ms) 기록 + TTL
+     * @param overwrite false 면 이미 있는 연도 필드는 유지 (HSETNX), true 면 전부 교체 (만료 전 재적재)
+     */
+    private List<IndexDataDTO> rebuild(String market, boolean overwrite) {
+        long started = System.currentTimeMillis();
+        List<IndexDataDTO> history = selectAll(market);
+
+        Map<String, List<IndexDataDTO>> byYear = new LinkedHashMap<>();
+        for (IndexDataDTO dto : history) {
+            if (dto.getBasDt() == null || dto.getBasDt().length() < 4) continue;
+            byYear.computeIfAbsent(dto.getBasDt().substring(0, 4), y -> new ArrayList<>()).add(dto);
+        }
+
+        try {
+            HashOperations<String, String, byte[]> hash = binaryRedisTemplate.opsForHash();
+            for (Map.Entry<String, List<IndexDataDTO>> e : byYear.entrySet()) {
+                if (overwrite) {
+                    hash.put(key(market), e.getKey(), encode(e.getValue()));
+                } else {
+                    hash.putIfAbsent(key(market), e.getKey(), encode(e.getValue()));
+                }
+            }
+            long ttlMs = TimeUnit.HOURS.toMillis(ttlHours);
+            long delta = System.currentTimeMillis() - started;
+            String meta = (System.currentTimeMillis() + ttlMs) + ":" + delta;
+            hash.put(key(market), COMPLETE, meta.getBytes(StandardCharsets.UTF_8));
+            binaryRedisTemplate.expire(key(market), Duration.ofMillis(ttlMs));
+        } catch (Exception e) {
+            System.err.println("[IndexHistoryStore] " + market + " 이력 캐시 적재 실패: " + e.getMessage());
+        }
+        return history;
+    }
+
+    private List<IndexDataDTO> awaitOtherNode(String market) {
+        long deadline = System.currentTimeMillis() + lockWaitMs;
+        HashOperations<String, String, byte[]> hash = binaryRedisTemplate.opsForHash();
+        try {
+            while (System.currentTimeMillis() < deadline) {
+                Thread.sleep(100);
+                // 완료 표시만 확인 (HEXISTS), 생기면 한 번만 전체 조회
+                if (Boolean.TRUE.equals(hash.hasKey(key(market), COMPLETE))) {
+                    List<IndexDataDTO> loaded = readIfComplete(market);
+                    if (loaded != null) return loaded;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            System.err.println("[IndexHistoryStore] " + market + " 적재 대기 중 오류: " + e.getMessage());
+        }
+        return null;
+    }
+
+    /** complete 표시가 있으면 전체 이력, 없거나 읽을 수 없으면 null */
+    private List<IndexDataDTO> readIfComplete(String market) {
+        try {
+            HashOperations<String, String, byte[]> hash = binaryRedisTemplate.opsForHash();
+            Map<String, byte[]> chunks = hash.entries(key(market));
+            if (chunks == null || !chunks.containsKey(COMPLETE)) return null;
+            return decodeAll(chunks);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /** 잠금을 잡을 때까지 최대 waitMs 동안 재시도 */
+    private boolean awaitLock(String market, String token, long waitMs) {
+        long deadline = System.currentTimeMillis() + waitMs;
+        while (!tryLock(market, token)) {
+            if (System.currentTimeMillis() >= deadline) return false;
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean tryLock(String market, String token) {
+        try {
+            Boolean ok = binaryRedisTemplate.opsForValue().setIfAbsent(
+                    LOCK_PREFIX + market, token.getBytes(StandardCharsets.UTF_8), Duration.ofMillis(lockMs));
+            return Boolean.TRUE.equals(ok);
+        } catch (Exception e) {
+            // 잠금을 확인할 수 없으면 (Redis 오류) 이 서버에서 그냥 적재
+            return true;
+        }
+    }
+
+    private void unlock(String market, String token) {
+        try {
+            binaryRedisTemplate.execute(UNLOCK, Collections.singletonList(LOCK_PREFIX + market),
+                    token.getBytes(StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            // lock-ms 뒤 자동 해제
+        }
+    }
+
+    /** XFetch: 만료가 가까울수록, 적재가 오래 걸릴수록 높은 확률로 true */
+    private boolean shouldRefreshEarly(byte[] meta) {
+        if (refreshBeta <= 0 || meta == null) return false;
+        String[] parts = new String(meta, StandardCharsets.UTF_8).split(":");
+        if (parts.length < 2) return true;   // 만료 정보가 없는 이전 형식 → 한 번 다시 적재해 TTL 기록
+        try {
+            long expiresAt = Long.parseLong(parts[0]);
+            long delta = Math.max(1, Long.parseLong(parts[1]));
+            double gap = -delta * refreshBeta * Math.log(ThreadLocalRandom.current().nextDouble());
+            return System.currentTimeMillis() + gap >= expiresAt;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static List<IndexDataDTO> join(CompletableFuture<List<IndexDataDTO>> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw e;
+        }
+    }
+
+    // ================= 값 형식 =================
+    private List<IndexDataDTO> decodeAll(Map<String, byte[]> chunks) {
+        // 연도 순 (yyyy 문자열이라 사전순 = 연도순)
+        TreeMap<String, byte[]> years = new TreeMap<>(chunks);
+        years.remove(COMPLETE);
+        List<IndexDataDTO> history = new ArrayList<>();
+        for (byte[] chunk : years.values()) {
+            history.addAll(decode(chunk));
+        }
+        return history;
+    }
+
+    private byte[] encode(List<IndexDataDTO> rows) {
+        if (columnar) {
+            try {
+                return IndexHistoryCodec.encode(rows);
+            } catch (IllegalArgumentException e) {
+                System.err.println("[IndexHistoryStore] 열 형식으로 저장할 수 없어 JSON 으로 저장: " + e.getMessage());
+            }
+        }
+        return json.serialize(rows);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<IndexDataDTO> decode(byte[] chunk) {
+        if (IndexHistoryCodec.isColumnar(chunk)) return IndexHistoryCodec.decode(chunk);
+        return (List<IndexDataDTO>) json.deserialize(chunk);
+    }
+
+    private List<IndexDataDTO> selectAll(String market) {
+        return KOSDAQ.equals(market) ? indexDAO.selectKosdaqHistory() : indexDAO.selectKospiHistory();
+    }
+
+    private List<IndexDataDTO> selectRange(String market, String begin, String end) {
+        return KOSDAQ.equals(market)
+                ? indexDAO.selectKosdaqHistoryRange(begin, end)
+                : indexDAO.selectKospiHistoryRange(begin, end);
+    }
+
+    private static String key(String market) {
+        return KEY_PREFIX + market;
+    }
+}
@@ -0,0 +1,48 @@
+package com.boot.index;
+
+import java.util.Collection;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import com.boot.service.IndexService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 지수 이력 동기화 상태 (/actuator/health 의 indexSync, /actuator/health/index)
+ * - SYNCING  : 기동 후 동기화 진행 중 → 조회 API 는 DB 에 있는 데이터로 정상 응답
+ * - UP       : 모든 지수가 빠진 구간 없이 동기화 완료
+ * - DEGRADED : 동기화는 끝났지만 실패한 구간이 있음 (다음 동기화 때 재수집)
+ * 애플리케이션 트래픽 수용 여부와는 별개 → 전체 health 는 200 유지,
+ * 지수 이력이 모두 채워졌는지 확인이 필요한 쪽만 /actuator/health/index (SYNCING/DEGRADED 시 503) 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class IndexSyncHealthIndicator implements HealthIndicator {
+
+    public static final Status SYNCING = new Status("SYNCING", "지수 이력 동기화 중");
+    public static final Status DEGRADED = new Status("DEGRADED", "지수 이력 일부 구간 누락");
+
+    private final IndexService indexService;
+
+    @Override
+    public Health health() {
+        Collection<IndexSyncProgress> all = indexService.getSyncProgress();
+
+        boolean finished = true;
+        boolean complete = true;
+        for (IndexSyncProgress p : all) {
+            finished &= p.isFinished();
+            complete &= p.isComplete();
+        }
+
+        Health.Builder builder = Health.status(!finished ? SYNCING : complete ? Status.UP : DEGRADED);
+        for (IndexSyncProgress p : all) {
+            builder.withDetail(p.getIdxNm(), p.toMap());
+        }
+        return builder.build();
+    }
+}
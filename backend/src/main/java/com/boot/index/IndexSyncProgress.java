@@ -0,0 +1,114 @@
+package com.boot.index;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.web.client.HttpStatusCodeException;
+
+/**
+ * 지수 한 종류의 기동 후 동기화 진행 상황
+ * - IndexService 의 백그라운드 동기화 스레드가 갱신, IndexSyncHealthIndicator 가 조회
+ * - 창(연 단위 수집 구간) 단위로 완료/실패 집계
+ * - 오류는 예외 종류 + HTTP 상태만 기록 (메시지에는 serviceKey 가 들어간 요청 URL 이 포함될 수 있음)
+ */
+public class IndexSyncProgress {
+
+    public enum State {
+        PENDING,   // 아직 시작 전 (기동 직후)
+        RUNNING,   // 수집 중
+        DONE,      // 완료 (실패한 창이 있으면 다음 동기화 때 재수집)
+        FAILED     // 구간 계산 등 수집 자체를 못 함 (DB/API 연결 오류)
+    }
+
+    private final String idxNm;
+
+    private volatile State state = State.PENDING;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String lastError;
+
+    private final AtomicInteger windowsTotal = new AtomicInteger();
+    private final AtomicInteger windowsDone = new AtomicInteger();
+    private final AtomicInteger windowsFailed = new AtomicInteger();
+    private final AtomicLong rows = new AtomicLong();
+
+    public IndexSyncProgress(String idxNm) {
+        this.idxNm = idxNm;
+    }
+
+    // ================= 갱신 (동기화 스레드) =================
+    public void start() {
+        startedAt = Instant.now();
+        state = State.RUNNING;
+    }
+
+    public void addWindows(int count) {
+        windowsTotal.addAndGet(count);
+    }
+
+    public void windowSaved(int savedRows) {
+        windowsDone.incrementAndGet();
+        rows.addAndGet(savedRows);
+    }
+
+    public void windowFailed(String window, Throwable error) {
+        windowsDone.incrementAndGet();
+        windowsFailed.incrementAndGet();
+        lastError = window + " " + describe(error);
+    }
+
+    public void finish() {
+        finishedAt = Instant.now();
+        state = State.DONE;
+    }
+
+    public void fail(Throwable error) {
+        lastError = describe(error);
+        finishedAt = Instant.now();
+        state = State.FAILED;
+    }
+
+    // ================= 조회 =================
+    public String getIdxNm() {
+        return idxNm;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public boolean isFinished() {
+        return state == State.DONE || state == State.FAILED;
+    }
+
+    /** 빠진 구간 없이 끝났는지 */
+    public boolean isComplete() {
+        return state == State.DONE && windowsFailed.get() == 0;
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("state", state.name());
+        map.put("windowsTotal", windowsTotal.get());
+        map.put("windowsDone", windowsDone.get());
+        map.put("windowsFailed", windowsFailed.get());
+        map.put("rows", rows.get());
+        if (startedAt != null) map.put("startedAt", startedAt.toString());
+        if (finishedAt != null) map.put("finishedAt", finishedAt.toString());
+        if (lastError != null) map.put("lastError", lastError);
+        return map;
+    }
+
+    /** 공개 health 에 노출해도 되는 요약 (예외 클래스, HTTP 상태) */
+    private static String describe(Throwable error) {
+        if (error == null) return "unknown";
+        String summary = error.getClass().getSimpleName();
+        if (error instanceof HttpStatusCodeException) {
+            summary += " HTTP " + ((HttpStatusCodeException) error).getRawStatusCode();
+        }
+        return summary;
+    }
+}
@@ -0,0 +1,139 @@
+package com.boot.index;
+
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.springframework.stereotype.Component;
+
+import com.boot.dto.IndexDataDTO;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 공공데이터포털 지수 응답 XML 스트리밍 파서 (StAX)
+ * - 응답 본문 InputStream 을 그대로 읽으며 &lt;item&gt; 하나가 닫힐 때마다 IndexDataDTO 를 sink 로 넘김
+ *   → DOM / String / byte[] 사본 없이 item 하나 분량의 메모리만 사용
+ * - 숫자 변환 실패 필드는 null 로 두고 index.sync.parse.errors{field=...} 지표 증가 (행은 유지)
+ *   basDt 가 없는 item 은 버리고 field=basDt 로 집계, 깨진 XML 은 field=document 집계 후 예외 (재시도 대상)
+ * - 오류 응답 (returnReasonCode, resultCode != 00) 은 IndexApiException
+ */
+@Component
+@RequiredArgsConstructor
+public class IndexXmlParser {
+
+    private final MeterRegistry meterRegistry;
+
+    private static final XMLInputFactory FACTORY = newFactory();
+
+    private static XMLInputFactory newFactory() {
+        XMLInputFactory f = XMLInputFactory.newFactory();
+        // 외부 엔티티/DTD 차단
+        f.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        f.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        f.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return f;
+    }
+
+    /**
+     * @return 응답의 totalCount (없으면 -1)
+     */
+    public int parse(InputStream in, Consumer<IndexDataDTO> sink) {
+        XMLStreamReader r = null;
+        try {
+            r = FACTORY.createXMLStreamReader(in, "UTF-8");
+            int totalCount = -1;
+            IndexDataDTO item = null;
+
+            while (r.hasNext()) {
+                int event = r.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = r.getLocalName();
+                    if ("item".equals(name)) {
+                        item = new IndexDataDTO();
+                    } else if (item != null) {
+                        set(item, name, r.getElementText().trim());
+                    } else if ("totalCount".equals(name)) {
+                        totalCount = toInt(r.getElementText().trim(), "totalCount");
+                    } else if ("resultCode".equals(name)) {
+                        String code = r.getElementText().trim();
+                        if (!"00".equals(code)) throw new IndexApiException(code);
+                    } else if ("returnReasonCode".equals(name)) {
+                        throw new IndexApiException(r.getElementText().trim());
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && item != null && "item".equals(r.getLocalName())) {
+                    if (item.getBasDt() == null || item.getBasDt().isEmpty()) {
+                        error("basDt");
+                    } else {
+                        sink.accept(item);
+                    }
+                    item = null;
+                }
+            }
+            return totalCount;
+        } catch (XMLStreamException e) {
+            error("document");
+            throw new IllegalStateException("지수 응답 XML 파싱 실패: " + e.getMessage(), e);
+        } finally {
+            if (r != null) {
+                try {
+                    r.close();
+                } catch (XMLStreamException ignored) {
+                }
+            }
+        }
+    }
+
+    // ================= 필드 매핑 =================
+    private void set(IndexDataDTO dto, String name, String v) {
+        switch (name) {
+            case "idxNm":          dto.setIdxNm(v); break;
+            case "basDt":          dto.setBasDt(v); break;
+            case "clpr":           dto.setClpr(toDouble(v, name)); break;
+            case "vs":             dto.setVs(toDouble(v, name)); break;
+            case "fltRt":          dto.setFltRt(toDouble(v, name)); break;
+            case "mkp":            dto.setMkp(toDouble(v, name)); break;
+            case "hipr":           dto.setHipr(toDouble(v, name)); break;
+            case "lopr":           dto.setLopr(toDouble(v, name)); break;
+            case "trqu":           dto.setTrqu(toLong(v, name)); break;
+            case "trPrc":          dto.setTrPrc(toLong(v, name)); break;
+            case "lstgMrktTotAmt": dto.setLstgMrktTotAmt(toLong(v, name)); break;
+            default:               break;  // 사용하지 않는 필드 (basPntm, basIdx 등)
+        }
+    }
+
+    // 빈 값은 누락(null), 숫자가 아니면 오류 집계 후 null
+    private Double toDouble(String v, String field) {
+        if (v.isEmpty()) return null;
+        try {
+            return Double.parseDouble(v);
+        } catch (NumberFormatException e) {
+            error(field);
+            return null;
+        }
+    }
+
+    private Long toLong(String v, String field) {
+        if (v.isEmpty()) return null;
+        try {
+            return Long.parseLong(v);
+        } catch (NumberFormatException e) {
+            error(field);
+            return null;
+        }
+    }
+
+    private int toInt(String v, String field) {
+        Long n = toLong(v, field);
+        return n == null ? -1 : n.intValue();
+    }
+
+    private void error(String field) {
+        meterRegistry.counter("index.sync.parse.errors", "field", field).increment();
+    }
+}
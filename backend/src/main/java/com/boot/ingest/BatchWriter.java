@@ -0,0 +1,233 @@
+package com.boot.ingest;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.boot.dao.StockMapper;
+import com.boot.dto.IngestResultDTO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 대량 수집 공통 처리 (크롤러 → /api/stocks/bulk, /api/stocks/news/bulk)
+ * - 요청 본문을 한 행씩 읽어 chunk-size 행마다 BATCH 실행기로 한 번에 전송, chunk 단위로 커밋
+ *   (행마다 문장/트랜잭션을 따로 쓰던 단건 수집보다 DB 왕복이 chunk 당 한 번으로 줄어듦)
+ * - chunk 가 실패하면 롤백 후 그 chunk 만 한 행씩 다시 실행 → 실패한 행만 ERROR 로 보고
+ * - DB 커넥션은 chunk 를 쓰는 동안만 잡음 (본문을 읽는 동안은 반납)
+ * - 동시에 처리하는 대량 수집 요청은 max-concurrent 개로 제한
+ *   → 자리가 없으면 queue-wait-ms 만큼만 기다리고 IngestBusyException (429 + Retry-After)
+ *   → 크롤러가 몰려도 조회 API 가 쓸 커넥션이 남음
+ */
+@Component
+@RequiredArgsConstructor
+public class BatchWriter {
+
+    private final SqlSessionFactory sqlSessionFactory;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${ingest.batch.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${ingest.max-concurrent:2}")
+    private int maxConcurrent;
+
+    @Value("${ingest.queue-wait-ms:1000}")
+    private long queueWaitMs;
+
+    @Value("${ingest.retry-after-seconds:5}")
+    private int retryAfterSeconds;
+
+    private Semaphore permits;
+    private SqlSessionTemplate batchSession;
+    private TransactionTemplate tx;
+
+    @PostConstruct
+    public void init() {
+        permits = new Semaphore(Math.max(1, maxConcurrent), true);
+        // 트랜잭션 안에서는 같은 BATCH SqlSession 을 재사용 → 커밋 직전 flushStatements 로 한 번에 전송
+        batchSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        tx = new TransactionTemplate(transactionManager);
+    }
+
+    /** 테이블별 처리 방법 */
+    public interface Handler<T> {
+        /** chunk INSERT 전 준비 (트랜잭션 밖, 채번/태깅 등) */
+        default void prepare(List<T> rows) {
+        }
+
+        /** BATCH 매퍼로 한 행 INSERT (트랜잭션 안) */
+        void insert(StockMapper mapper, T row);
+
+        /** 커밋된 행 후처리 (검색 인덱스, 캐시 등) + 결과 행 채우기 */
+        void committed(T row, IngestResultDTO.Row result);
+
+        /** chunk 에서 커밋된 행 전체 후처리 (캐시 무효화처럼 chunk 당 한 번이면 되는 작업) */
+        default void committedAll(List<T> rows) {
+        }
+
+        /** 저장에 실패한 행 정리 */
+        default void failed(T row) {
+        }
+    }
+
+    // ================= 실행 =================
+    public <T> IngestResultDTO write(String name, Iterator<IngestRow<T>> rows, Handler<T> handler) {
+        if (!acquire()) throw new IngestBusyException(retryAfterSeconds);
+
+        long started = System.currentTimeMillis();
+        IngestResultDTO result = new IngestResultDTO();
+        try {
+            StockMapper mapper = batchSession.getMapper(StockMapper.class);
+            int size = Math.max(1, chunkSize);
+            List<IngestRow<T>> chunk = new ArrayList<>(size);
+            int read = 0;
+            try {
+                while (rows.hasNext()) {
+                    IngestRow<T> row = rows.next();
+                    read++;
+                    if (row.getError() != null) {
+                        add(result, new IngestResultDTO.Row(row.getIndex(), IngestResultDTO.ERROR, null, null, row.getError()));
+                        continue;
+                    }
+                    chunk.add(row);
+                    if (chunk.size() >= size) {
+                        flush(mapper, chunk, handler, result);
+                        chunk.clear();
+                    }
+                }
+            } catch (UncheckedIOException e) {
+                // 본문 읽기 중 연결이 끊기는 등: 읽은 행까지만 저장
+                add(result, new IngestResultDTO.Row(read, IngestResultDTO.ERROR, null, null,
+                        "요청 본문 읽기 중단: " + e.getCause().getMessage()));
+            }
+            flush(mapper, chunk, handler, result);
+        } finally {
+            permits.release();
+        }
+
+        result.getRows().sort(Comparator.comparingInt(IngestResultDTO.Row::getIndex));
+        result.setElapsedMs(System.currentTimeMillis() - started);
+        System.out.println("[BatchWriter] " + name + " 대량 수집 " + result.getTotal() + "건 (성공 " + result.getSucceeded()
+                + ", 중복 " + result.getDuplicates() + ", 실패 " + result.getFailed() + ") " + result.getElapsedMs() + "ms");
+        return result;
+    }
+
+    private boolean acquire() {
+        try {
+            return permits.tryAcquire(queueWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private <T> void flush(StockMapper mapper, List<IngestRow<T>> chunk, Handler<T> handler, IngestResultDTO result) {
+        if (chunk.isEmpty()) return;
+
+        List<T> values = new ArrayList<>(chunk.size());
+        for (IngestRow<T> r : chunk) values.add(r.getValue());
+
+        try {
+            handler.prepare(values);
+        } catch (RuntimeException e) {
+            // 채번 실패 등 chunk 전체를 쓸 수 없는 경우
+            for (IngestRow<T> r : chunk) {
+                handler.failed(r.getValue());
+                add(result, new IngestResultDTO.Row(r.getIndex(), IngestResultDTO.ERROR, null, null, messageOf(e)));
+            }
+            return;
+        }
+
+        try {
+            tx.executeWithoutResult(status -> {
+                for (T v : values) handler.insert(mapper, v);
+                batchSession.flushStatements();
+            });
+        } catch (RuntimeException e) {
+            // 어느 행이 실패했는지 찾기 위해 이 chunk 만 한 행씩 다시 실행
+            System.err.println("[BatchWriter] chunk " + chunk.size() + "건 실패 - 한 행씩 재시도: " + messageOf(e));
+            List<T> succeeded = new ArrayList<>(chunk.size());
+            for (IngestRow<T> r : chunk) {
+                if (writeOne(mapper, r, handler, result)) succeeded.add(r.getValue());
+            }
+            committedAll(succeeded, handler);
+            return;
+        }
+
+        for (IngestRow<T> r : chunk) {
+            committed(r, handler, result);
+        }
+        committedAll(values, handler);
+    }
+
+    private <T> boolean writeOne(StockMapper mapper, IngestRow<T> r, Handler<T> handler, IngestResultDTO result) {
+        try {
+            tx.executeWithoutResult(status -> {
+                handler.insert(mapper, r.getValue());
+                batchSession.flushStatements();
+            });
+        } catch (RuntimeException e) {
+            handler.failed(r.getValue());
+            add(result, new IngestResultDTO.Row(r.getIndex(), IngestResultDTO.ERROR, null, null, messageOf(e)));
+            return false;
+        }
+        committed(r, handler, result);
+        return true;
+    }
+
+    private <T> void committedAll(List<T> rows, Handler<T> handler) {
+        if (rows.isEmpty()) return;
+        try {
+            handler.committedAll(rows);
+        } catch (RuntimeException e) {
+            System.err.println("[BatchWriter] chunk 후처리 실패 (" + rows.size() + "건): " + messageOf(e));
+        }
+    }
+
+    private <T> void committed(IngestRow<T> r, Handler<T> handler, IngestResultDTO result) {
+        IngestResultDTO.Row row = new IngestResultDTO.Row(r.getIndex(), IngestResultDTO.OK, null, null, null);
+        try {
+            handler.committed(r.getValue(), row);
+        } catch (RuntimeException e) {
+            // 이미 커밋된 행이므로 실패로 보고하지 않음 (후처리만 누락)
+            System.err.println("[BatchWriter] 후처리 실패 (index " + r.getIndex() + "): " + messageOf(e));
+        }
+        add(result, row);
+    }
+
+    private static void add(IngestResultDTO result, IngestResultDTO.Row row) {
+        result.getRows().add(row);
+        result.setTotal(result.getTotal() + 1);
+        if (IngestResultDTO.ERROR.equals(row.getStatus())) {
+            result.setFailed(result.getFailed() + 1);
+            return;
+        }
+        result.setSucceeded(result.getSucceeded() + 1);
+        if (IngestResultDTO.DUPLICATE.equals(row.getStatus())) {
+            result.setDuplicates(result.getDuplicates() + 1);
+        }
+    }
+
+    // 드라이버 예외까지 내려가 실제 원인 메시지 (ORA-xxxxx) 사용
+    private static String messageOf(Throwable e) {
+        Throwable t = e;
+        while (t.getCause() != null && t.getCause() != t) t = t.getCause();
+        String msg = t.getMessage();
+        return msg == null ? t.getClass().getSimpleName() : msg.trim();
+    }
+}
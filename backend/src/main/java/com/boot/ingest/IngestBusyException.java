@@ -0,0 +1,18 @@
+package com.boot.ingest;
+
+/**
+ * 대량 수집 동시 처리 한도 초과 (→ 429 Too Many Requests + Retry-After)
+ */
+public class IngestBusyException extends RuntimeException {
+
+    private final int retryAfterSeconds;
+
+    public IngestBusyException(int retryAfterSeconds) {
+        super("수집 요청이 많아 처리할 수 없습니다. " + retryAfterSeconds + "초 후 다시 시도하세요.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
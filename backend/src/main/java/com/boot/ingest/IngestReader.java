@@ -0,0 +1,133 @@
+package com.boot.ingest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 대량 수집 요청 본문을 한 행씩 읽는 Iterator (본문 전체를 List 로 만들지 않음)
+ * - JSON 배열 ([{...}, {...}]) : Jackson MappingIterator 로 원소를 하나씩 변환
+ *   → 값 타입이 맞지 않는 원소는 오류 행으로 남기고 계속, JSON 문법 오류는 이후 위치를 알 수 없어 읽기 중단
+ * - NDJSON (한 줄에 JSON 하나) : 줄 단위로 변환 → 변환 실패한 줄만 오류 행, 나머지는 계속 처리
+ */
+public final class IngestReader {
+
+    private IngestReader() {
+    }
+
+    public static boolean isNdjson(String contentType) {
+        if (contentType == null) return false;
+        String ct = contentType.toLowerCase();
+        return ct.contains("ndjson") || ct.contains("jsonl") || ct.contains("json-seq");
+    }
+
+    public static <T> Iterator<IngestRow<T>> read(ObjectMapper objectMapper, InputStream in, boolean ndjson, Class<T> type) {
+        try {
+            return ndjson ? new NdjsonIterator<>(objectMapper, in, type) : new ArrayIterator<>(objectMapper, in, type);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("요청 본문을 읽을 수 없습니다: " + e.getMessage());
+        }
+    }
+
+    // ================= 공통: 한 행 미리 읽기 =================
+    private abstract static class LookaheadIterator<T> implements Iterator<IngestRow<T>> {
+        private IngestRow<T> next;
+        private boolean done;
+        protected int index;
+
+        /** 다음 행, 끝이면 null */
+        protected abstract IngestRow<T> fetch() throws IOException;
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) return true;
+            if (done) return false;
+            try {
+                next = fetch();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (next == null) done = true;
+            return next != null;
+        }
+
+        @Override
+        public IngestRow<T> next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            IngestRow<T> r = next;
+            next = null;
+            return r;
+        }
+
+        protected void finish() {
+            done = true;
+        }
+    }
+
+    // ================= JSON 배열 =================
+    private static final class ArrayIterator<T> extends LookaheadIterator<T> {
+        private final MappingIterator<T> it;
+
+        ArrayIterator(ObjectMapper objectMapper, InputStream in, Class<T> type) throws IOException {
+            this.it = objectMapper.readerFor(type).readValues(in);
+        }
+
+        @Override
+        protected IngestRow<T> fetch() throws IOException {
+            int i = index;
+            try {
+                if (!it.hasNextValue()) return null;
+                T value = it.nextValue();
+                index++;
+                return IngestRow.of(i, value);
+            } catch (JsonParseException e) {
+                // 배열 안 위치를 다시 맞출 수 없으므로 여기서 중단
+                finish();
+                index++;
+                return IngestRow.error(i, "JSON 문법 오류 (이후 행은 처리하지 않음): " + e.getOriginalMessage());
+            } catch (JsonProcessingException e) {
+                // 값 변환 실패: MappingIterator 가 다음 원소로 건너뜀
+                index++;
+                return IngestRow.error(i, "JSON 형식 오류: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    // ================= NDJSON =================
+    private static final class NdjsonIterator<T> extends LookaheadIterator<T> {
+        private final ObjectMapper objectMapper;
+        private final BufferedReader reader;
+        private final Class<T> type;
+
+        NdjsonIterator(ObjectMapper objectMapper, InputStream in, Class<T> type) {
+            this.objectMapper = objectMapper;
+            this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            this.type = type;
+        }
+
+        @Override
+        protected IngestRow<T> fetch() throws IOException {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+                int i = index++;
+                try {
+                    return IngestRow.of(i, objectMapper.readValue(line, type));
+                } catch (JsonProcessingException e) {
+                    return IngestRow.error(i, "JSON 형식 오류: " + e.getOriginalMessage());
+                }
+            }
+            return null;
+        }
+    }
+}
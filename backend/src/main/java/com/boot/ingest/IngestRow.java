@@ -0,0 +1,37 @@
+package com.boot.ingest;
+
+/**
+ * 대량 수집 요청에서 읽은 한 행 (JSON 변환 실패 시 value 대신 error)
+ */
+public final class IngestRow<T> {
+
+    private final int index;
+    private final T value;
+    private final String error;
+
+    private IngestRow(int index, T value, String error) {
+        this.index = index;
+        this.value = value;
+        this.error = error;
+    }
+
+    public static <T> IngestRow<T> of(int index, T value) {
+        return new IngestRow<>(index, value, null);
+    }
+
+    public static <T> IngestRow<T> error(int index, String error) {
+        return new IngestRow<>(index, null, error);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public T getValue() {
+        return value;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,294 @@
+package com.boot.news;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.boot.dao.StockNewsDAO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 키워드 TOP N 원본 집계 (집계 테이블을 쓸 수 없을 때 STOCK_NEWS.KEYWORDS 를 직접 집계)
+ * - ResultHandler 로 한 행씩 받아 chunk-size 행 단위로 ForkJoinPool 에 넘김
+ *   → 조회 결과 전체(List&lt;Map&gt;)를 메모리에 올리지 않음
+ * - 키워드 문자열은 실행마다 int id 로 바꾸고, 작업 스레드마다 (id → 건수) 기본형 해시 테이블에 센다
+ *   (스레드별 테이블이라 잠금 없음, 동시에 처리 중인 chunk 수는 병렬도 × 2 로 제한)
+ * - 조회가 끝나면 스레드별 테이블을 fork-join 으로 둘씩 병합 → 상위 limit 개만 힙으로 추림
+ * - 메모리: 고유 키워드 수 × 스레드 수 + 처리 중인 chunk 만큼 → 기간(365일 등)과 무관하게 일정
+ */
+@Component
+@RequiredArgsConstructor
+public class KeywordAggregator {
+
+    private final StockNewsDAO stockNewsDAO;
+
+    @Value("${news.keywords.aggregate.parallelism:0}")
+    private int parallelism;
+
+    @Value("${news.keywords.aggregate.chunk-size:2000}")
+    private int chunkSize;
+
+    private ForkJoinPool pool;
+
+    @PostConstruct
+    public void init() {
+        int p = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        pool = new ForkJoinPool(p);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    // ================= 조회 =================
+    /** 특정 종목 뉴스 전체의 키워드 TOP limit */
+    public List<Map<String, Object>> topByStock(String stockCode, int limit) {
+        return aggregate(stockCode, 0, limit);
+    }
+
+    /** 최근 days 일 전체 뉴스의 키워드 TOP limit */
+    public List<Map<String, Object>> topAll(int days, int limit) {
+        return aggregate(null, days, limit);
+    }
+
+    private List<Map<String, Object>> aggregate(String stockCode, int days, int limit) {
+        Run run = new Run(pool, Math.max(1, chunkSize));
+        try {
+            stockNewsDAO.selectKeywordsForAggregate(stockCode, days, ctx -> run.add(ctx.getResultObject().getKeywords()));
+            run.flush();
+        } finally {
+            run.await();
+        }
+        run.rethrow();
+
+        IntCounter total = run.merge();
+        return top(total, run.names(), limit);
+    }
+
+    /** (건수 내림차순, 키워드 오름차순) 상위 limit 개 → 기존 응답 형식 (keyword, keywordCount) */
+    private static List<Map<String, Object>> top(IntCounter counts, String[] names, int limit) {
+        PriorityQueue<int[]> heap = new PriorityQueue<>((a, b) ->
+                a[1] != b[1] ? Integer.compare(a[1], b[1]) : names[b[0]].compareTo(names[a[0]]));
+        counts.forEach((id, cnt) -> {
+            heap.offer(new int[] { id, cnt });
+            if (heap.size() > limit) heap.poll();
+        });
+
+        List<Map<String, Object>> list = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            int[] e = heap.poll();
+            Map<String, Object> r = new HashMap<>();
+            r.put("keyword", names[e[0]]);
+            r.put("keywordCount", e[1]);
+            list.add(r);
+        }
+        Collections.reverse(list);
+        return list;
+    }
+
+    // ================= 한 번의 집계 실행 =================
+    private static final class Run {
+        final ForkJoinPool pool;
+        final int chunkSize;
+        final int maxInFlight;
+        final Semaphore inFlight;
+
+        final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+        final AtomicInteger nextId = new AtomicInteger();
+        final ConcurrentHashMap<Thread, IntCounter> perThread = new ConcurrentHashMap<>();
+        volatile Throwable failure;
+
+        List<String> chunk;
+
+        Run(ForkJoinPool pool, int chunkSize) {
+            this.pool = pool;
+            this.chunkSize = chunkSize;
+            this.maxInFlight = pool.getParallelism() * 2;
+            this.inFlight = new Semaphore(maxInFlight);
+            this.chunk = new ArrayList<>(chunkSize);
+        }
+
+        // ResultHandler 스레드 (DB 커서를 읽는 스레드) 에서만 호출
+        void add(String keywords) {
+            if (keywords == null) return;
+            chunk.add(keywords);
+            if (chunk.size() >= chunkSize) flush();
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) return;
+            List<String> rows = chunk;
+            chunk = new ArrayList<>(chunkSize);
+
+            // 처리 중인 chunk 가 많으면 커서 읽기를 잠시 멈춤 (힙 사용량 제한)
+            inFlight.acquireUninterruptibly();
+            try {
+                pool.execute(() -> {
+                    try {
+                        count(rows);
+                    } catch (Throwable t) {
+                        failure = t;
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                inFlight.release();
+                throw e;
+            }
+        }
+
+        void count(List<String> rows) {
+            IntCounter counter = perThread.computeIfAbsent(Thread.currentThread(), t -> new IntCounter());
+            for (String text : rows) {
+                NewsKeywords.forEach(text, kw -> counter.increment(idOf(kw)));
+            }
+        }
+
+        int idOf(String kw) {
+            Integer id = ids.get(kw);
+            if (id == null) id = ids.computeIfAbsent(kw, k -> nextId.getAndIncrement());
+            return id;
+        }
+
+        void await() {
+            inFlight.acquireUninterruptibly(maxInFlight);
+            inFlight.release(maxInFlight);
+        }
+
+        void rethrow() {
+            Throwable t = failure;
+            if (t instanceof RuntimeException) throw (RuntimeException) t;
+            if (t instanceof Error) throw (Error) t;
+            if (t != null) throw new IllegalStateException(t);
+        }
+
+        IntCounter merge() {
+            List<IntCounter> counters = new ArrayList<>(perThread.values());
+            if (counters.isEmpty()) return new IntCounter();
+            return pool.invoke(new MergeTask(counters, 0, counters.size()));
+        }
+
+        String[] names() {
+            String[] names = new String[nextId.get()];
+            ids.forEach((kw, id) -> names[id] = kw);
+            return names;
+        }
+    }
+
+    /** 스레드별 테이블을 둘씩 나눠 병합 (작은 쪽을 큰 쪽에 더함) */
+    private static final class MergeTask extends RecursiveTask<IntCounter> {
+        private final List<IntCounter> counters;
+        private final int from;
+        private final int to;
+
+        MergeTask(List<IntCounter> counters, int from, int to) {
+            this.counters = counters;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected IntCounter compute() {
+            if (to - from == 1) return counters.get(from);
+            int mid = (from + to) >>> 1;
+            MergeTask left = new MergeTask(counters, from, mid);
+            left.fork();
+            IntCounter right = new MergeTask(counters, mid, to).compute();
+            IntCounter l = left.join();
+            if (l.size() >= right.size()) {
+                l.addAll(right);
+                return l;
+            }
+            right.addAll(l);
+            return right;
+        }
+    }
+
+    // ================= 기본형 (int id → int 건수) 해시 테이블 =================
+    static final class IntCounter {
+        private static final int EMPTY = -1;
+
+        private int[] keys;
+        private int[] counts;
+        private int size;
+
+        IntCounter() {
+            keys = new int[64];
+            counts = new int[64];
+            Arrays.fill(keys, EMPTY);
+        }
+
+        int size() {
+            return size;
+        }
+
+        void increment(int key) {
+            add(key, 1);
+        }
+
+        void add(int key, int delta) {
+            int mask = keys.length - 1;
+            int i = mix(key) & mask;
+            while (keys[i] != EMPTY) {
+                if (keys[i] == key) {
+                    counts[i] += delta;
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            counts[i] = delta;
+            if (++size * 2 > keys.length) grow();
+        }
+
+        void addAll(IntCounter other) {
+            other.forEach(this::add);
+        }
+
+        void forEach(IntBiConsumer action) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != EMPTY) action.accept(keys[i], counts[i]);
+            }
+        }
+
+        private void grow() {
+            int[] oldKeys = keys;
+            int[] oldCounts = counts;
+            keys = new int[oldKeys.length * 2];
+            counts = new int[oldKeys.length * 2];
+            Arrays.fill(keys, EMPTY);
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) add(oldKeys[i], oldCounts[i]);
+            }
+        }
+
+        private static int mix(int key) {
+            int h = key * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+
+    @FunctionalInterface
+    interface IntBiConsumer {
+        void accept(int key, int value);
+    }
+}
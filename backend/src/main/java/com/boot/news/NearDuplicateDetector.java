@@ -0,0 +1,265 @@
+package com.boot.news;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.boot.dao.StockNewsDAO;
+import com.boot.dto.StockNewsDTO;
+import com.boot.util.NewsDateUtil;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 유사 중복 뉴스 탐지 (같은 통신사 기사를 여러 매체가 그대로 싣는 경우)
+ * - 제목 + 본문을 글자/숫자만 남겨 3-gram 집합으로 만들고 b-bit MinHash 서명 생성
+ *   (해시 64개, 각 최솟값의 하위 8비트만 보관 → 기사당 64바이트)
+ * - 서명을 4개씩 16개 밴드로 나눠 (밴드 번호, 밴드 값) → 기사 목록 해시 인덱스에 등록
+ *   → 기사당 16개 버킷만 확인 (조회 O(1)), 자카드 유사도 0.85 인 쌍은 99% 이상 후보로 잡힘
+ * - 후보는 서명 일치 비율로 자카드 유사도를 추정해 min-similarity 이상인 가장 비슷한 기사를 원본으로
+ * - 원본으로 판정된 기사는 판정과 같은 동기화 구간에서 바로 등록 (NEWS_ID 를 먼저 채번)
+ *   → 동시에 들어온 거의 같은 기사 둘이 모두 원본이 되지 않음, INSERT 에 실패하면 discard 로 제거
+ * - 최근 window-hours 시간 안에 들어온 원본 기사만 인덱스에 유지 (오래된 것부터 제거, 최대 max-entries 건)
+ * - 같은 종목코드(둘 다 없는 경우 포함)끼리만 묶음
+ * - 서명을 만들기에 너무 짧은 기사는 항상 원본으로 취급
+ * - 서버 시작 시 STOCK_NEWS.MINHASH 로 최근 창을 복원
+ */
+@Component
+@RequiredArgsConstructor
+public class NearDuplicateDetector {
+
+    private final StockNewsDAO stockNewsDAO;
+
+    @Value("${news.dedup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${news.dedup.min-similarity:0.8}")
+    private double minSimilarity;
+
+    @Value("${news.dedup.window-hours:48}")
+    private int windowHours;
+
+    @Value("${news.dedup.max-entries:100000}")
+    private int maxEntries;
+
+    public static final int SIGNATURE_LENGTH = 64;
+    private static final int ROWS = 4;
+    private static final int BANDS = SIGNATURE_LENGTH / ROWS;
+    private static final int SHINGLE = 3;
+    private static final int MIN_TEXT_LENGTH = 30;
+
+    // (밴드 번호, 밴드 값 4바이트) → 그 밴드 값을 가진 원본 기사
+    private final Map<Long, List<Entry>> buckets = new HashMap<>();
+    // NEWS_ID → 원본 기사, 등록 순서 (창 밖으로 나간 기사 제거용, discard 는 NEWS_ID 로 바로 제거)
+    private final LinkedHashMap<Long, Entry> window = new LinkedHashMap<>();
+
+    // ================= 서버 시작 시 적재 =================
+    @PostConstruct
+    public void init() {
+        if (!enabled) return;
+        try {
+            for (StockNewsDTO n : stockNewsDAO.selectRecentFingerprints(windowHours)) {
+                if (n.getMinhash() == null || n.getMinhash().length != SIGNATURE_LENGTH || n.getNewsId() == null) continue;
+                register(n.getNewsId(), n.getStockCode(), n.getMinhash(), NewsDateUtil.toEpochMillis(n.getCreatedAt()));
+            }
+            System.out.println("[NearDuplicateDetector] 최근 " + windowHours + "시간 원본 기사 " + window.size() + "건 적재 완료");
+        } catch (Exception e) {
+            System.err.println("[NearDuplicateDetector] 초기 적재 실패 - 이후 수집분부터 탐지: " + e.getMessage());
+        }
+    }
+
+    // ================= 수집 경로 =================
+    /**
+     * 서명을 계산해 dto.minhash 에 넣고, 최근 원본 기사와 거의 같으면 dto.canonicalNewsId 에 원본 NEWS_ID 지정
+     * 원본이면 dto.newsId 로 바로 등록 (INSERT 전에 채번해 두어야 함, 실패하면 discard)
+     * 요청으로 들어온 minhash / canonicalNewsId 는 쓰지 않음 (비활성이거나 서명을 만들 수 없으면 둘 다 null)
+     * @return 중복이면 원본 NEWS_ID, 아니면 null
+     */
+    public Long classify(StockNewsDTO dto) {
+        if (dto == null) return null;
+        dto.setMinhash(null);
+        dto.setCanonicalNewsId(null);
+        if (!enabled) return null;
+        byte[] sig = signature(dto.getTitle(), dto.getContent());
+        dto.setMinhash(sig);
+        if (sig == null) return null;
+
+        Long canonical = findCanonical(dto.getNewsId(), dto.getStockCode(), sig);
+        dto.setCanonicalNewsId(canonical);
+        return canonical;
+    }
+
+    /** classify 로 미리 등록했다가 INSERT 에 실패한 기사 제거 */
+    public synchronized void discard(StockNewsDTO dto) {
+        if (!enabled || dto == null || dto.getNewsId() == null) return;
+        Entry e = window.remove(dto.getNewsId());
+        if (e != null) unbucket(e);
+    }
+
+    // ================= 인덱스 =================
+    // 판정 + (원본이면) 등록을 한 번에
+    private synchronized Long findCanonical(Long newsId, String stockCode, byte[] sig) {
+        long now = System.currentTimeMillis();
+        evictExpired(now);
+
+        Entry best = null;
+        double bestSimilarity = 0;
+        for (int band = 0; band < BANDS; band++) {
+            List<Entry> list = buckets.get(bucketKey(band, sig));
+            if (list == null) continue;
+            for (Entry e : list) {
+                if (!Objects.equals(e.stockCode, stockCode)) continue;
+                double sim = similarity(e.sig, sig);
+                if (sim < minSimilarity) continue;
+                if (best == null || sim > bestSimilarity || (sim == bestSimilarity && e.newsId < best.newsId)) {
+                    best = e;
+                    bestSimilarity = sim;
+                }
+            }
+        }
+        if (best != null) return best.newsId;
+        if (newsId != null) add(newsId, stockCode, sig, now);
+        return null;
+    }
+
+    private synchronized void register(long newsId, String stockCode, byte[] sig, long addedAt) {
+        evictExpired(System.currentTimeMillis());
+        add(newsId, stockCode, sig, addedAt);
+    }
+
+    private void add(long newsId, String stockCode, byte[] sig, long addedAt) {
+        if (window.containsKey(newsId)) return;
+        Entry e = new Entry(newsId, stockCode, sig, addedAt);
+        for (int band = 0; band < BANDS; band++) {
+            buckets.computeIfAbsent(bucketKey(band, sig), k -> new ArrayList<>(2)).add(e);
+        }
+        window.put(newsId, e);
+        Iterator<Entry> it = window.values().iterator();
+        while (window.size() > maxEntries) {
+            unbucket(it.next());
+            it.remove();
+        }
+    }
+
+    private void evictExpired(long now) {
+        long cutoff = now - windowHours * 3_600_000L;
+        Iterator<Entry> it = window.values().iterator();
+        while (it.hasNext()) {
+            Entry e = it.next();
+            if (e.addedAt >= cutoff) break;
+            unbucket(e);
+            it.remove();
+        }
+    }
+
+    // 밴드 버킷에서 제거 (버킷 하나에는 서명 밴드가 같은 기사 몇 건뿐)
+    private void unbucket(Entry e) {
+        for (int band = 0; band < BANDS; band++) {
+            long key = bucketKey(band, e.sig);
+            List<Entry> list = buckets.get(key);
+            if (list == null) continue;
+            list.remove(e);
+            if (list.isEmpty()) buckets.remove(key);
+        }
+    }
+
+    private static long bucketKey(int band, byte[] sig) {
+        long key = band;
+        for (int i = band * ROWS; i < (band + 1) * ROWS; i++) {
+            key = (key << 8) | (sig[i] & 0xFF);
+        }
+        return key;
+    }
+
+    /** 서명 일치 비율 → 자카드 유사도 추정 (8비트만 비교하므로 우연히 같을 확률 1/256 보정) */
+    static double similarity(byte[] a, byte[] b) {
+        int same = 0;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            if (a[i] == b[i]) same++;
+        }
+        double p = (double) same / SIGNATURE_LENGTH;
+        return Math.max(0.0, (p - 1.0 / 256) / (1.0 - 1.0 / 256));
+    }
+
+    // ================= MinHash =================
+    /** b-bit MinHash 서명 (글자/숫자 3-gram 집합), 너무 짧으면 null */
+    public static byte[] signature(String title, String content) {
+        String text = normalize(title) + normalize(content);
+        if (text.length() < MIN_TEXT_LENGTH) return null;
+
+        long[] min = new long[SIGNATURE_LENGTH];
+        Arrays.fill(min, Long.MAX_VALUE);
+        for (int i = 0; i + SHINGLE <= text.length(); i++) {
+            long h1 = shingleHash(text, i);
+            long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1L;
+            // 해시 두 개로 64개 해시 함수 생성 (g_k = mix(h1 + k * h2))
+            long g = h1;
+            for (int k = 0; k < SIGNATURE_LENGTH; k++) {
+                long v = mix(g) >>> 1;  // 부호 없는 비교 대신 양수 범위로
+                if (v < min[k]) min[k] = v;
+                g += h2;
+            }
+        }
+
+        byte[] sig = new byte[SIGNATURE_LENGTH];
+        for (int k = 0; k < SIGNATURE_LENGTH; k++) {
+            sig[k] = (byte) mix(min[k]);
+        }
+        return sig;
+    }
+
+    // FNV-1a 64 + murmur3 finalizer
+    private static long shingleHash(String text, int from) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = from; i < from + SHINGLE; i++) {
+            h ^= text.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    // 글자/숫자만 남기고 소문자로 (매체별 공백, 기호, 구두점 차이 무시)
+    private static String normalize(String s) {
+        if (s == null || s.isEmpty()) return "";
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char ch = s.charAt(i);
+            if (Character.isLetterOrDigit(ch)) sb.append(Character.toLowerCase(ch));
+        }
+        return sb.toString();
+    }
+
+    // ================= 내부 자료구조 =================
+    private static final class Entry {
+        final long newsId;
+        final String stockCode;
+        final byte[] sig;
+        final long addedAt;
+
+        Entry(long newsId, String stockCode, byte[] sig, long addedAt) {
+            this.newsId = newsId;
+            this.stockCode = stockCode;
+            this.sig = sig;
+            this.addedAt = addedAt;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.boot.news;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+
+/**
+ * 뉴스 목록 키셋 커서 (NEWS_DATE, NEWS_ID)
+ * - 형식: "yyyyMMddHHmmss_newsId" (NEWS_DATE 가 없는 뉴스는 "_newsId")
+ * - 정렬: NEWS_DATE DESC, NEWS_ID DESC (Oracle 기본값대로 NEWS_DATE 가 없는 뉴스가 먼저)
+ *   → 커서는 마지막으로 받은 행, 다음 페이지는 그 행보다 뒤에 오는 행부터
+ * - 형식이 맞지 않거나 없는 날짜 / 음수 ID 는 IllegalArgumentException (TO_DATE 오류로 DB 까지 가지 않게)
+ */
+public final class NewsCursor {
+
+    private static final DateTimeFormatter DATE_FORMAT =
+            DateTimeFormatter.ofPattern("uuuuMMddHHmmss").withResolverStyle(ResolverStyle.STRICT);
+
+    private final String date;  // yyyyMMddHHmmss, NEWS_DATE 가 없으면 null
+    private final long newsId;
+
+    private NewsCursor(String date, long newsId) {
+        this.date = date;
+        this.newsId = newsId;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public long getNewsId() {
+        return newsId;
+    }
+
+    /** newsDate: "yyyy-MM-dd HH:mm:ss" (TO_CHAR 결과) 또는 null */
+    public static String encode(String newsDate, Long newsId) {
+        String digits = newsDate == null ? "" : newsDate.replaceAll("[^0-9]", "");
+        return digits + "_" + newsId;
+    }
+
+    /** null / 빈 값이면 첫 페이지 (null 반환) */
+    public static NewsCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+
+        int sep = cursor.indexOf('_');
+        if (sep < 0) throw new IllegalArgumentException("잘못된 커서: " + cursor);
+        String date = cursor.substring(0, sep);
+        if (!date.isEmpty() && !isValidDate(date)) {
+            throw new IllegalArgumentException("잘못된 커서: " + cursor);
+        }
+        String id = cursor.substring(sep + 1);
+        if (!id.matches("\\d{1,18}")) {
+            throw new IllegalArgumentException("잘못된 커서: " + cursor);
+        }
+        return new NewsCursor(date.isEmpty() ? null : date, Long.parseLong(id));
+    }
+
+    private static boolean isValidDate(String date) {
+        if (!date.matches("\\d{14}")) return false;
+        try {
+            LocalDateTime.parse(date, DATE_FORMAT);
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+}
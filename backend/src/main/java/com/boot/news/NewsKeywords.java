@@ -0,0 +1,47 @@
+package com.boot.news;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * STOCK_NEWS.KEYWORDS ("반도체, HBM, 실적") 분리 규칙
+ * - 쉼표로 나누고 TRIM, 빈 값과 100자 초과 값은 제외
+ * - DB 집계 프로시저(NEWS_KEYWORD_APPLY)와 같은 규칙
+ */
+public final class NewsKeywords {
+
+    public static final int MAX_LENGTH = 100;
+
+    private NewsKeywords() {
+    }
+
+    public static List<String> split(String keywords) {
+        List<String> result = new ArrayList<>();
+        forEach(keywords, result::add);
+        return result;
+    }
+
+    /** split 과 같은 규칙으로 키워드마다 action 호출 (정규식 / 중간 배열 없이 한 번 순회) */
+    public static void forEach(String keywords, Consumer<String> action) {
+        if (keywords == null) return;
+        int n = keywords.length();
+        int start = 0;
+        while (start <= n) {
+            int comma = keywords.indexOf(',', start);
+            int end = comma < 0 ? n : comma;
+
+            // String.trim() 과 같은 기준 (공백 이하 문자 제거)
+            int s = start;
+            int e = end;
+            while (s < e && keywords.charAt(s) <= ' ') s++;
+            while (e > s && keywords.charAt(e - 1) <= ' ') e--;
+            if (e > s && e - s <= MAX_LENGTH) {
+                action.accept(keywords.substring(s, e));
+            }
+
+            if (comma < 0) break;
+            start = comma + 1;
+        }
+    }
+}
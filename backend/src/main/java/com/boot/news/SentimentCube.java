@@ -0,0 +1,339 @@
+package com.boot.news;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.stereotype.Component;
+
+import com.boot.dao.StockNewsDAO;
+import com.boot.dto.SentimentCubeDTO;
+import com.boot.dto.StockNewsDTO;
+import com.boot.util.NewsDateUtil;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 뉴스 감성 큐브 (종목 × 일자 → 긍정/부정/보통 건수, 점수 합)
+ * - 원본은 NEWS_SENTIMENT_DAILY (STOCK_NEWS 트리거가 INSERT / 감성 재분석 때마다 증감)
+ * - 서버 시작 시 전체를 메모리에 올리고, refresh() 로 UPDATED_AT 이 바뀐 칸만 다시 읽어 교체
+ *   지금까지 읽은 가장 늦은 UPDATED_AT 이후 (+ 겹침 구간) 를 읽음 → DB 장애/스케줄 지연 뒤에도 빠지는 칸 없음
+ *   /api/stocks/news 로 들어온 뉴스는 apply() 로 즉시 반영 (다음 refresh 때 DB 값으로 덮어씀)
+ * - 감성 통계 API 는 뉴스 행 대신 해당 기간의 일자 칸만 합산
+ * - 응답 Map 의 키는 기존 SQL 별칭(대문자)과 동일하게 유지 (TOTALNEWS, POSITIVECOUNT ...)
+ * - 비율/평균은 SQL ROUND(x, 2) 와 같게 정확한 값에서 반올림 (음수 점수 평균의 .5 도 0 에서 먼 쪽으로)
+ * - 기간(days)은 일 단위: NEWS_DAY >= TRUNC(SYSDATE - days)
+ */
+@Component
+@RequiredArgsConstructor
+public class SentimentCube {
+
+    private final StockNewsDAO stockNewsDAO;
+
+    public static final String NO_STOCK = "-";
+    private static final LocalDate NO_DATE = LocalDate.of(1970, 1, 1);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<String, TreeMap<LocalDate, Cell>> byStock = new HashMap<>();
+    private TreeMap<LocalDate, Cell> byDay = new TreeMap<>();  // 전체 종목 합 (종목 없는 뉴스 포함)
+    private Map<String, String> nameByCode = new HashMap<>();
+
+    private volatile boolean ready = false;
+    // 지금까지 읽은 가장 늦은 UPDATED_AT (YYYY-MM-DD HH24:MI:SS, 문자열 비교 = 시각 비교)
+    private volatile String lastUpdatedAt;
+
+    // ================= 서버 시작 시 적재 =================
+    @PostConstruct
+    public void init() {
+        try {
+            reload();
+        } catch (Exception e) {
+            System.err.println("[SentimentCube] 초기 적재 실패 - SQL 집계로 대체: " + e.getMessage());
+        }
+    }
+
+    public void reload() {
+        Map<String, TreeMap<LocalDate, Cell>> stocks = new HashMap<>();
+        TreeMap<LocalDate, Cell> days = new TreeMap<>();
+        Map<String, String> names = new HashMap<>();
+        int[] rows = { 0 };
+        String[] latest = { null };
+
+        stockNewsDAO.selectSentimentCube(ctx -> {
+            SentimentCubeDTO r = ctx.getResultObject();
+            Cell cell = Cell.of(r);
+            LocalDate day = parseDay(r.getNewsDay());
+            stocks.computeIfAbsent(r.getStockCode(), k -> new TreeMap<>()).put(day, cell);
+            days.computeIfAbsent(day, k -> new Cell()).add(cell, 1);
+            if (r.getStockName() != null) names.put(r.getStockCode(), r.getStockName());
+            latest[0] = later(latest[0], r.getUpdatedAt());
+            rows[0]++;
+        });
+
+        lock.writeLock().lock();
+        try {
+            byStock = stocks;
+            byDay = days;
+            nameByCode = names;
+            lastUpdatedAt = latest[0];
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        System.out.println("[SentimentCube] 종목×일자 " + rows[0] + "칸 적재 완료");
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ================= 증분 반영 =================
+    /**
+     * 마지막으로 읽은 UPDATED_AT 이후 바뀐 칸을 DB 값으로 교체 (스케줄러에서 호출)
+     * @param overlapMinutes 마지막 값보다 이만큼 앞부터 다시 읽음 (늦게 커밋된 트리거 갱신분, 값 교체라 중복 없음)
+     */
+    public void refresh(int overlapMinutes) {
+        if (!ready) {
+            reload();
+            return;
+        }
+        List<SentimentCubeDTO> changed = stockNewsDAO.selectSentimentCubeChanged(lastUpdatedAt, overlapMinutes);
+        if (changed.isEmpty()) return;
+
+        String latest = lastUpdatedAt;
+        lock.writeLock().lock();
+        try {
+            for (SentimentCubeDTO r : changed) {
+                replace(r.getStockCode(), parseDay(r.getNewsDay()), Cell.of(r));
+                if (r.getStockName() != null) nameByCode.put(r.getStockCode(), r.getStockName());
+                latest = later(latest, r.getUpdatedAt());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        lastUpdatedAt = latest;
+    }
+
+    /**
+     * /api/stocks/news 수집 시 즉시 반영 (트리거와 같은 규칙)
+     * NEWS_DATE 를 해석할 수 없으면 건너뜀 (어느 칸인지 모름 → 다음 refresh 때 DB 값으로 반영)
+     */
+    public void apply(StockNewsDTO news) {
+        if (news == null || news.getSentiment() == null || !ready) return;
+
+        String code = news.getStockCode() == null || news.getStockCode().isBlank() ? NO_STOCK : news.getStockCode();
+        LocalDate day = NO_DATE;
+        if (news.getNewsDate() != null) {
+            LocalDateTime t = NewsDateUtil.parse(news.getNewsDate());
+            if (t == null) return;
+            day = t.toLocalDate();
+        }
+
+        Cell delta = new Cell();
+        delta.addNews(news.getSentiment(), news.getScore());
+
+        lock.writeLock().lock();
+        try {
+            Cell cell = byStock.computeIfAbsent(code, k -> new TreeMap<>()).computeIfAbsent(day, k -> new Cell());
+            cell.add(delta, 1);
+            byDay.computeIfAbsent(day, k -> new Cell()).add(delta, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void replace(String code, LocalDate day, Cell cell) {
+        Cell old = byStock.computeIfAbsent(code, k -> new TreeMap<>()).put(day, cell);
+        Cell total = byDay.computeIfAbsent(day, k -> new Cell());
+        if (old != null) total.add(old, -1);
+        total.add(cell, 1);
+    }
+
+    // ================= 조회 =================
+    /** 종목 감성 통계 (days <= 0 이면 전체 기간), 집계된 뉴스가 없으면 null */
+    public Map<String, Object> stockSummary(String stockCode, int days) {
+        lock.readLock().lock();
+        try {
+            TreeMap<LocalDate, Cell> cells = byStock.get(stockCode);
+            if (cells == null) return null;
+            Cell sum = sum(window(cells, days));
+            if (sum.total == 0) return null;
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("STOCK_CODE", stockCode);
+            putCounts(row, sum);
+            row.put("POSITIVERATIO", ratio(sum.pos, sum.total));
+            row.put("NEGATIVERATIO", ratio(sum.neg, sum.total));
+            row.put("AVGSCORE", sum.avgScore());
+            return row;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 전체 종목별 감성 통계 (뉴스 수 내림차순, 종목코드 없는 뉴스 제외) */
+    public List<Map<String, Object>> allStocks(int days) {
+        List<Map<String, Object>> list = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Map.Entry<String, TreeMap<LocalDate, Cell>> e : byStock.entrySet()) {
+                if (NO_STOCK.equals(e.getKey())) continue;
+                Cell sum = sum(window(e.getValue(), days));
+                if (sum.total == 0) continue;
+
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("STOCK_CODE", e.getKey());
+                row.put("STOCK_NAME", nameByCode.get(e.getKey()));
+                putCounts(row, sum);
+                row.put("POSITIVERATIO", ratio(sum.pos, sum.total));
+                row.put("NEGATIVERATIO", ratio(sum.neg, sum.total));
+                row.put("AVGSCORE", sum.avgScore());
+                list.add(row);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        list.sort((a, b) -> Long.compare((Long) b.get("TOTALNEWS"), (Long) a.get("TOTALNEWS")));
+        return list;
+    }
+
+    /** 종목의 일자별 감성 통계 (최근 날짜부터) */
+    public List<Map<String, Object>> trend(String stockCode, int days) {
+        List<Map<String, Object>> list = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            TreeMap<LocalDate, Cell> cells = byStock.get(stockCode);
+            if (cells == null) return list;
+            for (Map.Entry<LocalDate, Cell> e : window(cells, days).descendingMap().entrySet()) {
+                Cell c = e.getValue();
+                if (c.total == 0 || NO_DATE.equals(e.getKey())) continue;
+
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("NEWSDATE", e.getKey().toString());
+                putCounts(row, c);
+                row.put("AVGSCORE", c.avgScore());
+                list.add(row);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return list;
+    }
+
+    /** 전체 뉴스 감성 통계 */
+    public Map<String, Object> overall() {
+        lock.readLock().lock();
+        try {
+            Cell sum = sum(byDay);
+            Map<String, Object> row = new LinkedHashMap<>();
+            putCounts(row, sum);
+            row.put("POSITIVERATIO", ratio(sum.pos, sum.total));
+            row.put("NEGATIVERATIO", ratio(sum.neg, sum.total));
+            row.put("NEUTRALRATIO", ratio(sum.neu, sum.total));
+            row.put("AVGSCORE", sum.avgScore());
+            return row;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ================= 내부 구현 =================
+    private static NavigableMap<LocalDate, Cell> window(TreeMap<LocalDate, Cell> cells, int days) {
+        if (days <= 0) return cells;
+        return cells.tailMap(LocalDate.now(NewsDateUtil.ZONE).minusDays(days), true);
+    }
+
+    private static Cell sum(Map<LocalDate, Cell> cells) {
+        Cell sum = new Cell();
+        for (Cell c : cells.values()) {
+            sum.add(c, 1);
+        }
+        return sum;
+    }
+
+    private static void putCounts(Map<String, Object> row, Cell c) {
+        row.put("TOTALNEWS", c.total);
+        row.put("POSITIVECOUNT", c.pos);
+        row.put("NEGATIVECOUNT", c.neg);
+        row.put("NEUTRALCOUNT", c.neu);
+    }
+
+    private static Double ratio(long part, long total) {
+        if (total == 0) return null;
+        return round2(part * 100, total);
+    }
+
+    // ROUND(numerator / denominator, 2)
+    private static double round2(long numerator, long denominator) {
+        return BigDecimal.valueOf(numerator)
+                .divide(BigDecimal.valueOf(denominator), 2, RoundingMode.HALF_UP)
+                .doubleValue();
+    }
+
+    private static String later(String a, String b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    private static LocalDate parseDay(String newsDay) {
+        return newsDay == null ? NO_DATE : LocalDate.parse(newsDay.substring(0, 10));
+    }
+
+    private static final class Cell {
+        long total;
+        long pos;
+        long neg;
+        long neu;
+        long scoreSum;
+        long scoreCnt;
+
+        static Cell of(SentimentCubeDTO r) {
+            Cell c = new Cell();
+            c.total = r.getTotalCnt();
+            c.pos = r.getPosCnt();
+            c.neg = r.getNegCnt();
+            c.neu = r.getNeuCnt();
+            c.scoreSum = r.getScoreSum();
+            c.scoreCnt = r.getScoreCnt();
+            return c;
+        }
+
+        void addNews(String sentiment, Integer score) {
+            total++;
+            if ("긍정".equals(sentiment)) pos++;
+            else if ("부정".equals(sentiment)) neg++;
+            else if ("보통".equals(sentiment)) neu++;
+            if (score != null) {
+                scoreSum += score;
+                scoreCnt++;
+            }
+        }
+
+        void add(Cell o, int sign) {
+            total += sign * o.total;
+            pos += sign * o.pos;
+            neg += sign * o.neg;
+            neu += sign * o.neu;
+            scoreSum += sign * o.scoreSum;
+            scoreCnt += sign * o.scoreCnt;
+        }
+
+        Double avgScore() {
+            if (scoreCnt == 0) return null;
+            return round2(scoreSum, scoreCnt);
+        }
+    }
+}
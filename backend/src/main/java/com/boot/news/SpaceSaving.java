@@ -0,0 +1,160 @@
+package com.boot.news;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Space-Saving heavy-hitter 요약 (Metwally et al.)
+ * - 최대 capacity 개의 (항목, 카운트, 오차)만 유지 → 메모리 고정
+ * - 가득 찬 상태에서 새 항목이 오면 카운트가 가장 작은 항목을 내보내고 그 카운트를 이어받는다
+ *   → 추정값 count 는 실제 값 이상, (count - error) 는 실제 값 이하
+ * - 요약에 없는 항목의 실제 값은 minCount() 이하, minCount() ≤ total / capacity
+ * - Stream-Summary 구조: 같은 카운트의 항목을 그룹으로 묶고 그룹을 카운트 오름차순 연결 리스트로 유지
+ *   → 증가, 최소 항목 교체, minCount() 모두 O(1) (가득 찬 뒤 새 항목마다 전체를 훑지 않음)
+ * - 스레드 안전하지 않음 (호출하는 쪽에서 동기화)
+ */
+public class SpaceSaving {
+
+    /** 항목별 값 (forEach) */
+    public interface CounterConsumer {
+        void accept(String item, long count, long error);
+    }
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+    private Group head;  // 카운트가 가장 작은 그룹
+    private long total;
+
+    public SpaceSaving(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.counters = new HashMap<>(this.capacity * 2);
+    }
+
+    public void offer(String item) {
+        total++;
+
+        Counter c = counters.get(item);
+        if (c != null) {
+            increment(c);
+            return;
+        }
+        if (counters.size() < capacity) {
+            c = new Counter(item, 0);
+            counters.put(item, c);
+            if (head == null || head.count != 1) {
+                Group g = new Group(1);
+                g.next = head;
+                if (head != null) head.prev = g;
+                head = g;
+            }
+            attach(c, head);
+            return;
+        }
+
+        // 최소 카운트 항목 교체
+        c = head.first;
+        counters.remove(c.item);
+        c.item = item;
+        c.error = head.count;
+        counters.put(item, c);
+        increment(c);
+    }
+
+    /** 요약에 없는 항목이 가질 수 있는 최대 카운트 (가득 차지 않았으면 0) */
+    public long minCount() {
+        if (counters.size() < capacity) return 0;
+        return head.count;
+    }
+
+    public boolean contains(String item) {
+        return counters.containsKey(item);
+    }
+
+    /** 요약에 있는 항목마다 (항목, count, error) */
+    public void forEach(CounterConsumer consumer) {
+        for (Counter c : counters.values()) {
+            consumer.accept(c.item, c.group.count, c.error);
+        }
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    public long total() {
+        return total;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public void clear() {
+        counters.clear();
+        head = null;
+        total = 0;
+    }
+
+    // ================= Stream-Summary =================
+    // 다음 카운트 그룹으로 이동 (없으면 현재 그룹 바로 뒤에 새로 만듦)
+    private void increment(Counter c) {
+        Group g = c.group;
+        Group next = g.next;
+        if (next == null || next.count != g.count + 1) {
+            next = new Group(g.count + 1);
+            next.prev = g;
+            next.next = g.next;
+            if (g.next != null) g.next.prev = next;
+            g.next = next;
+        }
+        detach(c);
+        attach(c, next);
+    }
+
+    private static void attach(Counter c, Group g) {
+        c.group = g;
+        c.prev = null;
+        c.next = g.first;
+        if (g.first != null) g.first.prev = c;
+        g.first = c;
+    }
+
+    // 그룹에서 빼고, 빈 그룹은 목록에서 제거
+    private void detach(Counter c) {
+        Group g = c.group;
+        if (c.prev != null) c.prev.next = c.next;
+        else g.first = c.next;
+        if (c.next != null) c.next.prev = c.prev;
+        c.prev = null;
+        c.next = null;
+        if (g.first != null) return;
+
+        if (g.prev != null) g.prev.next = g.next;
+        else head = g.next;
+        if (g.next != null) g.next.prev = g.prev;
+    }
+
+    private static final class Group {
+        final long count;
+        Counter first;
+        Group prev;
+        Group next;
+
+        Group(long count) {
+            this.count = count;
+        }
+    }
+
+    private static final class Counter {
+        String item;
+        long error;
+        Group group;
+        Counter prev;
+        Counter next;
+
+        Counter(String item, long error) {
+            this.item = item;
+            this.error = error;
+        }
+    }
+}
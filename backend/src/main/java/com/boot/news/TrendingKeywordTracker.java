@@ -0,0 +1,301 @@
+package com.boot.news;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.boot.dao.StockNewsDAO;
+import com.boot.dto.StockNewsDTO;
+import com.boot.util.NewsDateUtil;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 실시간 트렌드 키워드 (1h / 24h / 7d)
+ * - 시간 버킷마다 Space-Saving 요약 하나 → 메모리는 (버킷 수 × capacity) 로 고정
+ *   10분 버킷 6개 (1h 창), 1시간 버킷 336개 (24h / 7d 창 + 각 창의 직전 기준 구간)
+ * - 조회 시 창에 걸친 버킷만 합산 → STOCK_NEWS 를 다시 읽지 않음
+ * - 응답에 추정 오차 범위를 함께 제공 (count 는 상한 쪽 추정, lowerBound 는 보장된 하한)
+ * - 급상승: 현재 창의 시간당 건수가 직전 기준 구간의 시간당 건수보다 spike-ratio 배 이상
+ * - 입력: /api/stocks/news 수집 경로(record) + 크롤러가 DB 에 직접 넣은 뉴스 주기 조회(poll)
+ *   같은 뉴스는 newsId 로 한 번만 반영
+ *   poll 은 lastNewsId 이후 신규 + 최근 POLL_LOOKBACK_MINUTES 안에 갱신된 행만 다시 읽으므로
+ *   반영한 newsId 는 그 구간을 덮는 SEEN_RETENTION_MINUTES 동안만 (최대 seen-max 건) 기억 → 뉴스량과 무관하게 메모리 고정
+ */
+@Component
+@RequiredArgsConstructor
+public class TrendingKeywordTracker {
+
+    private final StockNewsDAO stockNewsDAO;
+
+    @Value("${news.trending.capacity:200}")
+    private int capacity;
+
+    @Value("${news.trending.spike-ratio:3.0}")
+    private double spikeRatio;
+
+    @Value("${news.trending.spike-min-count:5}")
+    private long spikeMinCount;
+
+    // 중복 반영 방지용으로 기억하는 newsId 최대 건수
+    @Value("${news.trending.seen-max:50000}")
+    private int seenMax;
+
+    private static final long MINUTE = 60_000L;
+    private static final long FINE_MILLIS = 10 * MINUTE;
+    private static final long COARSE_MILLIS = 60 * MINUTE;
+    private static final int FINE_SLOTS = 6;          // 1시간
+    private static final int COARSE_SLOTS = 14 * 24;  // 14일 (7d 창 + 7d 기준 구간)
+
+    // 크롤러 감성 분석이 KEYWORDS 를 나중에 채우는 경우까지 잡기 위한 poll 조회 구간
+    private static final int POLL_LOOKBACK_MINUTES = 5;
+    // 반영한 newsId 를 기억하는 시간 (poll 재조회 구간 + 스케줄 지연 여유)
+    private static final long SEEN_RETENTION_MINUTES = 3L * POLL_LOOKBACK_MINUTES;
+
+    private Bucket[] fine;
+    private Bucket[] coarse;
+
+    // 최근 반영한 뉴스 (newsId → 반영 시각, 반영 순서), 보관 시간이 지나거나 seenMax 를 넘으면 오래된 것부터 정리
+    private final LinkedHashMap<Long, Long> seen = new LinkedHashMap<Long, Long>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+            return size() > seenMax;
+        }
+    };
+    private long lastNewsId = 0;
+    private long recorded = 0;
+
+    private final Object lock = new Object();
+
+    /** 조회 창: 현재 구간(시간) / 기준 구간(시간) */
+    public enum Window {
+        H1("1h", 1, 24),
+        H24("24h", 24, 168),
+        D7("7d", 168, 168);
+
+        final String label;
+        final int hours;
+        final int baselineHours;
+
+        Window(String label, int hours, int baselineHours) {
+            this.label = label;
+            this.hours = hours;
+            this.baselineHours = baselineHours;
+        }
+
+        public static Window of(String label) {
+            for (Window w : values()) {
+                if (w.label.equalsIgnoreCase(label)) return w;
+            }
+            throw new IllegalArgumentException("window 는 1h, 24h, 7d 중 하나: " + label);
+        }
+    }
+
+    // ================= 서버 시작 시 적재 =================
+    @PostConstruct
+    public void init() {
+        fine = new Bucket[FINE_SLOTS];
+        coarse = new Bucket[COARSE_SLOTS];
+        try {
+            // 최근 14일 뉴스로 버킷 채우기 (한 건씩 스트리밍)
+            stockNewsDAO.selectNewsKeywordsForTrend(COARSE_SLOTS / 24, ctx -> record(ctx.getResultObject()));
+            System.out.println("[TrendingKeywordTracker] 최근 뉴스 " + recorded + "건으로 초기화 완료");
+        } catch (Exception e) {
+            System.err.println("[TrendingKeywordTracker] 초기 적재 실패 - 이후 수집분부터 집계: " + e.getMessage());
+        }
+    }
+
+    // ================= 입력 =================
+    /** 뉴스 한 건 반영 (KEYWORDS 가 비어 있으면 건너뜀 → 나중에 채워지면 poll 로 반영) */
+    public void record(StockNewsDTO news) {
+        if (news == null) return;
+        // 반영하지 않는 뉴스도 poll 시작 위치는 넘김 (같은 행을 매번 다시 읽지 않도록)
+        if (news.getNewsId() != null) {
+            synchronized (lock) {
+                lastNewsId = Math.max(lastNewsId, news.getNewsId());
+            }
+        }
+        List<String> keywords = NewsKeywords.split(news.getKeywords());
+        if (keywords.isEmpty()) return;
+
+        long now = System.currentTimeMillis();
+        long time = Math.min(NewsDateUtil.toEpochMillis(news.getNewsDate()), now);
+        // 현재 시간 버킷과 슬롯을 같이 쓰는 14일 전 시간대(curHour - COARSE_SLOTS)부터 제외
+        if (time < (now / COARSE_MILLIS - COARSE_SLOTS + 1) * COARSE_MILLIS) return;
+
+        synchronized (lock) {
+            if (news.getNewsId() != null && seen.putIfAbsent(news.getNewsId(), now) != null) return;
+            Bucket f = bucket(fine, time / FINE_MILLIS);
+            Bucket c = bucket(coarse, time / COARSE_MILLIS);
+            // 그 사이 다른 스레드가 다음 시간대로 슬롯을 넘긴 경우
+            if (c == null) return;
+            recorded++;
+            for (String kw : keywords) {
+                String key = kw.toUpperCase(Locale.ROOT);
+                c.offer(key, kw);
+                if (f != null) f.offer(key, kw);
+            }
+        }
+    }
+
+    /** DB 에 직접 들어온 뉴스(크롤러)와 KEYWORDS 가 나중에 채워진 뉴스 반영 (스케줄러에서 호출) */
+    public void poll() {
+        long afterId;
+        synchronized (lock) {
+            afterId = lastNewsId;
+        }
+        for (StockNewsDTO news : stockNewsDAO.selectNewsKeywordsChanged(afterId, POLL_LOOKBACK_MINUTES, COARSE_SLOTS / 24)) {
+            record(news);
+        }
+        prune();
+    }
+
+    // 반영 순서대로 들어 있으므로 보관 시간이 지난 앞부분만 제거
+    private void prune() {
+        long cutoff = System.currentTimeMillis() - SEEN_RETENTION_MINUTES * MINUTE;
+        synchronized (lock) {
+            Iterator<Map.Entry<Long, Long>> it = seen.entrySet().iterator();
+            while (it.hasNext() && it.next().getValue() < cutoff) {
+                it.remove();
+            }
+        }
+    }
+
+    /** 슬롯이 다른 시간대의 버킷이면 비우고 재사용, 이미 지난 시간대면 null */
+    private Bucket bucket(Bucket[] ring, long epoch) {
+        int slot = (int) Math.floorMod(epoch, (long) ring.length);
+        Bucket b = ring[slot];
+        if (b == null) {
+            b = new Bucket(epoch, capacity);
+            ring[slot] = b;
+        } else if (b.epoch < epoch) {
+            b.reset(epoch);
+        } else if (b.epoch > epoch) {
+            return null;
+        }
+        return b;
+    }
+
+    // ================= 조회 =================
+    public Map<String, Object> trending(Window window, int limit) {
+        if (limit < 1) throw new IllegalArgumentException("limit 은 1 이상이어야 합니다: " + limit);
+        long now = System.currentTimeMillis();
+        long curHour = now / COARSE_MILLIS;
+
+        Merged current;
+        Merged baseline;
+        synchronized (lock) {
+            if (window == Window.H1) {
+                long curFine = now / FINE_MILLIS;
+                current = merge(fine, curFine - FINE_SLOTS + 1, curFine);
+                // 1h 창과 겹치지 않는 직전 24시간
+                baseline = merge(coarse, curHour - 1 - window.baselineHours, curHour - 2);
+            } else {
+                current = merge(coarse, curHour - window.hours + 1, curHour);
+                baseline = merge(coarse, curHour - window.hours - window.baselineHours + 1, curHour - window.hours);
+            }
+        }
+
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (Map.Entry<String, long[]> e : current.counts.entrySet()) {
+            long[] v = e.getValue();
+            long count = v[0];
+            long lowerBound = v[1];
+            long upperBound = count + current.sumMin - v[2];
+
+            long[] base = baseline.counts.get(e.getKey());
+            long baseCount = base == null ? 0 : base[0];
+
+            double currentRate = (double) count / window.hours;
+            // 기준 구간에 없던 키워드도 비교할 수 있도록 +1 보정
+            double baselineRate = (baseCount + 1.0) / window.baselineHours;
+            double ratio = currentRate / baselineRate;
+
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("keyword", current.labels.get(e.getKey()));
+            item.put("count", count);
+            item.put("lowerBound", lowerBound);
+            item.put("upperBound", upperBound);
+            item.put("baselineCount", baseCount);
+            item.put("ratio", Math.round(ratio * 100) / 100.0);
+            item.put("spike", lowerBound >= spikeMinCount && ratio >= spikeRatio);
+            items.add(item);
+        }
+        items.sort((a, b) -> Long.compare((Long) b.get("count"), (Long) a.get("count")));
+        if (items.size() > limit) items = new ArrayList<>(items.subList(0, limit));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("window", window.label);
+        result.put("totalCount", current.total);
+        result.put("capacityPerBucket", capacity);
+        // 어떤 키워드든 추정값과 실제 값의 차이는 이 값 이하 (버킷별 최소 카운트의 합 ≤ totalCount / capacity × 버킷 수)
+        result.put("maxError", current.sumMin);
+        result.put("keywords", items);
+        return result;
+    }
+
+    /**
+     * [fromEpoch, toEpoch] 버킷 합산
+     * counts: 키 → {count 합, (count - error) 합, 키가 있던 버킷들의 minCount 합}
+     */
+    private static Merged merge(Bucket[] ring, long fromEpoch, long toEpoch) {
+        Merged m = new Merged();
+        for (Bucket b : ring) {
+            if (b == null || b.epoch < fromEpoch || b.epoch > toEpoch) continue;
+            long min = b.sketch.minCount();
+            m.sumMin += min;
+            m.total += b.sketch.total();
+            b.sketch.forEach((item, count, error) -> {
+                long[] acc = m.counts.computeIfAbsent(item, k -> new long[3]);
+                acc[0] += count;
+                acc[1] += count - error;
+                acc[2] += min;
+                m.labels.putIfAbsent(item, b.labels.get(item));
+            });
+        }
+        return m;
+    }
+
+    // ================= 내부 자료구조 =================
+    private static final class Bucket {
+        long epoch;
+        final SpaceSaving sketch;
+        final Map<String, String> labels = new HashMap<>();  // 대문자 키 → 처음 들어온 원래 표기
+
+        Bucket(long epoch, int capacity) {
+            this.epoch = epoch;
+            this.sketch = new SpaceSaving(capacity);
+        }
+
+        void offer(String key, String label) {
+            sketch.offer(key);
+            labels.putIfAbsent(key, label);
+            // 요약에서 밀려난 키의 표기는 주기적으로 정리 (메모리 고정)
+            if (labels.size() > 2 * sketch.capacity()) {
+                labels.keySet().removeIf(k -> !sketch.contains(k));
+            }
+        }
+
+        void reset(long epoch) {
+            this.epoch = epoch;
+            sketch.clear();
+            labels.clear();
+        }
+    }
+
+    private static final class Merged {
+        final Map<String, long[]> counts = new HashMap<>();
+        final Map<String, String> labels = new HashMap<>();
+        long sumMin;
+        long total;
+    }
+}
@@ -0,0 +1,68 @@
+package com.boot.scheduler;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.boot.news.SentimentCube;
+import com.boot.news.TrendingKeywordTracker;
+import com.boot.search.NewsSearchIndex;
+
+@Component
+public class NewsScheduler {
+
+    // 감성 큐브 변경분 겹침 구간 (마지막으로 읽은 UPDATED_AT 보다 앞부터 다시 읽음, 같은 칸을 다시 읽어도 값 교체라 중복 없음)
+    private static final int SENTIMENT_OVERLAP_MINUTES = 5;
+
+    // 뉴스 검색 색인 갱신분 겹침 구간 (같은 UPDATED_AT 이면 다시 색인하지 않음)
+    private static final int NEWS_INDEX_OVERLAP_MINUTES = 5;
+
+    @Autowired
+    private TrendingKeywordTracker trendingKeywordTracker;
+
+    @Autowired
+    private SentimentCube sentimentCube;
+
+    @Autowired
+    private NewsSearchIndex newsSearchIndex;
+
+    // 크롤러가 DB 에 직접 넣은 뉴스 / 감성 분석으로 KEYWORDS 가 채워진 뉴스를 트렌드 요약에 반영
+    @Scheduled(fixedDelayString = "${news.trending.poll-ms:60000}", initialDelayString = "${news.trending.poll-ms:60000}")
+    public void pollNewsKeywords() {
+        try {
+            trendingKeywordTracker.poll();
+        } catch (Exception e) {
+            System.err.println("[SCHEDULER] 트렌드 키워드 반영 실패: " + e.getMessage());
+        }
+    }
+
+    // 트리거가 갱신한 감성 집계 칸을 메모리 큐브에 반영
+    @Scheduled(fixedDelayString = "${news.sentiment.refresh-ms:60000}", initialDelayString = "${news.sentiment.refresh-ms:60000}")
+    public void refreshSentimentCube() {
+        try {
+            sentimentCube.refresh(SENTIMENT_OVERLAP_MINUTES);
+        } catch (Exception e) {
+            System.err.println("[SCHEDULER] 감성 큐브 반영 실패: " + e.getMessage());
+        }
+    }
+
+    // 크롤러가 DB 에 직접 넣은 뉴스 / 감성 분석으로 갱신된 뉴스를 검색 색인에 반영
+    @Scheduled(fixedDelayString = "${search.news.index.poll-ms:60000}", initialDelayString = "${search.news.index.poll-ms:60000}")
+    public void pollNewsIndex() {
+        try {
+            newsSearchIndex.poll(NEWS_INDEX_OVERLAP_MINUTES);
+        } catch (Exception e) {
+            System.err.println("[SCHEDULER] 뉴스 검색 색인 반영 실패: " + e.getMessage());
+        }
+    }
+
+    // 삭제된 뉴스 정리 + 갱신으로 삭제 표시된 문서 공간 회수 (적재 중에도 기존 색인으로 검색)
+    @Scheduled(fixedDelayString = "${search.news.index.rebuild-ms:21600000}", initialDelayString = "${search.news.index.rebuild-ms:21600000}")
+    public void rebuildNewsIndex() {
+        try {
+            newsSearchIndex.rebuild();
+        } catch (Exception e) {
+            System.err.println("[SCHEDULER] 뉴스 검색 색인 재적재 실패: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.boot.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Aho–Corasick 다중 문자열 매칭 오토마톤
+ * - 등록된 모든 패턴을 본문 한 번의 선형 순회로 찾는다 (패턴 수와 무관하게 O(본문 길이 + 일치 수))
+ * - 대소문자 구분 없음 (패턴과 본문 모두 글자 단위 Character.toUpperCase 로 비교)
+ *   문자열 단위 대문자 변환은 "ß" → "SS" 처럼 길이가 바뀌어 본문과 어긋나고 위치도 틀어지므로 쓰지 않음
+ * - build() 이후에는 읽기 전용이므로 여러 스레드에서 동시에 scan 가능
+ */
+public final class AhoCorasick {
+
+    public interface MatchHandler {
+        /** @param start 시작 위치(포함) @param end 끝 위치(미포함) @param value 패턴 등록 시 넘긴 값 */
+        void onMatch(int start, int end, int value);
+    }
+
+    // 노드별 전이: 정렬된 문자 배열 + 대상 노드 (이진 탐색)
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] fail;
+    private final int[] output;      // 이 노드에서 끝나는 패턴 번호 (-1: 없음)
+    private final int[] outputLink;  // fail 경로상 다음 출력 노드 (-1: 없음)
+    private final int[] patternLength;
+    private final int[] patternValue;
+
+    private AhoCorasick(Builder b) {
+        int n = b.children.size();
+        labels = new char[n][];
+        targets = new int[n][];
+        fail = new int[n];
+        output = b.output.stream().mapToInt(Integer::intValue).toArray();
+        outputLink = new int[n];
+        patternLength = b.lengths.stream().mapToInt(Integer::intValue).toArray();
+        patternValue = b.values.stream().mapToInt(Integer::intValue).toArray();
+
+        for (int node = 0; node < n; node++) {
+            Map<Character, Integer> ch = b.children.get(node);
+            char[] keys = new char[ch.size()];
+            int i = 0;
+            for (char c : ch.keySet()) keys[i++] = c;
+            Arrays.sort(keys);
+            int[] next = new int[keys.length];
+            for (i = 0; i < keys.length; i++) next[i] = ch.get(keys[i]);
+            labels[node] = keys;
+            targets[node] = next;
+        }
+
+        // BFS 로 fail / output 링크 계산
+        Arrays.fill(outputLink, -1);
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[0]) {
+            fail[child] = 0;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < labels[node].length; i++) {
+                char c = labels[node][i];
+                int child = targets[node][i];
+
+                int f = fail[node];
+                while (f != 0 && step(f, c) < 0) f = fail[f];
+                int to = step(f, c);
+                fail[child] = (to >= 0 && to != child) ? to : 0;
+
+                int link = fail[child];
+                outputLink[child] = output[link] >= 0 ? link : outputLink[link];
+                queue.add(child);
+            }
+        }
+    }
+
+    private int step(int node, char c) {
+        int pos = Arrays.binarySearch(labels[node], c);
+        return pos < 0 ? -1 : targets[node][pos];
+    }
+
+    // ================= 검색 =================
+    public void scan(CharSequence text, MatchHandler handler) {
+        if (text == null) return;
+        int node = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = fold(text.charAt(i));
+
+            int next;
+            while ((next = step(node, c)) < 0 && node != 0) node = fail[node];
+            node = next < 0 ? 0 : next;
+
+            for (int out = output[node] >= 0 ? node : outputLink[node]; out >= 0; out = outputLink[out]) {
+                int p = output[out];
+                handler.onMatch(i + 1 - patternLength[p], i + 1, patternValue[p]);
+            }
+        }
+    }
+
+    public int size() {
+        return patternValue.length;
+    }
+
+    // 패턴과 본문에 같은 규칙 적용 (글자 수 유지)
+    static char fold(char c) {
+        return Character.toUpperCase(c);
+    }
+
+    // ================= 생성 =================
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private final List<Map<Character, Integer>> children = new ArrayList<>();
+        private final List<Integer> output = new ArrayList<>();
+        private final List<Integer> lengths = new ArrayList<>();
+        private final List<Integer> values = new ArrayList<>();
+
+        private Builder() {
+            newNode();
+        }
+
+        /** 같은 패턴을 다시 등록하면 먼저 등록한 값이 유지된다 */
+        public Builder add(String pattern, int value) {
+            if (pattern == null || pattern.isEmpty()) return this;
+            int node = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = fold(pattern.charAt(i));
+                Integer next = children.get(node).get(c);
+                if (next == null) {
+                    next = newNode();
+                    children.get(node).put(c, next);
+                }
+                node = next;
+            }
+            if (output.get(node) < 0) {
+                output.set(node, values.size());
+                lengths.add(pattern.length());
+                values.add(value);
+            }
+            return this;
+        }
+
+        public AhoCorasick build() {
+            return new AhoCorasick(this);
+        }
+
+        private int newNode() {
+            children.add(new HashMap<>());
+            output.add(-1);
+            return children.size() - 1;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.boot.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 편집 거리(Levenshtein) BK-tree
+ * - 노드 = 서로 다른 문자열 하나, 같은 문자열을 가진 docId 들은 한 노드에 모음
+ * - 자식은 부모와의 거리로 구분되므로, 질의와 노드의 거리가 d 이면
+ *   거리 [d - max, d + max] 인 자식만 내려가면 된다 (삼각 부등식) → 전체 문자열을 다 비교하지 않음
+ * - 삭제는 노드에서 docId 만 빼는 방식 (트리 구조는 유지, 빈 노드는 결과에서 제외)
+ *   종목명 변경이 쌓여 빈 노드가 전체의 절반을 넘으면 남은 노드로 트리를 다시 구성
+ * - 스레드 안전하지 않음 (호출하는 쪽에서 락으로 보호)
+ */
+public class BKTree {
+
+    private static final int COMPACT_MIN_EMPTY = 64;
+
+    private Node root;
+    private final Map<String, Node> nodes = new HashMap<>();
+    private int emptyNodes;
+
+    // ================= 등록 / 삭제 =================
+    public void add(int docId, String key) {
+        if (key == null || key.isEmpty()) return;
+
+        Node existing = nodes.get(key);
+        if (existing != null) {
+            if (existing.size == 0) emptyNodes--;
+            existing.addDoc(docId);
+            return;
+        }
+
+        Node node = new Node(key);
+        node.addDoc(docId);
+        nodes.put(key, node);
+
+        if (root == null) {
+            root = node;
+            return;
+        }
+        Node cur = root;
+        while (true) {
+            int d = distance(key, cur.key);
+            Node child = cur.children.get(d);
+            if (child == null) {
+                cur.children.put(d, node);
+                return;
+            }
+            cur = child;
+        }
+    }
+
+    public void remove(int docId, String key) {
+        if (key == null) return;
+        Node node = nodes.get(key);
+        if (node == null || !node.removeDoc(docId) || node.size > 0) return;
+        emptyNodes++;
+        if (emptyNodes >= COMPACT_MIN_EMPTY && emptyNodes * 2 > nodes.size()) {
+            compact();
+        }
+    }
+
+    public void clear() {
+        root = null;
+        nodes.clear();
+        emptyNodes = 0;
+    }
+
+    /** 빈 노드를 버리고 남은 노드로 다시 구성 */
+    private void compact() {
+        List<Node> live = new ArrayList<>(nodes.size() - emptyNodes);
+        for (Node node : nodes.values()) {
+            if (node.size > 0) live.add(node);
+        }
+        clear();
+        for (Node node : live) {
+            for (int i = 0; i < node.size; i++) {
+                add(node.docs[i], node.key);
+            }
+        }
+    }
+
+    // ================= 조회 =================
+    /** query 와의 편집 거리가 maxDistance 이하인 (docId, 거리) 목록 */
+    public List<Match> search(String query, int maxDistance) {
+        List<Match> result = new ArrayList<>();
+        if (root == null || query == null || query.isEmpty() || maxDistance < 0) return result;
+
+        List<Node> stack = new ArrayList<>();
+        stack.add(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.remove(stack.size() - 1);
+            int d = distance(query, node.key);
+            if (d <= maxDistance) {
+                for (int i = 0; i < node.size; i++) {
+                    result.add(new Match(node.docs[i], node.key, d));
+                }
+            }
+            for (Map.Entry<Integer, Node> e : node.children.entrySet()) {
+                int edge = e.getKey();
+                if (edge >= d - maxDistance && edge <= d + maxDistance) {
+                    stack.add(e.getValue());
+                }
+            }
+        }
+        return result;
+    }
+
+    /** 두 행만 쓰는 Levenshtein 거리 */
+    static int distance(String a, String b) {
+        if (a.equals(b)) return 0;
+        if (a.isEmpty()) return b.length();
+        if (b.isEmpty()) return a.length();
+
+        int[] prev = new int[b.length() + 1];
+        int[] cur = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) prev[j] = j;
+
+        for (int i = 1; i <= a.length(); i++) {
+            cur[0] = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = ca == b.charAt(j - 1) ? 0 : 1;
+                cur[j] = Math.min(Math.min(cur[j - 1] + 1, prev[j] + 1), prev[j - 1] + cost);
+            }
+            int[] tmp = prev;
+            prev = cur;
+            cur = tmp;
+        }
+        return prev[b.length()];
+    }
+
+    // ================= 내부 자료구조 =================
+    public static final class Match {
+        public final int docId;
+        public final String key;
+        public final int distance;
+
+        Match(int docId, String key, int distance) {
+            this.docId = docId;
+            this.key = key;
+            this.distance = distance;
+        }
+    }
+
+    private static final class Node {
+        final String key;
+        final Map<Integer, Node> children = new HashMap<>();
+        int[] docs = new int[1];
+        int size;
+
+        Node(String key) {
+            this.key = key;
+        }
+
+        void addDoc(int docId) {
+            for (int i = 0; i < size; i++) {
+                if (docs[i] == docId) return;
+            }
+            if (size == docs.length) docs = Arrays.copyOf(docs, size * 2);
+            docs[size++] = docId;
+        }
+
+        boolean removeDoc(int docId) {
+            for (int i = 0; i < size; i++) {
+                if (docs[i] == docId) {
+                    docs[i] = docs[--size];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.boot.search;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 한글 자모 분해 유틸
+ * - 초성 문자열: "삼성전자" → "ㅅㅅㅈㅈ"
+ * - 자모 문자열: "삼성" → "ㅅㅏㅁㅅㅓㅇ" (겹모음/겹받침은 낱자로 풀어서 "삼서" 같은 입력 중 글자도 부분 일치)
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final char COMPAT_JAMO_FIRST = 0x3131;
+    private static final char COMPAT_JAMO_LAST = 0x318E;
+
+    private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 단독으로 입력된 겹자모 (예: "ㄳ", "ㅘ") → 낱자
+    private static final Map<Character, String> COMPOUND = new HashMap<>();
+
+    static {
+        String[][] pairs = {
+                {"ㄳ", "ㄱㅅ"}, {"ㄵ", "ㄴㅈ"}, {"ㄶ", "ㄴㅎ"}, {"ㄺ", "ㄹㄱ"}, {"ㄻ", "ㄹㅁ"}, {"ㄼ", "ㄹㅂ"},
+                {"ㄽ", "ㄹㅅ"}, {"ㄾ", "ㄹㅌ"}, {"ㄿ", "ㄹㅍ"}, {"ㅀ", "ㄹㅎ"}, {"ㅄ", "ㅂㅅ"},
+                {"ㅘ", "ㅗㅏ"}, {"ㅙ", "ㅗㅐ"}, {"ㅚ", "ㅗㅣ"}, {"ㅝ", "ㅜㅓ"}, {"ㅞ", "ㅜㅔ"}, {"ㅟ", "ㅜㅣ"}, {"ㅢ", "ㅡㅣ"}
+        };
+        for (String[] p : pairs) {
+            COMPOUND.put(p[0].charAt(0), p[1]);
+        }
+    }
+
+    private HangulJamo() {
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+    }
+
+    public static boolean isCompatJamo(char c) {
+        return c >= COMPAT_JAMO_FIRST && c <= COMPAT_JAMO_LAST;
+    }
+
+    /** 한글(완성형 또는 자모)이 하나라도 포함되어 있는지 */
+    public static boolean containsHangul(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (isSyllable(c) || isCompatJamo(c)) return true;
+        }
+        return false;
+    }
+
+    /** "ㅅㅅㅈㅈ" 처럼 초성 자음만으로 이루어진 질의인지 */
+    public static boolean isChoseongOnly(String s) {
+        if (s.isEmpty()) return false;
+        for (int i = 0; i < s.length(); i++) {
+            if (CHO.indexOf(s.charAt(i)) < 0) return false;
+        }
+        return true;
+    }
+
+    /** 완성형 글자는 초성으로, 나머지 문자는 그대로 */
+    public static String choseong(String s) {
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (isSyllable(c)) {
+                sb.append(CHO.charAt((c - SYLLABLE_BASE) / (21 * 28)));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    public static String decompose(String s) {
+        return decompose(s, null);
+    }
+
+    /**
+     * 자모 문자열로 분해
+     * @param syllableStarts null 이 아니면 각 원래 글자가 시작되는 위치를 표시 (글자 경계에서만 일치로 인정하기 위함)
+     */
+    public static String decompose(String s, BitSet syllableStarts) {
+        StringBuilder sb = new StringBuilder(s.length() * 3);
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (syllableStarts != null) syllableStarts.set(sb.length());
+
+            if (isSyllable(c)) {
+                int offset = c - SYLLABLE_BASE;
+                sb.append(CHO.charAt(offset / (21 * 28)));
+                sb.append(JUNG[(offset % (21 * 28)) / 28]);
+                sb.append(JONG[offset % 28]);
+            } else {
+                String parts = COMPOUND.get(c);
+                sb.append(parts != null ? parts : String.valueOf(c));
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,122 @@
+package com.boot.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 문자 n-gram(1글자 + 2글자) 포스팅 리스트
+ * - gram → 정렬된 docId 배열
+ * - 후보 조회 비용은 전체 문서 수가 아니라 가장 짧은 포스팅 길이에 비례
+ * - 스레드 안전하지 않음 (호출하는 쪽에서 락으로 보호)
+ */
+public class NGramIndex {
+
+    private final Map<String, Posting> postings = new HashMap<>();
+
+    // ================= 등록 / 삭제 =================
+    public void add(int docId, String text) {
+        for (String gram : grams(text)) {
+            postings.computeIfAbsent(gram, g -> new Posting()).add(docId);
+        }
+    }
+
+    public void remove(int docId, String text) {
+        for (String gram : grams(text)) {
+            Posting p = postings.get(gram);
+            if (p == null) continue;
+            p.remove(docId);
+            if (p.size == 0) postings.remove(gram);
+        }
+    }
+
+    public void clear() {
+        postings.clear();
+    }
+
+    // ================= 후보 조회 =================
+    /**
+     * query 의 모든 gram 을 포함하는 docId 목록 (오름차순)
+     * - 1글자 질의는 unigram 포스팅 그대로, 2글자 이상은 bigram 교집합
+     * - bigram 교집합은 부분 문자열을 보장하지 않으므로 호출 측에서 contains 로 재검증해야 함
+     */
+    public int[] candidates(String query) {
+        if (query == null || query.isEmpty()) return new int[0];
+
+        if (query.length() == 1) {
+            Posting p = postings.get(query);
+            return p == null ? new int[0] : Arrays.copyOf(p.ids, p.size);
+        }
+
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 2 <= query.length(); i++) {
+            grams.add(query.substring(i, i + 2));
+        }
+
+        Posting[] lists = new Posting[grams.size()];
+        int n = 0;
+        for (String gram : grams) {
+            Posting p = postings.get(gram);
+            if (p == null) return new int[0];
+            lists[n++] = p;
+        }
+
+        // 가장 짧은 포스팅부터 교집합
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+
+        int[] result = Arrays.copyOf(lists[0].ids, lists[0].size);
+        int size = result.length;
+        for (int i = 1; i < lists.length && size > 0; i++) {
+            int kept = 0;
+            for (int j = 0; j < size; j++) {
+                if (lists[i].contains(result[j])) {
+                    result[kept++] = result[j];
+                }
+            }
+            size = kept;
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    // 중복 없는 unigram + bigram 목록
+    private static Set<String> grams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text == null) return grams;
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + 2 <= text.length()) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    // ================= 정렬된 int 포스팅 =================
+    private static final class Posting {
+        int[] ids = new int[4];
+        int size;
+
+        void add(int id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos >= 0) return;
+            pos = -pos - 1;
+            if (size == ids.length) ids = Arrays.copyOf(ids, size * 2);
+            System.arraycopy(ids, pos, ids, pos + 1, size - pos);
+            ids[pos] = id;
+            size++;
+        }
+
+        void remove(int id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos < 0) return;
+            System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+            size--;
+        }
+
+        boolean contains(int id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+    }
+}
@@ -0,0 +1,493 @@
+package com.boot.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.stereotype.Component;
+
+import com.boot.dao.StockInfoDAO;
+import com.boot.dto.StockNewsDTO;
+import com.boot.util.NewsDateUtil;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 뉴스 제목/본문 인메모리 역색인 (BM25 + 최신성 가중치)
+ * - 서버 시작 시 STOCK_NEWS 를 스트리밍으로 한 번 적재하고, insertStockNews 때마다 증분 추가
+ * - 크롤러가 DB 에 직접 넣은 뉴스 / 감성 분석으로 갱신된 뉴스는 poll() 로 반영 (NewsScheduler)
+ *   마지막으로 읽은 NEWS_ID 이후 신규 + 마지막 UPDATED_AT (겹침 구간 포함) 이후 갱신분
+ *   갱신된 뉴스는 기존 문서를 삭제 표시하고 새로 추가 (삭제 표시 문서는 검색에서 제외)
+ * - 삭제된 뉴스 정리 / 삭제 표시 문서 공간 회수는 주기적 rebuild() (NewsScheduler)
+ *   재적재는 새 색인에 만든 뒤 잠금 안에서 교체 (적재 중에도 기존 색인으로 검색, 그동안 추가된 뉴스는 교체 시 반영)
+ * - 토큰은 NewsTokenizer(bigram), 제목 토큰은 TITLE_WEIGHT 배로 계산
+ * - 질의 토큰을 모두 포함하는 문서가 후보, 후보는 포스팅의 토큰 위치로 질의가 연속으로 있는지 확인
+ *   → 기존 LIKE 검색과 같은 결과 (bigram 만 모두 있고 이어지지 않는 문서 제외)
+ *   기호로 끊긴 질의 ("삼성-전자") 는 같은 자리에서 구간이 끊긴 문서만 (기호 종류는 구분하지 않음)
+ *   위치는 문서마다 가변 길이 정수(차이값)로 압축 저장, 제목/본문 원문은 보관하지 않음
+ * - 1글자 구간이 있는 질의 ("삼") 는 색인으로 찾을 수 없음 → supports() 가 false, 호출하는 쪽에서 SQL 검색
+ * - IDF 의 문서 빈도(df) 는 삭제 표시 문서를 뺀 값
+ * - 상위 k 개만 크기 k 의 min-heap 으로 유지
+ * - 본문은 색인에만 쓰고 결과 DTO 에는 담지 않는다
+ */
+@Component
+@RequiredArgsConstructor
+public class NewsSearchIndex {
+
+    private final StockInfoDAO stockInfoDAO;
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 2;
+
+    // 최신성 가중치: score * (1 + RECENCY_WEIGHT * 0.5^(경과일 / 반감기))
+    private static final double RECENCY_WEIGHT = 1.0;
+    private static final double RECENCY_HALF_LIFE_DAYS = 7.0;
+    private static final double MILLIS_PER_DAY = 24 * 60 * 60 * 1000.0;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Index index = new Index();
+    // 재적재 중 add() 로 들어온 뉴스 (새 색인으로 교체할 때 다시 추가), 재적재 중이 아니면 null
+    private List<StockNewsDTO> pending;
+
+    private volatile boolean ready = false;
+
+    // poll 시작 위치 (rebuild / poll 안에서만 사용)
+    private long lastNewsId = 0;
+    private String lastUpdatedAt;
+
+    // ================= 서버 시작 시 적재 =================
+    @PostConstruct
+    public void init() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            System.err.println("[NewsSearchIndex] 초기 적재 실패 - SQL 검색으로 대체: " + e.getMessage());
+        }
+    }
+
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Index fresh = new Index();
+        long[] maxId = { 0 };
+        String[] latest = { null };
+        try {
+            // 잠금 없이 새 색인에 적재, 전체 결과를 List 로 만들지 않고 한 건씩 색인
+            stockInfoDAO.selectAllNewsForIndex(ctx -> {
+                StockNewsDTO news = ctx.getResultObject();
+                fresh.add(news);
+                if (news.getNewsId() != null) maxId[0] = Math.max(maxId[0], news.getNewsId());
+                latest[0] = later(latest[0], news.getUpdatedAt());
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // 적재 중 들어온 뉴스 (이미 적재된 NEWS_ID 는 Index.add 에서 무시)
+            for (StockNewsDTO news : pending) fresh.add(news);
+            pending = null;
+            index = fresh;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        lastNewsId = maxId[0];
+        lastUpdatedAt = latest[0];
+        System.out.println("[NewsSearchIndex] 뉴스 " + fresh.live + "건 / 토큰 " + fresh.postings.size() + "개 색인 완료");
+    }
+
+    /**
+     * DB 에 직접 들어온 뉴스(크롤러)와 갱신된 뉴스 반영 (스케줄러에서 호출)
+     * @param overlapMinutes 마지막 UPDATED_AT 보다 이만큼 앞부터 다시 읽음 (늦게 커밋된 갱신분)
+     */
+    public synchronized void poll(int overlapMinutes) {
+        if (!ready) {
+            // 초기 적재 실패 등
+            rebuild();
+            return;
+        }
+        List<StockNewsDTO> changed = stockInfoDAO.selectNewsForIndexChanged(lastNewsId, lastUpdatedAt, overlapMinutes);
+        if (changed.isEmpty()) return;
+
+        long maxId = lastNewsId;
+        String latest = lastUpdatedAt;
+        int replaced = 0;
+        lock.writeLock().lock();
+        try {
+            for (StockNewsDTO news : changed) {
+                if (news.getNewsId() != null && news.getNewsId() > lastNewsId) {
+                    // 신규 (수집 API 로 이미 add 된 뉴스는 무시)
+                    index.add(news);
+                } else if (index.replace(news)) {
+                    replaced++;
+                }
+                if (news.getNewsId() != null) maxId = Math.max(maxId, news.getNewsId());
+                latest = later(latest, news.getUpdatedAt());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        lastNewsId = maxId;
+        lastUpdatedAt = latest;
+        if (replaced > 0) {
+            System.out.println("[NewsSearchIndex] 갱신된 뉴스 " + replaced + "건 재색인");
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /** 색인으로 찾을 수 있는 질의인지 (1글자 구간이 없는 질의) */
+    public boolean supports(String keyword) {
+        List<String> tokens = NewsTokenizer.tokenize(keyword);
+        return !tokens.isEmpty() && NewsTokenizer.isBigramOnly(tokens);
+    }
+
+    // ================= 증분 반영 =================
+    public void add(StockNewsDTO news) {
+        if (news == null) return;
+        lock.writeLock().lock();
+        try {
+            index.add(news);
+            if (pending != null) pending.add(news);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ================= 검색 =================
+    public List<StockNewsDTO> search(String keyword, int k) {
+        List<QueryToken> query = new ArrayList<>();
+        NewsTokenizer.tokenize(keyword, 0, (token, position, runStart) -> query.add(new QueryToken(token, position, runStart)));
+        Set<String> terms = new LinkedHashSet<>();
+        for (QueryToken q : query) terms.add(q.term);
+        if (terms.isEmpty() || k <= 0) return Collections.emptyList();
+
+        long now = System.currentTimeMillis();
+        PriorityQueue<Scored> heap = new PriorityQueue<>(k);
+
+        lock.readLock().lock();
+        try {
+            Index idx = index;
+            int n = idx.live;
+            if (n == 0) return Collections.emptyList();
+            double avgLength = (double) idx.totalLength / n;
+
+            Map<String, Posting> byTerm = new HashMap<>();
+            for (String term : terms) {
+                Posting p = idx.postings.get(term);
+                if (p == null) return Collections.emptyList();
+                byTerm.put(term, p);
+            }
+            Posting[] lists = byTerm.values().toArray(new Posting[0]);
+            double[] idf = new double[lists.length];
+            Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+            for (int i = 0; i < lists.length; i++) {
+                int df = Math.max(1, lists[i].liveDf(idx));
+                idf[i] = Math.log(1 + (n - df + 0.5) / (df + 0.5));
+            }
+
+            // 가장 짧은 포스팅을 기준으로 나머지 포스팅에 모두 있는 문서만 점수 계산
+            Posting first = lists[0];
+            outer:
+            for (int i = 0; i < first.size; i++) {
+                int docId = first.docs[i];
+                Doc doc = idx.docs.get(docId);
+                if (doc.deleted) continue;
+                double norm = K1 * (1 - B + B * doc.length / avgLength);
+
+                double score = idf[0] * bm25(first.tfs[i], norm);
+                for (int j = 1; j < lists.length; j++) {
+                    int tf = lists[j].tf(docId);
+                    if (tf == 0) continue outer;
+                    score += idf[j] * bm25(tf, norm);
+                }
+                // bigram 이 모두 있어도 질의가 이어져 있지 않으면 제외 (LIKE 와 같은 조건)
+                if (!isPhrase(query, byTerm, docId)) continue;
+
+                double ageDays = Math.max(0, now - doc.epochMillis) / MILLIS_PER_DAY;
+                score *= 1 + RECENCY_WEIGHT * Math.pow(0.5, ageDays / RECENCY_HALF_LIFE_DAYS);
+
+                if (heap.size() < k) {
+                    heap.offer(new Scored(doc, score));
+                } else if (score > heap.peek().score) {
+                    heap.poll();
+                    heap.offer(new Scored(doc, score));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<StockNewsDTO> result = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            result.add(heap.poll().doc.news);
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * 문서 안에 질의 토큰이 질의와 같은 간격으로 있는지
+     * - 첫 토큰의 위치마다 나머지 토큰이 (첫 위치 + 질의 안 간격) 에 있는지 확인
+     * - 질의에서 기호 뒤 구간의 첫 토큰은 문서에서도 구간 첫 토큰이어야 함 ("삼성-전자" 가 "삼성전자" 에 걸리지 않도록)
+     */
+    private static boolean isPhrase(List<QueryToken> query, Map<String, Posting> byTerm, int docId) {
+        if (query.size() == 1) return true;
+        Map<String, int[]> positions = new HashMap<>();
+        for (QueryToken q : query) {
+            positions.computeIfAbsent(q.term, t -> byTerm.get(t).positions(docId));
+        }
+
+        QueryToken head = query.get(0);
+        for (int encoded : positions.get(head.term)) {
+            int base = (encoded >>> 1) - head.position;
+            boolean match = true;
+            for (int i = 1; i < query.size() && match; i++) {
+                QueryToken q = query.get(i);
+                int at = (base + q.position) << 1;
+                match = Arrays.binarySearch(positions.get(q.term), q.runStart ? at | 1 : at) >= 0;
+            }
+            if (match) return true;
+        }
+        return false;
+    }
+
+    private static String later(String a, String b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    private static double bm25(int tf, double norm) {
+        return tf * (K1 + 1) / (tf + norm);
+    }
+
+    // 결과용 DTO (본문 제외)
+    private static StockNewsDTO summaryOf(StockNewsDTO n) {
+        return new StockNewsDTO(
+                n.getNewsId(), n.getStockCode(), n.getTitle(), null, n.getUrl(),
+                n.getNewsDate(), n.getCreatedAt(), n.getSentiment(), n.getScore(),
+                n.getKeywords(), n.getUpdatedAt(), n.getCanonicalNewsId(), null);
+    }
+
+    // ================= 내부 자료구조 =================
+    /** 색인 한 벌 (재적재 시 새로 만들어 통째로 교체) */
+    private static final class Index {
+        final List<Doc> docs = new ArrayList<>();
+        final Map<Long, Integer> docIdByNewsId = new HashMap<>();
+        final Map<String, Posting> postings = new HashMap<>();
+        // 삭제 표시한 문서 순서대로 (포스팅별 df 를 조회 시점에 따라잡음)
+        int[] deletedDocs = new int[16];
+        int deletedCount = 0;
+        long totalLength = 0;
+        int live = 0;  // 삭제 표시되지 않은 문서 수
+
+        /** 갱신된 뉴스: 기존 문서 삭제 표시 후 다시 추가, UPDATED_AT 이 같으면 (겹침 구간 재조회) 그대로 */
+        boolean replace(StockNewsDTO news) {
+            Integer old = news.getNewsId() == null ? null : docIdByNewsId.get(news.getNewsId());
+            if (old != null) {
+                Doc doc = docs.get(old);
+                if (Objects.equals(doc.news.getUpdatedAt(), news.getUpdatedAt())) return false;
+                doc.deleted = true;
+                totalLength -= doc.length;
+                live--;
+                docIdByNewsId.remove(news.getNewsId());
+                if (deletedCount == deletedDocs.length) deletedDocs = Arrays.copyOf(deletedDocs, deletedCount * 2);
+                deletedDocs[deletedCount++] = old;
+            }
+            add(news);
+            return true;
+        }
+
+        void add(StockNewsDTO news) {
+            // 같은 뉴스가 다시 들어오면 무시 (URL UNIQUE 와 동일한 효과)
+            if (news.getNewsId() != null && docIdByNewsId.containsKey(news.getNewsId())) return;
+
+            // 토큰별 가중 빈도 + 위치 (제목 다음 빈 위치를 하나 더 두어 제목 끝과 본문 시작이 이어지지 않게)
+            Map<String, TermStats> terms = new HashMap<>();
+            int[] length = { 0 };
+            int next = NewsTokenizer.tokenize(news.getTitle(), 0, (token, position, runStart) -> {
+                terms.computeIfAbsent(token, t -> new TermStats()).add(TITLE_WEIGHT, position, runStart);
+                length[0] += TITLE_WEIGHT;
+            });
+            NewsTokenizer.tokenize(news.getContent(), next + 1, (token, position, runStart) -> {
+                terms.computeIfAbsent(token, t -> new TermStats()).add(1, position, runStart);
+                length[0]++;
+            });
+
+            int docId = docs.size();
+            docs.add(new Doc(summaryOf(news), length[0], NewsDateUtil.toEpochMillis(news.getNewsDate())));
+            if (news.getNewsId() != null) docIdByNewsId.put(news.getNewsId(), docId);
+            totalLength += length[0];
+            live++;
+
+            // docId 는 단조 증가하므로 뒤에 붙이기만 해도 포스팅이 정렬 상태로 유지됨
+            for (Map.Entry<String, TermStats> e : terms.entrySet()) {
+                TermStats t = e.getValue();
+                postings.computeIfAbsent(e.getKey(), k -> new Posting()).append(docId, t.tf, t.positions, t.count);
+            }
+        }
+    }
+
+    private static final class Doc {
+        final StockNewsDTO news;
+        final int length;
+        final long epochMillis;
+        boolean deleted;
+
+        Doc(StockNewsDTO news, int length, long epochMillis) {
+            this.news = news;
+            this.length = length;
+            this.epochMillis = epochMillis;
+        }
+    }
+
+    /** 색인 중 문서 하나의 토큰 통계 (위치는 (위치 << 1) | 구간 시작 여부) */
+    private static final class TermStats {
+        int tf;
+        int[] positions = new int[2];
+        int count;
+
+        void add(int weight, int position, boolean runStart) {
+            tf += weight;
+            if (count == positions.length) positions = Arrays.copyOf(positions, count * 2);
+            positions[count++] = position << 1 | (runStart ? 1 : 0);
+        }
+    }
+
+    private static final class Posting {
+        int[] docs = new int[4];
+        int[] tfs = new int[4];
+        // docs[i] 의 위치 목록이 positions 에서 시작하는 곳 (가변 길이 정수, 앞 위치와의 차이)
+        int[] positionStarts = new int[4];
+        byte[] positions = new byte[16];
+        int positionLength;
+        int size;
+
+        // 삭제 표시 문서 반영 상태 (liveDf)
+        int deleted;
+        int seenDeletes;
+
+        void append(int docId, int tf, int[] docPositions, int count) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                tfs = Arrays.copyOf(tfs, size * 2);
+                positionStarts = Arrays.copyOf(positionStarts, size * 2);
+            }
+            docs[size] = docId;
+            tfs[size] = tf;
+            positionStarts[size] = positionLength;
+            size++;
+
+            int prev = 0;
+            for (int i = 0; i < count; i++) {
+                writeVarInt(docPositions[i] - prev);
+                prev = docPositions[i];
+            }
+        }
+
+        int tf(int docId) {
+            int pos = Arrays.binarySearch(docs, 0, size, docId);
+            return pos < 0 ? 0 : tfs[pos];
+        }
+
+        /** 문서의 위치 목록 (오름차순), 없으면 빈 배열 */
+        int[] positions(int docId) {
+            int pos = Arrays.binarySearch(docs, 0, size, docId);
+            if (pos < 0) return new int[0];
+            int from = positionStarts[pos];
+            int to = pos + 1 < size ? positionStarts[pos + 1] : positionLength;
+
+            int[] result = new int[to - from];
+            int count = 0;
+            int value = 0;
+            for (int i = from; i < to;) {
+                int delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = positions[i++];
+                    delta |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                value += delta;
+                result[count++] = value;
+            }
+            return Arrays.copyOf(result, count);
+        }
+
+        /** 삭제 표시 문서를 뺀 문서 빈도 (조회 시점에 새로 삭제된 문서만 확인, 읽기 잠금 안에서 동시에 호출될 수 있음) */
+        synchronized int liveDf(Index idx) {
+            for (; seenDeletes < idx.deletedCount; seenDeletes++) {
+                if (Arrays.binarySearch(docs, 0, size, idx.deletedDocs[seenDeletes]) >= 0) deleted++;
+            }
+            return size - deleted;
+        }
+
+        private void writeVarInt(int value) {
+            if (positionLength + 5 > positions.length) {
+                positions = Arrays.copyOf(positions, Math.max(positions.length * 2, positionLength + 5));
+            }
+            while ((value & ~0x7F) != 0) {
+                positions[positionLength++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            positions[positionLength++] = (byte) value;
+        }
+    }
+
+    private static final class QueryToken {
+        final String term;
+        final int position;
+        final boolean runStart;
+
+        QueryToken(String term, int position, boolean runStart) {
+            this.term = term;
+            this.position = position;
+            this.runStart = runStart;
+        }
+    }
+
+    private static final class Scored implements Comparable<Scored> {
+        final Doc doc;
+        final double score;
+
+        Scored(Doc doc, double score) {
+            this.doc = doc;
+            this.score = score;
+        }
+
+        @Override
+        public int compareTo(Scored o) {
+            return Double.compare(score, o.score);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.boot.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 뉴스 검색용 토크나이저 (한국어 bigram)
+ * - 대문자 변환 후 공백은 제거하고(띄어쓰기 무시), 문자/숫자가 아닌 기호에서만 끊는다
+ * - 끊긴 구간마다 2글자씩 겹쳐서 토큰 생성, 1글자 구간은 그대로 1글자 토큰
+ *   예) "삼성 전자, HBM 공급" → [삼성, 성전, 전자, HB, BM, M공, 공급]
+ * - 색인과 질의에 같은 규칙을 쓰므로 "삼성 전자" 로 검색해도 "삼성전자" 가 걸린다
+ * - 1글자 토큰은 문서 안의 1글자 구간과만 일치 → 1글자 구간이 있는 질의는 부분 문자열 검색으로 대체 (isBigramOnly)
+ * - 위치: 구간 안에서는 1씩 증가, 구간이 끝나면 위치 하나를 비움 (구간 첫 토큰은 runStart 표시)
+ *   예) "삼성전자" → 삼성@0 성전@1 전자@2, "삼성-전자" → 삼성@0(시작) 전자@2(시작)
+ *   → 질의 토큰이 같은 간격으로 있는지로 연속 일치를 확인 (NewsSearchIndex)
+ */
+public final class NewsTokenizer {
+
+    /** 위치가 있는 토큰 */
+    public interface TokenHandler {
+        void onToken(String token, int position, boolean runStart);
+    }
+
+    private NewsTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        tokenize(text, 0, (token, position, runStart) -> tokens.add(token));
+        return tokens;
+    }
+
+    /**
+     * start 위치부터 토큰 생성
+     * @return 마지막 구간 뒤 빈 위치 다음 (다른 필드를 이어 붙일 때 시작 위치)
+     */
+    public static int tokenize(String text, int start, TokenHandler handler) {
+        if (text == null || text.isEmpty()) return start;
+
+        String upper = text.toUpperCase(Locale.ROOT);
+        StringBuilder run = new StringBuilder();
+        int position = start;
+
+        for (int i = 0; i < upper.length(); i++) {
+            char c = upper.charAt(i);
+            if (Character.isWhitespace(c) || Character.isSpaceChar(c)) continue;
+            if (Character.isLetterOrDigit(c)) {
+                run.append(c);
+            } else {
+                position = flush(run, position, handler);
+            }
+        }
+        return flush(run, position, handler);
+    }
+
+    /** 모든 토큰이 2글자인지 (색인 검색 결과가 부분 문자열 검색과 같은 질의) */
+    public static boolean isBigramOnly(List<String> tokens) {
+        for (String token : tokens) {
+            if (token.length() < 2) return false;
+        }
+        return true;
+    }
+
+    private static int flush(StringBuilder run, int position, TokenHandler handler) {
+        if (run.length() == 0) return position;
+        if (run.length() == 1) {
+            handler.onToken(run.toString(), position++, true);
+        } else {
+            for (int i = 0; i + 2 <= run.length(); i++) {
+                handler.onToken(run.substring(i, i + 2), position++, i == 0);
+            }
+        }
+        run.setLength(0);
+        // 구간 사이 빈 위치
+        return position + 1;
+    }
+}
@@ -0,0 +1,430 @@
+package com.boot.search;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.boot.dao.StockInfoDAO;
+import com.boot.dto.StockAliasDTO;
+import com.boot.dto.StockInfoDTO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 종목 자동완성용 인메모리 검색 인덱스
+ * - STOCK_INFO 전체를 서버 시작 시 한 번 적재하고, insertStockInfo 때마다 증분 반영
+ * - 공백 제거 + 대문자 변환한 종목명/종목코드/별칭(STOCK_ALIAS)을 같은 n-gram 포스팅으로 색인
+ *   → "삼전", "하닉" 같은 별칭도 종목명과 같은 한 번의 조회로 해석 (별칭 전용 조회 없음)
+ * - 한글 초성 질의("ㅅㅅㅈㅈ")와 입력 중인 마지막 글자("삼서")는 초성/자모 n-gram 으로 별도 색인
+ * - 정렬: 완전 일치 → 접두 일치 → 시가총액 내림차순 (기존 searchStocks SQL 과 동일한 순서)
+ *   시가총액이 없거나 숫자가 없는 종목은 SQL(Oracle DESC 기본값 NULLS FIRST)처럼 같은 단계의 맨 앞
+ *   같은 단계에서는 글자 그대로 일치한 종목이 초성/자모로만 일치한 종목보다 앞선다
+ * - 위 결과가 fuzzy.min-hits 건 미만이면 오타 보정(BK-tree, 자모 단위 편집 거리) 결과를 뒤에 덧붙인다
+ *   예) "삼송전자" → 삼성전자, "SK하이닉슨" → SK하이닉스
+ *   종목명과 별칭이 모두 걸리면 가장 가까운 거리로 정렬, 현재 종목명/별칭이 아닌 키로 걸린 결과는 제외
+ */
+@Component
+@RequiredArgsConstructor
+public class StockSearchIndex {
+
+    private final StockInfoDAO stockInfoDAO;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // docId = entries 의 인덱스 (한 번 부여된 docId 는 재사용하지 않음)
+    private final List<Entry> entries = new ArrayList<>();
+    private final Map<String, Integer> docIdByCode = new HashMap<>();
+    private final NGramIndex grams = new NGramIndex();
+    private final NGramIndex choseongGrams = new NGramIndex();
+    private final NGramIndex jamoGrams = new NGramIndex();
+    private final BKTree fuzzyTree = new BKTree();
+
+    // 종목코드 → 정규화된 별칭 목록 (reloadAliases 로 교체)
+    private Map<String, List<String>> aliasesByCode = new HashMap<>();
+
+    // 오타 보정 최대 편집 거리 (0 이면 사용 안 함)
+    @Value("${search.stock.fuzzy.max-distance:2}")
+    private int fuzzyMaxDistance;
+
+    // 일반 검색 결과가 이 건수 미만일 때만 오타 보정 검색 수행
+    @Value("${search.stock.fuzzy.min-hits:3}")
+    private int fuzzyMinHits;
+
+    private volatile boolean ready = false;
+
+    // ================= 서버 시작 시 적재 =================
+    @PostConstruct
+    public void init() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            // DB 가 아직 준비되지 않았으면 SQL 검색으로 동작 (ready=false)
+            System.err.println("[StockSearchIndex] 초기 적재 실패 - SQL 검색으로 대체: " + e.getMessage());
+        }
+    }
+
+    public void rebuild() {
+        List<StockInfoDTO> all = stockInfoDAO.selectAllStocksForIndex();
+        Map<String, List<String>> aliases;
+        try {
+            aliases = loadAliases();
+        } catch (Exception e) {
+            // 별칭 테이블이 없어도 종목명 검색은 동작
+            System.err.println("[StockSearchIndex] 별칭 사전 적재 실패 - 별칭 없이 색인: " + e.getMessage());
+            aliases = new HashMap<>();
+        }
+
+        lock.writeLock().lock();
+        try {
+            aliasesByCode = aliases;
+            entries.clear();
+            docIdByCode.clear();
+            grams.clear();
+            choseongGrams.clear();
+            jamoGrams.clear();
+            fuzzyTree.clear();
+            for (StockInfoDTO dto : all) {
+                put(dto);
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        System.out.println("[StockSearchIndex] 종목 " + all.size() + "건 색인 완료");
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ================= 증분 반영 =================
+    /**
+     * insertStockInfo(MERGE) 와 같은 규칙으로 반영
+     * - 신규 종목: 전체 컬럼 등록
+     * - 기존 종목: STOCK_NAME / PRICE / CHANGE_RATE 만 갱신 (나머지는 기존 값 유지)
+     * @return 신규 종목이거나 종목명이 바뀌었는지 (검색어와 일치하는 종목이 달라질 수 있는 변경)
+     */
+    public boolean upsert(StockInfoDTO dto) {
+        if (dto == null || dto.getStockCode() == null) return false;
+
+        lock.writeLock().lock();
+        try {
+            Integer docId = docIdByCode.get(dto.getStockCode());
+            if (docId == null) {
+                put(copyOf(dto));
+                return true;
+            }
+
+            Entry old = entries.get(docId);
+            StockInfoDTO merged = copyOf(old.dto);
+            merged.setStockName(dto.getStockName());
+            merged.setPrice(dto.getPrice());
+            merged.setChangeRate(dto.getChangeRate());
+
+            unindex(old);
+            Entry updated = new Entry(docId, merged, old.aliases);
+            entries.set(docId, updated);
+            index(updated);
+            return !updated.name.equals(old.name);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ================= 별칭 사전 =================
+    /**
+     * STOCK_ALIAS 를 다시 읽어 모든 종목의 별칭 색인을 교체 (관리자 API 에서 호출)
+     * @return 적재된 별칭 수
+     */
+    public int reloadAliases() {
+        Map<String, List<String>> aliases = loadAliases();
+
+        lock.writeLock().lock();
+        try {
+            aliasesByCode = aliases;
+            for (int docId = 0; docId < entries.size(); docId++) {
+                Entry old = entries.get(docId);
+                List<String> next = aliases.getOrDefault(old.code, Collections.emptyList());
+                if (next.equals(old.aliases)) continue;
+
+                unindex(old);
+                Entry updated = new Entry(docId, old.dto, next);
+                entries.set(docId, updated);
+                index(updated);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        int count = 0;
+        for (List<String> list : aliases.values()) count += list.size();
+        System.out.println("[StockSearchIndex] 별칭 " + count + "건 적재 완료");
+        return count;
+    }
+
+    private Map<String, List<String>> loadAliases() {
+        Map<String, List<String>> result = new HashMap<>();
+        for (StockAliasDTO a : stockInfoDAO.selectAllStockAliases()) {
+            String alias = normalize(a.getAlias());
+            String code = normalize(a.getStockCode());
+            if (alias.isEmpty() || code.isEmpty()) continue;
+            List<String> list = result.computeIfAbsent(code, c -> new ArrayList<>());
+            if (!list.contains(alias)) list.add(alias);
+        }
+        return result;
+    }
+
+    // ================= 검색 =================
+    public List<StockInfoDTO> search(String keyword) {
+        String q = normalize(keyword);
+        List<StockInfoDTO> result = new ArrayList<>();
+        if (q.isEmpty()) return result;
+
+        // "ㅅㅅㅈㅈ" → 초성 색인, 그 외 한글 포함 질의 → 자모 색인도 함께 조회
+        boolean choseongQuery = HangulJamo.isChoseongOnly(q);
+        String jamoQuery = !choseongQuery && HangulJamo.containsHangul(q)
+                ? HangulJamo.decompose(q) : null;
+
+        Map<Integer, Hit> hits = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            for (int docId : grams.candidates(q)) {
+                Entry e = entries.get(docId);
+                int rank = e.rank(q);
+                if (rank < NO_MATCH) {
+                    hits.put(docId, new Hit(e, rank, false, 0));
+                }
+            }
+
+            if (choseongQuery) {
+                for (int docId : choseongGrams.candidates(q)) {
+                    Entry e = entries.get(docId);
+                    int rank = rankOf(e.choseong, q);
+                    if (rank < NO_MATCH) {
+                        hits.putIfAbsent(docId, new Hit(e, rank, true, 0));
+                    }
+                }
+            }
+
+            if (jamoQuery != null) {
+                for (int docId : jamoGrams.candidates(jamoQuery)) {
+                    if (hits.containsKey(docId)) continue;
+                    Entry e = entries.get(docId);
+                    int rank = e.jamoRank(jamoQuery);
+                    if (rank < NO_MATCH) {
+                        hits.put(docId, new Hit(e, rank, true, 0));
+                    }
+                }
+            }
+
+            // 오타 보정: 결과가 부족할 때만 (초성 질의는 제외)
+            if (hits.size() < fuzzyMinHits && !choseongQuery) {
+                String fuzzyQuery = jamoQuery != null ? jamoQuery : q;
+                int maxDistance = fuzzyDistance(fuzzyQuery);
+                if (maxDistance > 0) {
+                    for (BKTree.Match m : fuzzyTree.search(fuzzyQuery, maxDistance)) {
+                        Hit prev = hits.get(m.docId);
+                        // 일반 검색으로 이미 걸렸거나, 같은 종목의 다른 키(종목명/별칭)가 더 가까우면 유지
+                        if (prev != null && (prev.rank != FUZZY || prev.distance <= m.distance)) continue;
+                        Entry e = entries.get(m.docId);
+                        if (!e.hasFuzzyKey(m.key)) continue;
+                        hits.put(m.docId, new Hit(e, FUZZY, true, m.distance));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Hit> sorted = new ArrayList<>(hits.values());
+        sorted.sort(HIT_ORDER);
+        for (Hit h : sorted) {
+            result.add(h.entry.dto);
+        }
+        return result;
+    }
+
+    // ================= 내부 구현 =================
+    private void put(StockInfoDTO dto) {
+        Integer existing = docIdByCode.get(dto.getStockCode());
+        if (existing != null) {
+            unindex(entries.get(existing));
+            Entry e = new Entry(existing, dto, aliasesOf(dto));
+            entries.set(existing, e);
+            index(e);
+            return;
+        }
+        Entry e = new Entry(entries.size(), dto, aliasesOf(dto));
+        entries.add(e);
+        docIdByCode.put(dto.getStockCode(), e.docId);
+        index(e);
+    }
+
+    private void index(Entry e) {
+        grams.add(e.docId, e.name);
+        grams.add(e.docId, e.code);
+        choseongGrams.add(e.docId, e.choseong);
+        jamoGrams.add(e.docId, e.jamo);
+        fuzzyTree.add(e.docId, e.jamo);
+        for (int i = 0; i < e.aliases.size(); i++) {
+            grams.add(e.docId, e.aliases.get(i));
+            fuzzyTree.add(e.docId, e.aliasJamo.get(i));
+        }
+    }
+
+    private void unindex(Entry e) {
+        grams.remove(e.docId, e.name);
+        grams.remove(e.docId, e.code);
+        choseongGrams.remove(e.docId, e.choseong);
+        jamoGrams.remove(e.docId, e.jamo);
+        fuzzyTree.remove(e.docId, e.jamo);
+        for (int i = 0; i < e.aliases.size(); i++) {
+            grams.remove(e.docId, e.aliases.get(i));
+            fuzzyTree.remove(e.docId, e.aliasJamo.get(i));
+        }
+    }
+
+    private List<String> aliasesOf(StockInfoDTO dto) {
+        return aliasesByCode.getOrDefault(normalize(dto.getStockCode()), Collections.emptyList());
+    }
+
+    /**
+     * 질의 길이에 비례한 허용 거리 (자모 4개당 1, 최대 fuzzyMaxDistance)
+     * - 짧은 질의에 큰 거리를 허용하면 무관한 종목이 대량으로 걸리고 탐색 노드도 급증함
+     */
+    private int fuzzyDistance(String fuzzyQuery) {
+        return Math.min(fuzzyMaxDistance, fuzzyQuery.length() / 4);
+    }
+
+    private static StockInfoDTO copyOf(StockInfoDTO s) {
+        return new StockInfoDTO(
+                s.getStockCode(), s.getStockName(), s.getMarketType(), s.getIndustry(),
+                s.getPrice(), s.getPriceChange(), s.getChangeRate(),
+                s.getMarketCap(), s.getUpdatedAt());
+    }
+
+    /** 검색용 정규화: 공백 제거 + 대문자 (SQL 의 UPPER(REPLACE(x, ' ', '')) 와 동일한 의도) */
+    public static String normalize(String s) {
+        if (s == null) return "";
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (!Character.isWhitespace(c) && !Character.isSpaceChar(c)) sb.append(c);
+        }
+        return sb.toString().toUpperCase(Locale.ROOT);
+    }
+
+    /** "490조", "1,234,500" 등 숫자만 남겨 비교 (SQL 의 REGEXP_REPLACE(MARKET_CAP, '[^0-9]', '')), 숫자가 없으면 -1 (SQL 의 NULL) */
+    static long parseMarketCap(String marketCap) {
+        if (marketCap == null) return -1;
+        long value = 0;
+        boolean any = false;
+        for (int i = 0; i < marketCap.length(); i++) {
+            char c = marketCap.charAt(i);
+            if (c < '0' || c > '9') continue;
+            any = true;
+            if (value > (Long.MAX_VALUE - 9) / 10) return Long.MAX_VALUE;
+            value = value * 10 + (c - '0');
+        }
+        return any ? value : -1;
+    }
+
+    private static final int EXACT = 0;
+    private static final int PREFIX = 1;
+    private static final int CONTAINS = 2;
+    private static final int FUZZY = 3;
+    private static final int NO_MATCH = 4;
+
+    private static int rankOf(String text, String q) {
+        if (text.equals(q)) return EXACT;
+        if (text.startsWith(q)) return PREFIX;
+        if (text.contains(q)) return CONTAINS;
+        return NO_MATCH;
+    }
+
+    private static final Comparator<Hit> HIT_ORDER = Comparator
+            .comparingInt((Hit h) -> h.rank)
+            .thenComparingInt((Hit h) -> h.distance)
+            .thenComparing((Hit h) -> h.partial)
+            .thenComparing((Hit h) -> h.entry.marketCap >= 0)  // NULLS FIRST
+            .thenComparing((Hit h) -> h.entry.marketCap, Comparator.reverseOrder())
+            .thenComparing((Hit h) -> h.entry.name);
+
+    private static final class Entry {
+        final int docId;
+        final StockInfoDTO dto;
+        final String name;      // 정규화된 종목명
+        final String code;      // 정규화된 종목코드
+        final String choseong;  // 종목명 초성
+        final String jamo;      // 종목명 자모 분해
+        final BitSet jamoStarts;
+        final List<String> aliases;    // 정규화된 별칭
+        final List<String> aliasJamo;  // 별칭 자모 분해 (오타 보정용)
+        final long marketCap;
+
+        Entry(int docId, StockInfoDTO dto, List<String> aliases) {
+            this.docId = docId;
+            this.dto = dto;
+            this.name = normalize(dto.getStockName());
+            this.code = normalize(dto.getStockCode());
+            this.choseong = HangulJamo.choseong(name);
+            this.jamoStarts = new BitSet();
+            this.jamo = HangulJamo.decompose(name, jamoStarts);
+            this.aliases = aliases;
+            this.aliasJamo = new ArrayList<>(aliases.size());
+            for (String alias : aliases) {
+                aliasJamo.add(HangulJamo.decompose(alias));
+            }
+            this.marketCap = parseMarketCap(dto.getMarketCap());
+        }
+
+        int rank(String q) {
+            int rank = Math.min(rankOf(name, q), rankOf(code, q));
+            for (String alias : aliases) {
+                rank = Math.min(rank, rankOf(alias, q));
+            }
+            return rank;
+        }
+
+        // 오타 보정 키가 현재 종목명/별칭인지 (이름이 바뀐 뒤 남은 키 제외)
+        boolean hasFuzzyKey(String key) {
+            return jamo.equals(key) || aliasJamo.contains(key);
+        }
+
+        // 글자 경계에서 시작하는 자모 일치만 인정 ("삼서" → "삼성전자" 접두 일치)
+        int jamoRank(String qJamo) {
+            for (int i = jamo.indexOf(qJamo); i >= 0; i = jamo.indexOf(qJamo, i + 1)) {
+                if (!jamoStarts.get(i)) continue;
+                if (i == 0) return jamo.length() == qJamo.length() ? EXACT : PREFIX;
+                return CONTAINS;
+            }
+            return NO_MATCH;
+        }
+    }
+
+    private static final class Hit {
+        final Entry entry;
+        final int rank;
+        final boolean partial;  // 초성/자모/오타 보정으로만 일치
+        final int distance;     // 오타 보정 편집 거리 (그 외 0)
+
+        Hit(Entry entry, int rank, boolean partial, int distance) {
+            this.entry = entry;
+            this.rank = rank;
+            this.partial = partial;
+            this.distance = distance;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.boot.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.stereotype.Component;
+
+import com.boot.dao.StockInfoDAO;
+import com.boot.dto.StockAliasDTO;
+import com.boot.dto.StockInfoDTO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 뉴스 수집 시 종목코드 자동 지정 (STOCK_CODE 가 비어 있는 뉴스만)
+ * - STOCK_INFO 종목명 + STOCK_ALIAS 별칭으로 Aho–Corasick 오토마톤을 만들고
+ *   제목 + 본문을 한 번만 순회하며 모든 종목명 출현을 찾는다
+ * - 겹치는 일치는 왼쪽-최장 우선 ("삼성전자우" 안의 "삼성전자" 는 따로 세지 않음)
+ * - 점수: 제목 출현 TITLE_WEIGHT 점, 본문 출현 1점 → 최고점 종목 (동점이면 먼저 나온 종목)
+ * - 영문/숫자로 끝나는 이름은 앞뒤가 영문/숫자가 아닐 때만 인정 ("KT" 가 "KTX" 에 걸리지 않도록)
+ * - STOCK_INFO / 별칭이 바뀌면 dirty 표시 후 백그라운드 스레드에서 새 오토마톤을 만들어 통째로 교체
+ *   (전체 종목 + 별칭 SELECT 를 뉴스 수집 스레드에서 하지 않음, 교체 전까지는 기존 오토마톤으로 계속 태깅)
+ * - 재구성은 한 번에 하나만, 재구성 중에 들어온 변경은 끝난 뒤 한 번 더 재구성
+ * - 재구성이 실패하면 dirty 로 남겨 두고 다음 변경/태깅 때 다시 시도
+ */
+@Component
+@RequiredArgsConstructor
+public class StockTagger {
+
+    private final StockInfoDAO stockInfoDAO;
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int MIN_PATTERN_LENGTH = 2;
+
+    private volatile Snapshot snapshot;
+    private volatile boolean dirty = true;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private ExecutorService rebuilder;
+
+    // ================= 서버 시작 시 적재 =================
+    @PostConstruct
+    public void init() {
+        rebuilder = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "stock-tagger-rebuild");
+            t.setDaemon(true);
+            return t;
+        });
+        // 시작 시에는 첫 오토마톤을 바로 구성 (뉴스 수집 전)
+        dirty = false;
+        try {
+            snapshot = build();
+        } catch (Exception e) {
+            dirty = true;
+            System.err.println("[StockTagger] 초기 적재 실패 - 다음 뉴스 수집 때 재시도: " + e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    // ================= 변경 감지 =================
+    /** insertStockInfo 후 호출: 신규 종목이거나 종목명이 바뀐 경우에만 재구성 표시 */
+    public void onStockChanged(StockInfoDTO dto) {
+        if (dto == null || dto.getStockCode() == null) return;
+        Snapshot s = snapshot;
+        if (s == null || !Objects.equals(s.nameByCode.get(dto.getStockCode()), trim(dto.getStockName()))) {
+            markDirty();
+        }
+    }
+
+    /** 별칭 사전 재적재 등 전체 재구성이 필요한 경우 */
+    public void markDirty() {
+        dirty = true;
+        scheduleRebuild();
+    }
+
+    // 재구성 중이 아니면 백그라운드 재구성 시작 (호출한 스레드는 기다리지 않음)
+    private void scheduleRebuild() {
+        if (!rebuilding.compareAndSet(false, true)) return;
+        try {
+            rebuilder.execute(this::rebuild);
+        } catch (RuntimeException e) {
+            // 종료 중
+            rebuilding.set(false);
+        }
+    }
+
+    private void rebuild() {
+        boolean ok = false;
+        try {
+            // 재구성 중에 들어온 변경은 다시 dirty 로 표시되도록 먼저 내림
+            dirty = false;
+            snapshot = build();
+            ok = true;
+        } catch (Exception e) {
+            dirty = true;
+            System.err.println("[StockTagger] 오토마톤 재구성 실패 - 기존 오토마톤 사용: " + e.getMessage());
+        } finally {
+            rebuilding.set(false);
+        }
+        // 재구성 중에 바뀐 종목/별칭 반영 (실패했으면 다음 변경/태깅 때 재시도)
+        if (ok && dirty) scheduleRebuild();
+    }
+
+    private Snapshot build() {
+        List<StockInfoDTO> stocks = stockInfoDAO.selectAllStocksForIndex();
+        List<StockAliasDTO> aliases;
+        try {
+            aliases = stockInfoDAO.selectAllStockAliases();
+        } catch (Exception e) {
+            System.err.println("[StockTagger] 별칭 사전 적재 실패 - 종목명만 사용: " + e.getMessage());
+            aliases = new ArrayList<>();
+        }
+
+        Map<String, String> nameByCode = new HashMap<>();
+        Map<String, Integer> idByCode = new HashMap<>();
+        List<String> codes = new ArrayList<>();
+        AhoCorasick.Builder builder = AhoCorasick.builder();
+
+        for (StockInfoDTO s : stocks) {
+            String code = s.getStockCode();
+            String name = trim(s.getStockName());
+            if (code == null) continue;
+            nameByCode.put(code, name);
+            if (name == null || name.length() < MIN_PATTERN_LENGTH) continue;
+            builder.add(name, idOf(code, idByCode, codes));
+        }
+        for (StockAliasDTO a : aliases) {
+            String alias = trim(a.getAlias());
+            if (a.getStockCode() == null || alias == null || alias.length() < MIN_PATTERN_LENGTH) continue;
+            if (!nameByCode.containsKey(a.getStockCode())) continue;
+            builder.add(alias, idOf(a.getStockCode(), idByCode, codes));
+        }
+
+        AhoCorasick automaton = builder.build();
+        System.out.println("[StockTagger] 종목명/별칭 " + automaton.size() + "개로 오토마톤 구성 완료");
+        return new Snapshot(automaton, codes.toArray(new String[0]), nameByCode);
+    }
+
+    private static int idOf(String code, Map<String, Integer> idByCode, List<String> codes) {
+        return idByCode.computeIfAbsent(code, c -> {
+            codes.add(c);
+            return codes.size() - 1;
+        });
+    }
+
+    // ================= 태깅 =================
+    /** 제목/본문에서 가장 많이 언급된 종목코드 (없으면 null) */
+    public String tag(String title, String content) {
+        if (dirty) scheduleRebuild();
+        Snapshot s = snapshot;
+        if (s == null) return null;
+
+        String t = title == null ? "" : title;
+        String c = content == null ? "" : content;
+        if (t.isEmpty() && c.isEmpty()) return null;
+
+        // 제목과 본문을 구분 문자로 이어 한 번에 순회 (경계를 넘는 일치는 생기지 않음)
+        String text = t + '\n' + c;
+        int titleEnd = t.length();
+
+        // 1) 모든 일치 수집 → 2) 왼쪽-최장 우선으로 겹침 제거
+        List<int[]> matches = new ArrayList<>();
+        s.automaton.scan(text, (start, end, value) -> {
+            if (isWordBounded(text, start, end)) matches.add(new int[] { start, end, value });
+        });
+        if (matches.isEmpty()) return null;
+        matches.sort((a, b) -> a[0] != b[0] ? Integer.compare(a[0], b[0]) : Integer.compare(b[1], a[1]));
+
+        int[] score = new int[s.codes.length];
+        int[] first = new int[s.codes.length];
+        Arrays.fill(first, Integer.MAX_VALUE);
+        int covered = 0;
+        for (int[] m : matches) {
+            if (m[0] < covered) continue;
+            covered = m[1];
+            score[m[2]] += m[1] <= titleEnd ? TITLE_WEIGHT : 1;
+            first[m[2]] = Math.min(first[m[2]], m[0]);
+        }
+
+        int best = -1;
+        for (int id = 0; id < score.length; id++) {
+            if (score[id] == 0) continue;
+            if (best < 0 || score[id] > score[best] || (score[id] == score[best] && first[id] < first[best])) {
+                best = id;
+            }
+        }
+        return best < 0 ? null : s.codes[best];
+    }
+
+    private static boolean isWordBounded(String text, int start, int end) {
+        if (isAsciiAlnum(text.charAt(start)) && start > 0 && isAsciiAlnum(text.charAt(start - 1))) return false;
+        if (isAsciiAlnum(text.charAt(end - 1)) && end < text.length() && isAsciiAlnum(text.charAt(end))) return false;
+        return true;
+    }
+
+    private static boolean isAsciiAlnum(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9');
+    }
+
+    private static String trim(String s) {
+        return s == null ? null : s.trim();
+    }
+
+    // ================= 내부 자료구조 =================
+    private static final class Snapshot {
+        final AhoCorasick automaton;
+        final String[] codes;                 // 패턴 값 → 종목코드
+        final Map<String, String> nameByCode; // 변경 감지용
+
+        Snapshot(AhoCorasick automaton, String[] codes, Map<String, String> nameByCode) {
+            this.automaton = automaton;
+            this.codes = codes;
+            this.nameByCode = nameByCode;
+        }
+    }
+}
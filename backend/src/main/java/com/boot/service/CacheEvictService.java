@@ -3,23 +3,43 @@
 package com.boot.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import com.boot.chart.ChartHistoryService;
+import com.boot.index.IndexHistoryStore;
+
 @Service
 public class CacheEvictService {
 
     @Autowired
     private RedisTemplate<String, Object> redisTemplate;
 
+    @Autowired
+    private IndexHistoryStore indexHistoryStore;
+
+    // 차트용 로컬 사본/다운샘플 결과도 함께 비움
+    @Autowired
+    private ChartHistoryService chartHistoryService;
+
+    // 동기화로 저장된 연도만 이력 캐시에 반영 (키 전체를 지우지 않음)
+    public void refreshHistoryYear(String market, String year) {
+        indexHistoryStore.refreshYear(market, year);
+        chartHistoryService.evict(market);
+    }
+
+    // 전체 삭제 (관리자 강제 초기화 / 연도 갱신 실패 시) → 다음 조회 때 DB 에서 다시 적재
     public void evictKospiHistoryCache() {
-        redisTemplate.delete("kospiHistoryCache::kospi_all");
+        indexHistoryStore.clear(IndexHistoryStore.KOSPI);
+        redisTemplate.delete("kospiHistoryCache::kospi_all"); // 이전 @Cacheable 키 정리
+        chartHistoryService.evict(ChartHistoryService.KOSPI);
         System.out.println("🔥 Redis에서 KOSPI 캐시 직접 삭제 완료");
     }
 
     public void evictKosdaqHistoryCache() {
+        indexHistoryStore.clear(IndexHistoryStore.KOSDAQ);
         redisTemplate.delete("kosdaqHistoryCache::kosdaq_all");
+        chartHistoryService.evict(ChartHistoryService.KOSDAQ);
         System.out.println("🔥 Redis에서 KOSDAQ 캐시 직접 삭제 완료");
     }
 }
@@ -2,35 +2,25 @@
 
 package com.boot.service;
 
-import com.boot.dao.IndexDAO;
 import com.boot.dto.IndexDataDTO;
+import com.boot.index.IndexHistoryStore;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import java.util.List;
 
-@Service // 반드시 @Service로 등록해야 Spring Bean으로 인식되어 AOP 프록시가 적용됩니다.
+@Service
 public class IndexReadService {
 
-    @Autowired private IndexDAO indexDAO;
-    
-    private static final String KOSPI_CACHE_NAME = "kospiHistoryCache";
-    private static final String KOSDAQ_CACHE_NAME = "kosdaqHistoryCache";
-    private static final String KOSPI_CACHE_KEY = "'kospi_all'";
-    private static final String KOSDAQ_CACHE_KEY = "'kosdaq_all'";
+    // 연도별로 나눠 저장된 Redis 이력 (동기화 시 바뀐 연도만 갱신 → 일별 수집 뒤에도 전체 재조회 없음)
+    @Autowired private IndexHistoryStore indexHistoryStore;
 
-
-    // KOSPI 조회 (이제 이 메서드가 외부에 의해 호출되면 @Cacheable이 확실히 작동합니다.)
-    @Cacheable(value = KOSPI_CACHE_NAME, key = KOSPI_CACHE_KEY)
+    // KOSPI 조회
     public List<IndexDataDTO> getKospiTimeSeriesData() {
-        System.out.println("⭐️ [Cache Miss] DB에서 KOSPI 히스토리 조회 중 (1457건 로드)...");
-        return indexDAO.selectKospiHistory(); // 1457건 로드 가정
+        return indexHistoryStore.load(IndexHistoryStore.KOSPI);
     }
 
     // KOSDAQ 조회
-    @Cacheable(value = KOSDAQ_CACHE_NAME, key = KOSDAQ_CACHE_KEY)
     public List<IndexDataDTO> getKosdaqTimeSeriesData() {
-        System.out.println("⭐️ [Cache Miss] DB에서 KOSDAQ 히스토리 조회 중...");
-        return indexDAO.selectKosdaqHistory();
+        return indexHistoryStore.load(IndexHistoryStore.KOSDAQ);
     }
-}
\ No newline at end of file
+}
@@ -2,23 +2,46 @@ package com.boot.service;
 
 import com.boot.dao.IndexDAO;
 import com.boot.dto.IndexDataDTO;
+import com.boot.index.IndexApiException;
+import com.boot.index.IndexHistoryStore;
+import com.boot.index.IndexSyncProgress;
+import com.boot.index.IndexXmlParser;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
-import org.w3c.dom.*;
 
-import javax.annotation.PostConstruct;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import java.io.ByteArrayInputStream;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.springframework.web.util.UriComponentsBuilder;
-import org.springframework.transaction.annotation.Transactional;
 
+/*
+ * 지수(KOSPI/KOSDAQ) 일별 시세 수집 (공공데이터포털 GetMarketIndexInfoService)
+ * - 수집 구간을 연 단위 창으로 나눠 fetch-concurrency 개 스레드로 동시에 요청
+ *   (요청 간격은 max-requests-per-second 로 제한, 429/한도 초과 응답이면 모든 스레드가 함께 대기)
+ * - 요청마다 실패 시 지수 백오프로 max-retries 번 재시도
+ * - 응답은 IndexXmlParser 가 본문 스트림에서 바로 IndexDataDTO 로 변환 (창 = 보통 한 페이지 분량만 메모리에)
+ * - 창 하나가 모두 받아지면 그 창의 행을 BATCH MERGE 한 번 + 커밋 한 번으로 저장
+ *   → 실패한 창은 아예 저장되지 않으므로 연도 단위로 "비어 있음"이 드러남
+ * - 다음 동기화 때 최근 일자 이후 + 연도별 저장 범위로 찾은 빈 구간을 다시 수집 (한 창 실패가 영구 누락으로 남지 않음)
+ * - 기동 시 동기화는 ApplicationReadyEvent 이후 백그라운드 스레드에서 실행 (API 가 느리거나 막혀도 기동 지연 없음)
+ *   → 진행 상황은 IndexSyncHealthIndicator
+ * - 창을 저장할 때마다 그 연도만 Redis 이력(IndexHistoryStore)에 반영 → 이력 캐시 전체 삭제 없음
+ * */
 @Service
 public class IndexService {
 
@@ -31,14 +54,37 @@ public class IndexService {
     @Autowired
     private CacheEvictService cacheEvictService;
 
+    @Autowired
+    private IndexXmlParser indexXmlParser;
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     // ✅ 환경변수 주입
     @Value("${market.api.service-key}")
     private String SERVICE_KEY;
 
+    // 동시 요청 수 / 초당 최대 요청 수 / 요청당 재시도 횟수 / 첫 재시도 대기(ms, 이후 2배씩)
+    @Value("${index.sync.fetch-concurrency:4}")
+    private int fetchConcurrency;
+
+    @Value("${index.sync.max-requests-per-second:10}")
+    private double maxRequestsPerSecond;
+
+    @Value("${index.sync.max-retries:3}")
+    private int maxRetries;
+
+    @Value("${index.sync.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
+
     private static final String API_ENDPOINT =
             "https://apis.data.go.kr/1160100/service/GetMarketIndexInfoService/getStockMarketIndex";
 
     private static final int ROWS_PER_PAGE = 500;
+    private static final long MAX_BACKOFF_MS = 30_000;
     private static final DateTimeFormatter DATE_FORMATTER =
             DateTimeFormatter.ofPattern("yyyyMMdd");
 
@@ -49,52 +95,17 @@ public class IndexService {
     private static final String START_DATE = "19800104";
     private static final String START_DATE_KOSDAQ = "19960701";
 
-    // ================= XML 파싱 =================
-    private String getTagValue(String tag, Element element) {
-        NodeList nodeList = element.getElementsByTagName(tag);
-        if (nodeList.getLength() > 0) {
-            return nodeList.item(0).getTextContent();
-        }
-        return null;
+    // ================= 기동 후 동기화 상태 =================
+    private final AtomicBoolean syncStarted = new AtomicBoolean();
+    private final Map<String, IndexSyncProgress> syncProgress = new LinkedHashMap<>();
+
+    {
+        syncProgress.put(TARGET_INDEX, new IndexSyncProgress(TARGET_INDEX));
+        syncProgress.put(TARGET_INDEX_KOSDAQ, new IndexSyncProgress(TARGET_INDEX_KOSDAQ));
     }
 
-    private List<IndexDataDTO> parseXml(String xmlData) {
-        List<IndexDataDTO> resultList = new ArrayList<>();
-        try {
-            DocumentBuilder builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
-            Document doc = builder.parse(new ByteArrayInputStream(xmlData.getBytes("UTF-8")));
-            doc.getDocumentElement().normalize();
-
-            int totalCount = Integer.parseInt(
-                    doc.getElementsByTagName("totalCount").item(0).getTextContent()
-            );
-
-            NodeList itemList = doc.getElementsByTagName("item");
-
-            for (int i = 0; i < itemList.getLength(); i++) {
-                Element e = (Element) itemList.item(i);
-                IndexDataDTO dto = new IndexDataDTO();
-
-                dto.setIdxNm(getTagValue("idxNm", e));
-                dto.setBasDt(getTagValue("basDt", e));
-
-                try { dto.setClpr(Double.parseDouble(getTagValue("clpr", e))); } catch (Exception ignored) {}
-                try { dto.setVs(Double.parseDouble(getTagValue("vs", e))); } catch (Exception ignored) {}
-                try { dto.setFltRt(Double.parseDouble(getTagValue("fltRt", e))); } catch (Exception ignored) {}
-                try { dto.setMkp(Double.parseDouble(getTagValue("mkp", e))); } catch (Exception ignored) {}
-                try { dto.setHipr(Double.parseDouble(getTagValue("hipr", e))); } catch (Exception ignored) {}
-                try { dto.setLopr(Double.parseDouble(getTagValue("lopr", e))); } catch (Exception ignored) {}
-                try { dto.setTrqu(Long.parseLong(getTagValue("trqu", e))); } catch (Exception ignored) {}
-                try { dto.setTrPrc(Long.parseLong(getTagValue("trPrc", e))); } catch (Exception ignored) {}
-                try { dto.setLstgMrktTotAmt(Long.parseLong(getTagValue("lstgMrktTotAmt", e))); } catch (Exception ignored) {}
-
-                if (i == 0) dto.setTotalCount(totalCount);
-                resultList.add(dto);
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-        return resultList;
+    public Collection<IndexSyncProgress> getSyncProgress() {
+        return Collections.unmodifiableCollection(syncProgress.values());
     }
 
     // ================= URL 생성 =================
@@ -112,79 +123,308 @@ public class IndexService {
     }
 
     // ================= 서버 시작 자동 동기화 =================
-    @PostConstruct
+    /** 기동 완료 후 한 번, 백그라운드 스레드로 시작 (요청 처리 스레드/기동 스레드는 기다리지 않음) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startAutoSync() {
+        if (!syncStarted.compareAndSet(false, true)) return;
+        Thread t = new Thread(this::autoSync, "index-sync");
+        t.setDaemon(true);
+        t.start();
+    }
+
     public void autoSync() {
-        updateMissingIndexData(
+        syncIndex(syncProgress.get(TARGET_INDEX), () -> updateMissingIndexData(
                 TARGET_INDEX,
                 START_DATE,
                 indexDAO.countIndexData(TARGET_INDEX),
-                indexDAO.selectLatestBasDt(TARGET_INDEX)
-        );
+                indexDAO.selectLatestBasDt(TARGET_INDEX),
+                indexDAO.selectIndexYearRanges(TARGET_INDEX),
+                syncProgress.get(TARGET_INDEX)
+        ));
 
-        updateMissingIndexData(
+        syncIndex(syncProgress.get(TARGET_INDEX_KOSDAQ), () -> updateMissingIndexData(
                 TARGET_INDEX_KOSDAQ,
                 START_DATE_KOSDAQ,
                 indexDAO.countKosdaqIndexData(TARGET_INDEX_KOSDAQ),
-                indexDAO.selectLatestKosdaqBasDt(TARGET_INDEX_KOSDAQ)
-        );
+                indexDAO.selectLatestKosdaqBasDt(TARGET_INDEX_KOSDAQ),
+                indexDAO.selectKosdaqIndexYearRanges(TARGET_INDEX_KOSDAQ),
+                syncProgress.get(TARGET_INDEX_KOSDAQ)
+        ));
+    }
+
+    /** 지수 하나 동기화 (이력 캐시는 창 저장 때마다 연도 단위로 이미 반영됨) */
+    private void syncIndex(IndexSyncProgress progress, Runnable sync) {
+        progress.start();
+        try {
+            sync.run();
+            progress.finish();
+        } catch (Exception e) {
+            progress.fail(e);
+            System.err.println("[IndexService] " + progress.getIdxNm() + " 동기화 실패: " + e.getMessage());
+        }
     }
 
     // ================= 핵심 수집 로직 =================
-    @Transactional
-    protected void updateMissingIndexData(String idxNm, String start, int count, String latest) {
-        String begin = start;
+    protected void updateMissingIndexData(String idxNm, String start, int count, String latest,
+                                          List<Map<String, Object>> yearRanges, IndexSyncProgress progress) {
+        String today = LocalDate.now().format(DATE_FORMATTER);
+        List<String[]> windows = new ArrayList<>();
 
+        String begin = start;
         if (count > 0 && latest != null) {
+            // 이전 동기화에서 창이 실패해 빠진 구간 (최근 일자 이전)
+            windows.addAll(findGaps(start, latest, yearRanges));
+            if (!windows.isEmpty()) {
+                System.out.println("[IndexService] " + idxNm + " 누락 구간 " + windows.size() + "개 재수집");
+            }
+
             begin = LocalDate.parse(latest, DATE_FORMATTER)
                     .plusDays(1)
                     .format(DATE_FORMATTER);
         }
 
-        String today = LocalDate.now().format(DATE_FORMATTER);
-        if (begin.compareTo(today) > 0) return;
+        if (begin.compareTo(today) <= 0) {
+            windows.addAll(splitByYear(begin, today));
+        }
+        if (windows.isEmpty()) return;
 
-        collectAndSave(idxNm, begin, today);
+        collectAndSave(idxNm, windows, progress);
     }
 
-    @Transactional
+    /**
+     * 연도별 (최초, 최종) 저장 일자로 빠진 구간 찾기
+     * - 최근 연도 이전인데 행이 없는 연도 → 그 해 전체
+     * - 연초(1/10 이후 시작) 또는 연말(12/20 이전 종료)이 비어 있는 연도 → 빈 앞/뒤 구간
+     *   (휴장일을 감안한 여유, 불필요하게 한 번 더 받는 것은 MERGE 라 무해)
+     */
+    private static List<String[]> findGaps(String start, String latest, List<Map<String, Object>> yearRanges) {
+        Map<Integer, String[]> stored = new HashMap<>();
+        for (Map<String, Object> r : yearRanges) {
+            stored.put(Integer.parseInt(String.valueOf(r.get("YR"))),
+                    new String[] { String.valueOf(r.get("MIN_DT")), String.valueOf(r.get("MAX_DT")) });
+        }
+
+        List<String[]> gaps = new ArrayList<>();
+        int latestYear = Integer.parseInt(latest.substring(0, 4));
+        for (int y = Integer.parseInt(start.substring(0, 4)); y <= latestYear; y++) {
+            String[] range = stored.get(y);
+            if (range == null) {
+                gaps.add(yearWindow(y, start, latest));
+                continue;
+            }
+            String head = yearWindow(y, start, latest)[0];
+            if (range[0].compareTo(max(head, y + "0110")) > 0) {
+                gaps.add(new String[] { head, minusDays(range[0], 1) });
+            }
+            if (y < latestYear && range[1].compareTo(y + "1220") < 0) {
+                gaps.add(new String[] { plusDays(range[1], 1), y + "1231" });
+            }
+        }
+        return gaps;
+    }
+
+    /** 단일 구간 수집 (일별 수집용) */
     protected void collectAndSave(String idxNm, String begin, String end) {
-        String firstUrl = buildApiUrl(idxNm, 1, 1, begin, end);
-        String xml = restTemplate.getForObject(firstUrl, String.class);
-        List<IndexDataDTO> init = parseXml(xml);
+        collectAndSave(idxNm, splitByYear(begin, end), new IndexSyncProgress(idxNm));
+    }
 
-        if (init.isEmpty()) return;
+    /**
+     * 창들을 동시에 받아 완료되는 순서대로 창별 BATCH MERGE
+     * (다운로드는 작업 스레드, DB 쓰기는 호출 스레드 한 곳에서만 → 커넥션 하나로 순차 저장)
+     * @return 저장한 행 수
+     */
+    protected int collectAndSave(String idxNm, List<String[]> windows, IndexSyncProgress progress) {
+        long started = System.currentTimeMillis();
+        RateLimiter limiter = new RateLimiter(maxRequestsPerSecond);
+        int threads = Math.max(1, Math.min(fetchConcurrency, windows.size()));
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "index-sync-" + idxNm);
+            t.setDaemon(true);
+            return t;
+        });
+
+        progress.addWindows(windows.size());
+        int savedRows = 0;
+        List<String> failed = new ArrayList<>();
+        try {
+            CompletionService<List<IndexDataDTO>> done = new ExecutorCompletionService<>(pool);
+            Map<Future<List<IndexDataDTO>>, String[]> windowOf = new HashMap<>();
+            for (String[] w : windows) {
+                windowOf.put(done.submit(() -> fetchWindow(idxNm, w[0], w[1], limiter)), w);
+            }
 
-        int total = init.get(0).getTotalCount();
-        int pages = (int) Math.ceil((double) total / ROWS_PER_PAGE);
+            for (int i = 0; i < windows.size(); i++) {
+                Future<List<IndexDataDTO>> f = done.take();
+                String[] w = windowOf.get(f);
+                try {
+                    List<IndexDataDTO> rows = f.get();
+                    saveBatch(idxNm, rows);
+                    savedRows += rows.size();
+                    progress.windowSaved(rows.size());
+                    if (!rows.isEmpty()) refreshHistory(idxNm, w[0].substring(0, 4));
+                } catch (ExecutionException e) {
+                    failed.add(w[0] + "~" + w[1]);
+                    progress.windowFailed(w[0] + "~" + w[1], e.getCause());
+                    System.err.println("[IndexService] " + idxNm + " " + w[0] + "~" + w[1] + " 수집 실패: "
+                            + e.getCause().getMessage());
+                } catch (RuntimeException e) {
+                    failed.add(w[0] + "~" + w[1]);
+                    progress.windowFailed(w[0] + "~" + w[1], e);
+                    System.err.println("[IndexService] " + idxNm + " " + w[0] + "~" + w[1] + " 저장 실패: " + e.getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            pool.shutdownNow();
+        }
 
-        for (int p = 1; p <= pages; p++) {
-            String url = buildApiUrl(idxNm, p, ROWS_PER_PAGE, begin, end);
-            List<IndexDataDTO> list =
-                    parseXml(restTemplate.getForObject(url, String.class));
+        System.out.println("[IndexService] " + idxNm + " 창 " + windows.size() + "개 중 " + (windows.size() - failed.size())
+                + "개 저장, " + savedRows + "행, " + (System.currentTimeMillis() - started) + "ms"
+                + (failed.isEmpty() ? "" : " / 실패 구간(다음 동기화 때 재수집): " + failed));
+        return savedRows;
+    }
 
-            for (IndexDataDTO dto : list) {
+    /** 저장한 연도만 Redis 이력에 반영, 실패하면 오래된 연도가 남지 않도록 이력 캐시 전체 삭제 */
+    private void refreshHistory(String idxNm, String year) {
+        String market = idxNm.equals(TARGET_INDEX) ? IndexHistoryStore.KOSPI : IndexHistoryStore.KOSDAQ;
+        try {
+            cacheEvictService.refreshHistoryYear(market, year);
+        } catch (RuntimeException e) {
+            System.err.println("[IndexService] " + idxNm + " " + year + " 이력 캐시 갱신 실패 - 전체 삭제: " + e.getMessage());
+            try {
                 if (idxNm.equals(TARGET_INDEX)) {
-                    indexDAO.insertOrUpdateIndexData(dto);
+                    cacheEvictService.evictKospiHistoryCache();
                 } else {
-                    indexDAO.insertOrUpdateKosdaqIndexData(dto);
+                    cacheEvictService.evictKosdaqHistoryCache();
+                }
+            } catch (RuntimeException ignored) {
+                // Redis 장애: 조회 쪽도 DB 로 바로 감
+            }
+        }
+    }
+
+    /** 한 창의 모든 페이지 (보통 한 해 ≈ 250행이라 한 페이지) */
+    private List<IndexDataDTO> fetchWindow(String idxNm, String begin, String end, RateLimiter limiter) throws InterruptedException {
+        List<IndexDataDTO> rows = new ArrayList<>();
+        int total = fetchPage(idxNm, 1, begin, end, limiter, rows);
+        int pages = (int) Math.ceil((double) total / ROWS_PER_PAGE);
+        for (int p = 2; p <= pages; p++) {
+            fetchPage(idxNm, p, begin, end, limiter, rows);
+        }
+        return rows;
+    }
+
+    /**
+     * 한 페이지 요청 + 재시도 (지수 백오프, 429 의 Retry-After / 한도 초과 코드면 전체 요청 일시 중지)
+     * HTTP 오류는 429 / 5xx 만 재시도, 그 밖의 4xx (잘못된/만료된 서비스 키 등) 는 바로 창 실패
+     */
+    private int fetchPage(String idxNm, int page, String begin, String end, RateLimiter limiter,
+                          List<IndexDataDTO> sink) throws InterruptedException {
+        String url = buildApiUrl(idxNm, page, ROWS_PER_PAGE, begin, end);
+        for (int attempt = 0; ; attempt++) {
+            limiter.acquire();
+            long wait = Math.min(MAX_BACKOFF_MS, retryBackoffMs << Math.min(attempt, 16));
+            // 실패한 시도에서 일부 읽힌 행은 버림
+            int mark = sink.size();
+            try {
+                Integer total = restTemplate.execute(url, HttpMethod.GET, null,
+                        response -> indexXmlParser.parse(response.getBody(), sink::add));
+                return total == null ? 0 : total;
+            } catch (HttpStatusCodeException e) {
+                if (attempt >= maxRetries || !isRetryable(e.getRawStatusCode())) throw e;
+                if (e.getRawStatusCode() == 429) {
+                    wait = Math.max(wait, retryAfterMs(e));
+                    limiter.pause(wait);
                 }
+                System.err.println("[IndexService] " + idxNm + " " + begin + "~" + end + " p" + page
+                        + " HTTP " + e.getRawStatusCode() + " → " + wait + "ms 후 재시도");
+            } catch (IndexApiException e) {
+                if (attempt >= maxRetries) throw e;
+                if (e.isRateLimited()) limiter.pause(wait);
+                System.err.println("[IndexService] " + idxNm + " " + begin + "~" + end + " p" + page
+                        + " " + e.getMessage() + " → " + wait + "ms 후 재시도");
+            } catch (RuntimeException e) {
+                if (attempt >= maxRetries) throw e;
+                System.err.println("[IndexService] " + idxNm + " " + begin + "~" + end + " p" + page
+                        + " " + e.getMessage() + " → " + wait + "ms 후 재시도");
             }
+            sink.subList(mark, sink.size()).clear();
+            // 여러 스레드가 같은 순간에 다시 몰리지 않도록 대기 시간에 흔들림 추가
+            Thread.sleep(wait + ThreadLocalRandom.current().nextLong(wait / 4 + 1));
         }
+    }
 
-        if (idxNm.equals(TARGET_INDEX)) {
-            cacheEvictService.evictKospiHistoryCache();
-        } else {
-            cacheEvictService.evictKosdaqHistoryCache();
+    // 요청 한도 초과 / 서버 오류만 다시 보내면 성공할 수 있음
+    private static boolean isRetryable(int status) {
+        return status == 429 || status >= 500;
+    }
+
+    private static long retryAfterMs(HttpStatusCodeException e) {
+        HttpHeaders headers = e.getResponseHeaders();
+        String v = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        try {
+            return v == null ? 0 : Long.parseLong(v.trim()) * 1000;
+        } catch (NumberFormatException ignored) {
+            return 0;
         }
     }
 
+    /** 창 하나 = MERGE 문 BATCH 전송 + 커밋 한 번 */
+    private void saveBatch(String idxNm, List<IndexDataDTO> rows) {
+        if (rows.isEmpty()) return;
+        SqlSessionTemplate batch = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        IndexDAO dao = batch.getMapper(IndexDAO.class);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (IndexDataDTO dto : rows) {
+                if (idxNm.equals(TARGET_INDEX)) {
+                    dao.insertOrUpdateIndexData(dto);
+                } else {
+                    dao.insertOrUpdateKosdaqIndexData(dto);
+                }
+            }
+            batch.flushStatements();
+        });
+    }
+
+    // ================= 수집 구간 =================
+    // [begin, end] 를 연 단위 창으로 (yyyyMMdd)
+    private static List<String[]> splitByYear(String begin, String end) {
+        List<String[]> windows = new ArrayList<>();
+        int from = Integer.parseInt(begin.substring(0, 4));
+        int to = Integer.parseInt(end.substring(0, 4));
+        for (int y = from; y <= to; y++) {
+            windows.add(yearWindow(y, begin, end));
+        }
+        return windows;
+    }
+
+    private static String[] yearWindow(int year, String begin, String end) {
+        String first = year + "0101";
+        String last = year + "1231";
+        return new String[] {
+                first.compareTo(begin) < 0 ? begin : first,
+                last.compareTo(end) > 0 ? end : last
+        };
+    }
+
+    private static String max(String a, String b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    private static String plusDays(String yyyymmdd, int days) {
+        return LocalDate.parse(yyyymmdd, DATE_FORMATTER).plusDays(days).format(DATE_FORMATTER);
+    }
+
+    private static String minusDays(String yyyymmdd, int days) {
+        return plusDays(yyyymmdd, -days);
+    }
+
     // ================= 단일 날짜 수집 =================
-    @Transactional
     public void saveSingleDayData(String date) {
         collectAndSave(TARGET_INDEX, date, date);
     }
 
-    @Transactional
     public void saveSingleKosdaqDayData(String date) {
         collectAndSave(TARGET_INDEX_KOSDAQ, date, date);
     }
@@ -196,4 +436,30 @@ public class IndexService {
         map.put("kosdaq", indexDAO.selectLatestKosdaq());
         return map;
     }
+
+    // ================= 내부 구현 =================
+    /** 요청 간 최소 간격 보장 (모든 수집 스레드 공유), pause() 로 전체 일시 중지 */
+    private static class RateLimiter {
+        private final long intervalNanos;
+        private long nextSlot = System.nanoTime();
+
+        RateLimiter(double perSecond) {
+            this.intervalNanos = perSecond > 0 ? (long) (1_000_000_000L / perSecond) : 0;
+        }
+
+        void acquire() throws InterruptedException {
+            long slot;
+            synchronized (this) {
+                long now = System.nanoTime();
+                slot = Math.max(now, nextSlot);
+                nextSlot = slot + intervalNanos;
+            }
+            long sleep = slot - System.nanoTime();
+            if (sleep > 0) TimeUnit.NANOSECONDS.sleep(sleep);
+        }
+
+        synchronized void pause(long millis) {
+            nextSlot = Math.max(nextSlot, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+    }
 }
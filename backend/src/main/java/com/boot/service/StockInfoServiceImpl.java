@@ -1,15 +1,34 @@
 package com.boot.service;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.boot.cache.SearchResultCache;
 import com.boot.dao.StockInfoDAO;
 import com.boot.dto.StockInfoDTO;
 import com.boot.dto.StockNewsDTO;
+import com.boot.search.NewsSearchIndex;
+import com.boot.search.StockSearchIndex;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -17,9 +36,36 @@ import lombok.RequiredArgsConstructor;
 public class StockInfoServiceImpl implements StockInfoService {
 
     private final StockInfoDAO stockInfoDAO;
+    private final StockSearchIndex stockSearchIndex;
+    private final NewsSearchIndex newsSearchIndex;
+    private final MeterRegistry meterRegistry;
+    private final SearchResultCache searchResultCache;
+
+    // 종목/뉴스 병렬 조회용 (SearchExecutorConfig)
+    @Autowired
+    @Qualifier("searchExecutor")
+    private Executor searchExecutor;
+
+    // 통합 검색의 뉴스 검색 방식 (true: 인메모리 역색인, false: 기존 searchNews SQL)
+    @Value("${search.news.use-index:true}")
+    private boolean useNewsIndex;
+
+    // 뉴스 검색이 이 시간 안에 끝나지 않으면 종목 결과만 먼저 응답 (partial=true)
+    @Value("${search.integrated.deadline-ms:300}")
+    private long deadlineMs;
+
+    private static final int NEWS_LIMIT = 10;
+
+    private static final String LEG_METRIC = "search.integrated.leg";
+    private static final String LEG_STOCKS = "stocks";
+    private static final String LEG_NEWS = "news";
 
     @Override
     public List<StockInfoDTO> searchStocks(String keyword) {
+        // 인메모리 인덱스가 준비되어 있으면 DB 조회 없이 응답
+        if (stockSearchIndex.isReady()) {
+            return stockSearchIndex.search(keyword);
+        }
         return stockInfoDAO.searchStocks(keyword);
     }
 
@@ -27,21 +73,88 @@ public class StockInfoServiceImpl implements StockInfoService {
     public StockInfoDTO getStockDetail(String stockCode) {
         return stockInfoDAO.getStockDetail(stockCode);
     }
-    
+
     @Override
     public Map<String, Object> searchIntegrated(String keyword) {
+        // 정규화된 질의 기준 2단 캐시 (로컬 Caffeine → Redis)
+        return searchResultCache.get(keyword, () -> searchIntegratedUncached(keyword));
+    }
+
+    private Map<String, Object> searchIntegratedUncached(String keyword) {
         Map<String, Object> result = new HashMap<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
 
-        // 1. 종목 검색 (이미 개선된 SQL 사용: 대소문자 무시, 시총 정렬)
-        List<StockInfoDTO> stocks = stockInfoDAO.searchStocks(keyword);
-        
-        // 2. 뉴스 검색 (아까 추가한 searchNews SQL 사용)
-        List<StockNewsDTO> news = stockInfoDAO.searchNews(keyword);
+        // 1. 뉴스 검색은 전용 풀에서 시작
+        Future<List<StockNewsDTO>> newsFuture = submitNews(() -> searchNews(keyword));
 
-        // 3. 묶어서 반환
-        result.put("stocks", stocks);
-        result.put("news", news);
+        // 2. 종목 검색은 호출 스레드에서 바로 (인메모리라 대부분 1ms 미만, 풀에 밀린 뉴스 작업 뒤에서 기다리지 않음)
+        List<StockInfoDTO> stocks;
+        try {
+            stocks = timer(LEG_STOCKS).record(() -> searchStocks(keyword));
+        } catch (RuntimeException e) {
+            newsFuture.cancel(true);
+            throw e;
+        }
+
+        // 3. 뉴스는 남은 시간만큼만 기다리고, 넘기면 빈 목록 + partial 표시
+        List<StockNewsDTO> news = Collections.emptyList();
+        boolean partial = false;
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            news = newsFuture.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 버린 작업이 풀 자리/DB 커넥션을 계속 잡지 않도록 취소 (대기 중이면 실행 안 함, 실행 중이면 인터럽트)
+            newsFuture.cancel(true);
+            partial = true;
+            meterRegistry.counter("search.integrated.deadline.missed", "leg", LEG_NEWS).increment();
+        } catch (ExecutionException e) {
+            partial = true;
+            System.err.println("[searchIntegrated] 뉴스 검색 실패: " + e.getCause());
+        } catch (InterruptedException e) {
+            newsFuture.cancel(true);
+            Thread.currentThread().interrupt();
+            partial = true;
+        }
+
+        // 4. 묶어서 반환
+        // Redis(JSON) 캐시에 그대로 저장되므로 역직렬화 가능한 ArrayList 로 담음
+        result.put("stocks", new ArrayList<>(stocks));
+        result.put("news", new ArrayList<>(news));
+        result.put("partial", partial);
 
         return result;
     }
+
+    private List<StockNewsDTO> searchNews(String keyword) {
+        // 1글자 구간이 있는 질의 ("삼") 는 색인으로 찾을 수 없으므로 SQL 부분 문자열 검색
+        if (useNewsIndex && newsSearchIndex.isReady() && newsSearchIndex.supports(keyword)) {
+            return newsSearchIndex.search(keyword, NEWS_LIMIT);
+        }
+        return stockInfoDAO.searchNews(keyword);
+    }
+
+    // 뉴스 검색을 전용 풀에서 실행 (취소 시 인터럽트되도록 FutureTask 로 제출)
+    private <T> Future<T> submitNews(Supplier<T> task) {
+        Timer timer = timer(LEG_NEWS);
+        FutureTask<T> future = new FutureTask<>(() -> timer.record(task));
+        try {
+            searchExecutor.execute(future);
+            return future;
+        } catch (RejectedExecutionException e) {
+            // 풀이 가득 찬 경우: 뉴스는 생략(부분 결과)
+            meterRegistry.counter("search.integrated.rejected", "leg", LEG_NEWS).increment();
+            CompletableFuture<T> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+
+    // 검색 갈래별 소요 시간 히스토그램
+    private Timer timer(String leg) {
+        return Timer.builder(LEG_METRIC)
+                .tag("leg", leg)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 }
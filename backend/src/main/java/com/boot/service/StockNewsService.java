@@ -5,12 +5,19 @@ import java.util.List;
 import java.util.Map;
 
 import com.boot.dto.StockNewsDTO;
+import com.boot.dto.StockNewsPageDTO;
 import com.boot.dto.SentimentSummaryDTO;
 
 public interface StockNewsService {
 
     List<StockNewsDTO> getNewsByStock(String stockCode);
 
+    // 종목별 뉴스 목록 한 페이지 (cursor 가 없으면 첫 페이지, size 는 최대 news.page.max-size)
+    StockNewsPageDTO getNewsPageByStock(String stockCode, String cursor, int size);
+
+    // 뉴스 본문 (없으면 null)
+    StockNewsDTO getNewsArticle(long newsId);
+
     SentimentSummaryDTO getSentimentSummary(String stockCode);
 
     // 종목별 감성 통계 (상세)
@@ -34,6 +41,9 @@ public interface StockNewsService {
     // 전체 키워드 TOP 20 (트렌드)
     List<Map<String, Object>> getTopKeywordsAll(int days);
 
+    // 실시간 트렌드 키워드 (window: 1h / 24h / 7d) + 오차 범위 / 급상승 여부
+    Map<String, Object> getTrendingKeywords(String window, int limit);
+
     // 전체 감성 통계
     Map<String, Object> getOverallSentimentSummary();
     
@@ -43,11 +53,11 @@ public interface StockNewsService {
     // ✅ 산업별 뉴스 조회
     List<StockNewsDTO> getNewsByIndustry(String industry);
 
-    // ✅ 키워드별 뉴스 조회
-    List<StockNewsDTO> getNewsByKeyword(String keyword);
+    // ✅ 키워드별 뉴스 조회 (정확한 키워드 일치, 키셋 페이지)
+    StockNewsPageDTO getNewsByKeyword(String keyword, String cursor, int size);
 
-    // ✅ 키워드별 종목 조회
-    List<Map<String, Object>> getStocksByKeyword(String keyword);
+    // ✅ 키워드별 종목 조회 (정확한 키워드 일치, page 는 1부터)
+    List<Map<String, Object>> getStocksByKeyword(String keyword, int page, int size);
 
     List<Map<String, Object>> getTop10PopularStocks();
 
@@ -2,13 +2,20 @@
 package com.boot.service;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.boot.dao.StockNewsDAO;
 import com.boot.dto.StockNewsDTO;
+import com.boot.dto.StockNewsPageDTO;
+import com.boot.dto.StockNewsSummaryDTO;
 import com.boot.dto.SentimentSummaryDTO;
+import com.boot.news.KeywordAggregator;
+import com.boot.news.NewsCursor;
+import com.boot.news.NewsKeywords;
+import com.boot.news.SentimentCube;
+import com.boot.news.TrendingKeywordTracker;
 
 import lombok.RequiredArgsConstructor;
 
@@ -17,15 +24,54 @@ import lombok.RequiredArgsConstructor;
 public class StockNewsServiceImpl implements StockNewsService {
 
     private final StockNewsDAO stockNewsDAO;
+    private final TrendingKeywordTracker trendingKeywordTracker;
+    private final SentimentCube sentimentCube;
+    private final KeywordAggregator keywordAggregator;
+
+    // 키워드 TOP N 을 집계 테이블(NEWS_KEYWORD_DAILY / NEWS_KEYWORD_STOCK)에서 조회할지 여부
+    @Value("${news.keywords.use-rollup:true}")
+    private boolean useKeywordRollup;
+
+    // 감성 통계를 메모리 큐브(NEWS_SENTIMENT_DAILY)에서 계산할지 여부 (false 면 STOCK_NEWS 집계 SQL)
+    @Value("${news.sentiment.use-cube:true}")
+    private boolean useSentimentCube;
+
+    // 뉴스 목록 한 페이지 최대 건수
+    @Value("${news.page.max-size:100}")
+    private int maxPageSize;
+
+    private static final int STOCK_KEYWORD_LIMIT = 10;
+    private static final int ALL_KEYWORD_LIMIT = 20;
 
     @Override
     public List<StockNewsDTO> getNewsByStock(String stockCode) {
         return stockNewsDAO.getNewsByStock(stockCode);
     }
 
+    @Override
+    public StockNewsPageDTO getNewsPageByStock(String stockCode, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        NewsCursor after = NewsCursor.decode(cursor);
+
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        List<StockNewsSummaryDTO> rows = stockNewsDAO.getNewsSummaryPageByStock(
+                stockCode,
+                after == null ? null : after.getDate(),
+                after == null ? null : after.getNewsId(),
+                pageSize + 1);
+        return toPage(rows, pageSize);
+    }
+
+    @Override
+    public StockNewsDTO getNewsArticle(long newsId) {
+        return stockNewsDAO.getNewsById(newsId);
+    }
+
     @Override
     public SentimentSummaryDTO getSentimentSummary(String stockCode) {
-        Map<String, Object> result = stockNewsDAO.getSentimentSummary(stockCode);
+        Map<String, Object> result = useCube()
+                ? sentimentCube.stockSummary(stockCode, 0)
+                : stockNewsDAO.getSentimentSummary(stockCode);
 
         if (result == null) {
             return new SentimentSummaryDTO(0, 0, 0, 0.0, 0.0, 0.0);
@@ -57,7 +103,9 @@ public class StockNewsServiceImpl implements StockNewsService {
 
     @Override
     public SentimentSummaryDTO getSentimentSummaryByStock(String stockCode) {
-        Map<String, Object> result = stockNewsDAO.getSentimentSummaryByStock(stockCode);
+        Map<String, Object> result = useCube()
+                ? sentimentCube.stockSummary(stockCode, 0)
+                : stockNewsDAO.getSentimentSummaryByStock(stockCode);
 
         if (result == null) {
             return new SentimentSummaryDTO(0, 0, 0, 0.0, 0.0, 0.0);
@@ -83,7 +131,9 @@ public class StockNewsServiceImpl implements StockNewsService {
 
     @Override
     public SentimentSummaryDTO getSentimentSummaryByStockWithPeriod(String stockCode, int days) {
-        Map<String, Object> result = stockNewsDAO.getSentimentSummaryByStockWithPeriod(stockCode, days);
+        Map<String, Object> result = useCube()
+                ? sentimentCube.stockSummary(stockCode, days)
+                : stockNewsDAO.getSentimentSummaryByStockWithPeriod(stockCode, days);
 
         if (result == null) {
             return new SentimentSummaryDTO(0, 0, 0, 0.0, 0.0, 0.0);
@@ -109,170 +159,58 @@ public class StockNewsServiceImpl implements StockNewsService {
 
     @Override
     public List<Map<String, Object>> getAllStockSentimentSummary() {
+        if (useCube()) return sentimentCube.allStocks(0);
         return stockNewsDAO.getAllStockSentimentSummary();
     }
 
     @Override
     public List<Map<String, Object>> getAllStockSentimentSummaryWithPeriod(int days) {
+        if (useCube()) return sentimentCube.allStocks(days);
         return stockNewsDAO.getAllStockSentimentSummaryWithPeriod(days);
     }
 
     @Override
     public List<Map<String, Object>> getSentimentTrendByStock(String stockCode, int days) {
+        if (useCube()) return sentimentCube.trend(stockCode, days);
         return stockNewsDAO.getSentimentTrendByStock(stockCode, days);
     }
 
     @Override
     public List<Map<String, Object>> getTopKeywordsByStock(String stockCode) {
-        // DB에서 KEYWORDS만 조회
-        List<Map<String, Object>> keywordRows = stockNewsDAO.getTopKeywordsByStock(stockCode);
-        
-        // Java에서 키워드 분리 및 카운트
-        Map<String, Integer> keywordCountMap = new HashMap<>();
-        
-        for (Map<String, Object> row : keywordRows) {
-            // 대소문자 구분 없이 KEYWORDS 찾기
-            Object keywordsObj = null;
-            for (String key : row.keySet()) {
-                if (key != null && key.toUpperCase().equals("KEYWORDS")) {
-                    keywordsObj = row.get(key);
-                    break;
-                }
-            }
-            
-            // KEYWORDS를 찾지 못한 경우 첫 번째 값 사용
-            if (keywordsObj == null && !row.isEmpty()) {
-                keywordsObj = row.values().iterator().next();
-            }
-            
-            String keywords = null;
-            
-            // CLOB 처리
-            if (keywordsObj != null) {
-                if (keywordsObj instanceof String) {
-                    keywords = (String) keywordsObj;
-                } else {
-                    try {
-                        if (keywordsObj.getClass().getName().contains("CLOB")) {
-                            java.sql.Clob clob = (java.sql.Clob) keywordsObj;
-                            long clobLength = clob.length();
-                            if (clobLength > 0) {
-                                keywords = clob.getSubString(1, (int) clobLength);
-                            }
-                        } else {
-                            keywords = keywordsObj.toString();
-                        }
-                    } catch (Exception e) {
-                        keywords = keywordsObj.toString();
-                    }
-                }
-            }
-            
-            if (keywords != null && !keywords.trim().isEmpty()) {
-                // 쉼표로 분리 (쉼표+공백 또는 쉼표만)
-                String[] keywordArray = keywords.split(",\\s*|,");
-                for (String keyword : keywordArray) {
-                    keyword = keyword.trim();
-                    // 빈 문자열이 아니고, 너무 긴 단어 제외 (100자 이상)
-                    if (!keyword.isEmpty() && keyword.length() <= 100) {
-                        keywordCountMap.put(keyword, keywordCountMap.getOrDefault(keyword, 0) + 1);
-                    }
-                }
+        if (useKeywordRollup) {
+            try {
+                return toKeywordCounts(stockNewsDAO.getTopKeywordsByStockRollup(stockCode, STOCK_KEYWORD_LIMIT));
+            } catch (Exception e) {
+                System.err.println("[getTopKeywordsByStock] 집계 테이블 조회 실패 - 원본 집계로 대체: " + e.getMessage());
             }
         }
-        
-        // 카운트 순으로 정렬하고 TOP 10 반환
-        return keywordCountMap.entrySet().stream()
-                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
-                .limit(10)
-                .map(entry -> {
-                    Map<String, Object> result = new HashMap<>();
-                    result.put("keyword", entry.getKey());
-                    result.put("keywordCount", entry.getValue());
-                    return result;
-                })
-                .collect(Collectors.toList());
+        // 집계 테이블이 없을 때: KEYWORDS 를 스트리밍으로 읽어 Java 에서 병렬 집계
+        return keywordAggregator.topByStock(stockCode, STOCK_KEYWORD_LIMIT);
     }
 
     @Override
     public List<Map<String, Object>> getTopKeywordsAll(int days) {
-        // DB에서 KEYWORDS만 조회
-        List<Map<String, Object>> keywordRows = stockNewsDAO.getTopKeywordsAll(days);
-        
-        // Java에서 키워드 분리 및 카운트
-        Map<String, Integer> keywordCountMap = new HashMap<>();
-        
-        for (Map<String, Object> row : keywordRows) {
-            // 대소문자 구분 없이 KEYWORDS 찾기
-            Object keywordsObj = null;
-            for (String key : row.keySet()) {
-                if (key != null && key.toUpperCase().equals("KEYWORDS")) {
-                    keywordsObj = row.get(key);
-                    break;
-                }
-            }
-            
-            // KEYWORDS를 찾지 못한 경우 첫 번째 값 사용
-            if (keywordsObj == null && !row.isEmpty()) {
-                keywordsObj = row.values().iterator().next();
-            }
-            
-            String keywords = null;
-            
-            // CLOB 처리
-            if (keywordsObj != null) {
-                if (keywordsObj instanceof String) {
-                    keywords = (String) keywordsObj;
-                } else {
-                    try {
-                        if (keywordsObj.getClass().getName().contains("CLOB")) {
-                            java.sql.Clob clob = (java.sql.Clob) keywordsObj;
-                            long clobLength = clob.length();
-                            if (clobLength > 0) {
-                                keywords = clob.getSubString(1, (int) clobLength);
-                            }
-                        } else {
-                            keywords = keywordsObj.toString();
-                        }
-                    } catch (Exception e) {
-                        keywords = keywordsObj.toString();
-                    }
-                }
-            }
-            
-            if (keywords != null && !keywords.trim().isEmpty()) {
-                // 쉼표로 분리 (쉼표+공백 또는 쉼표만)
-                String[] keywordArray = keywords.split(",\\s*|,");
-                for (String keyword : keywordArray) {
-                    keyword = keyword.trim();
-                    // 빈 문자열이 아니고, 너무 긴 단어 제외 (100자 이상)
-                    if (!keyword.isEmpty() && keyword.length() <= 100) {
-                        keywordCountMap.put(keyword, keywordCountMap.getOrDefault(keyword, 0) + 1);
-                    }
-                }
+        if (useKeywordRollup) {
+            try {
+                return toKeywordCounts(stockNewsDAO.getTopKeywordsAllRollup(days, ALL_KEYWORD_LIMIT));
+            } catch (Exception e) {
+                System.err.println("[getTopKeywordsAll] 집계 테이블 조회 실패 - 원본 집계로 대체: " + e.getMessage());
             }
         }
-        
-        // 카운트 순으로 정렬하고 TOP 20 반환
-        return keywordCountMap.entrySet().stream()
-                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
-                .limit(20)
-                .map(entry -> {
-                    Map<String, Object> result = new HashMap<>();
-                    result.put("keyword", entry.getKey());
-                    result.put("keywordCount", entry.getValue());
-                    return result;
-                })
-                .collect(Collectors.toList());
+        return keywordAggregator.topAll(days, ALL_KEYWORD_LIMIT);
+    }
+
+    @Override
+    public Map<String, Object> getTrendingKeywords(String window, int limit) {
+        return trendingKeywordTracker.trending(TrendingKeywordTracker.Window.of(window), limit);
     }
 
     @Override
     public Map<String, Object> getOverallSentimentSummary() {
+        if (useCube()) return sentimentCube.overall();
         return stockNewsDAO.getOverallSentimentSummary();
     }
 
-
-    
     @Override
     public List<String> getIndustries() {
         return stockNewsDAO.getIndustries();
@@ -284,65 +222,66 @@ public class StockNewsServiceImpl implements StockNewsService {
     }
 
     @Override
-    public List<StockNewsDTO> getNewsByKeyword(String keyword) {
-        return stockNewsDAO.getNewsByKeyword(keyword);
+    public StockNewsPageDTO getNewsByKeyword(String keyword, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        NewsCursor after = NewsCursor.decode(cursor);
+
+        String key = keywordKey(keyword);
+        if (key == null) return new StockNewsPageDTO(new ArrayList<>(), null, false);
+
+        List<StockNewsSummaryDTO> rows = stockNewsDAO.getNewsPageByKeyword(
+                key,
+                after == null ? null : after.getDate(),
+                after == null ? null : after.getNewsId(),
+                pageSize + 1);
+        return toPage(rows, pageSize);
     }
 
     @Override
-    public List<Map<String, Object>> getStocksByKeyword(String keyword) {
-        return stockNewsDAO.getStocksByKeyword(keyword);
-    }
+    public List<Map<String, Object>> getStocksByKeyword(String keyword, int page, int size) {
+        String key = keywordKey(keyword);
+        if (key == null) return new ArrayList<>();
 
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        int start = (Math.max(1, page) - 1) * pageSize + 1;
+        return stockNewsDAO.getStocksByKeyword(key, start, start + pageSize - 1);
+    }
 
-    
-
-    
-
-    // ===========================================================
-    // 🔧 공통 유틸리티 - 키워드 집계
-    // ===========================================================
-    private List<Map<String, Object>> extractTopKeywords(List<Map<String, Object>> keywordRows, int limit) {
-        Map<String, Integer> map = new HashMap<>();
-
-        for (Map<String, Object> row : keywordRows) {
-            Object clobOrString = row.values().iterator().next();
-            String text = safeClobToString(clobOrString);
+    // NEWS_KEYWORD.KEYWORD_KEY 와 같은 정규화 (TRIM + 대문자), 색인될 수 없는 값이면 null
+    private static String keywordKey(String keyword) {
+        if (keyword == null) return null;
+        String key = keyword.trim();
+        if (key.isEmpty() || key.length() > NewsKeywords.MAX_LENGTH) return null;
+        return key.toUpperCase(Locale.ROOT);
+    }
 
-            if (text == null) continue;
+    // pageSize + 1 건 조회 결과 → 한 페이지 + 다음 커서
+    private static StockNewsPageDTO toPage(List<StockNewsSummaryDTO> rows, int pageSize) {
+        boolean hasMore = rows.size() > pageSize;
+        List<StockNewsSummaryDTO> page = hasMore ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
 
-            String[] arr = text.split(",\\s*|,");
-            for (String kw : arr) {
-                kw = kw.trim();
-                if (!kw.isEmpty() && kw.length() <= 100) {
-                    map.put(kw, map.getOrDefault(kw, 0) + 1);
-                }
-            }
+        String nextCursor = null;
+        if (hasMore) {
+            StockNewsSummaryDTO last = page.get(page.size() - 1);
+            nextCursor = NewsCursor.encode(last.getNewsDate(), last.getNewsId());
         }
+        return new StockNewsPageDTO(page, nextCursor, hasMore);
+    }
 
-        return map.entrySet().stream()
-                .sorted(Map.Entry.<String,Integer>comparingByValue().reversed())
-                .limit(limit)
-                .map(e -> {
-                    Map<String, Object> r = new HashMap<>();
-                    r.put("keyword", e.getKey());
-                    r.put("keywordCount", e.getValue());
-                    return r;
-                })
-                .collect(Collectors.toList());
+    private boolean useCube() {
+        return useSentimentCube && sentimentCube.isReady();
     }
 
-    private String safeClobToString(Object obj) {
-        if (obj == null) return null;
-        try {
-            if (obj instanceof String) return (String) obj;
-            if (obj instanceof java.sql.Clob) {
-                java.sql.Clob clob = (java.sql.Clob) obj;
-                return clob.getSubString(1, (int) clob.length());
-            }
-            return obj.toString();
-        } catch (Exception e) {
-            return null;
+    // 집계 테이블 결과 (KEYWORD, CNT) → 기존 응답 형식 (keyword, keywordCount)
+    private List<Map<String, Object>> toKeywordCounts(List<Map<String, Object>> rows) {
+        List<Map<String, Object>> list = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            Map<String, Object> r = new HashMap<>();
+            r.put("keyword", row.get("KEYWORD"));
+            r.put("keywordCount", getNumber(row.get("CNT")));
+            list.add(r);
         }
+        return list;
     }
 
     // ===========================================================
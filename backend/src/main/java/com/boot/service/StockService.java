@@ -1,13 +1,20 @@
 package com.boot.service;
 
+import java.util.Iterator;
 import java.util.List;
+import com.boot.dto.IngestResultDTO;
 import com.boot.dto.StockInfoDTO;
 import com.boot.dto.StockNewsDTO;
+import com.boot.ingest.IngestRow;
 
 public interface StockService {
     void insertStockInfo(StockInfoDTO dto);
     void insertStockNews(StockNewsDTO dto);
 
+    // 대량 수집 (JSON 배열 / NDJSON 을 한 행씩 읽어 chunk 단위 BATCH 저장)
+    IngestResultDTO insertStockInfoBulk(Iterator<IngestRow<StockInfoDTO>> rows);
+    IngestResultDTO insertStockNewsBulk(Iterator<IngestRow<StockNewsDTO>> rows);
+
     List<StockInfoDTO> selectTop100MarketCapPaged(int page, int size);
 
     
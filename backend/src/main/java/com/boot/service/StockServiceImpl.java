@@ -1,14 +1,29 @@
 package com.boot.service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.boot.cache.SearchResultCache;
 import com.boot.dao.StockInfoDAO;
 import com.boot.dao.StockMapper;
+import com.boot.dto.IngestResultDTO;
 import com.boot.dto.StockInfoDTO;
 import com.boot.dto.StockNewsDTO;
+import com.boot.ingest.BatchWriter;
+import com.boot.ingest.IngestRow;
+import com.boot.news.NearDuplicateDetector;
+import com.boot.news.SentimentCube;
+import com.boot.news.TrendingKeywordTracker;
+import com.boot.search.NewsSearchIndex;
+import com.boot.search.StockSearchIndex;
+import com.boot.search.StockTagger;
 
 @Service
 public class StockServiceImpl implements StockService {
@@ -19,14 +34,162 @@ public class StockServiceImpl implements StockService {
     @Autowired
     private StockInfoDAO stockDAO;
 
+    @Autowired
+    private StockSearchIndex stockSearchIndex;
+
+    @Autowired
+    private NewsSearchIndex newsSearchIndex;
+
+    @Autowired
+    private SearchResultCache searchResultCache;
+
+    @Autowired
+    private StockTagger stockTagger;
+
+    @Autowired
+    private TrendingKeywordTracker trendingKeywordTracker;
+
+    @Autowired
+    private SentimentCube sentimentCube;
+
+    @Autowired
+    private NearDuplicateDetector nearDuplicateDetector;
+
+    @Autowired
+    private BatchWriter batchWriter;
+
     @Override
     public void insertStockInfo(StockInfoDTO dto) {
         mapper.insertStockInfo(dto);
+        boolean renamed = afterStockInfo(dto);
+        searchResultCache.evictStocks(Collections.singletonList(dto),
+                renamed ? Collections.singletonList(dto) : Collections.emptyList());
     }
 
     @Override
     public void insertStockNews(StockNewsDTO dto) {
-        mapper.insertStockNews(dto);
+        // 유사 중복 판정에서 원본이면 바로 등록하므로 NEWS_ID 를 먼저 채번 (대량 수집과 같은 방식)
+        dto.setNewsId(mapper.selectNewsIds(1).get(0));
+        prepareNews(dto);
+        try {
+            mapper.insertStockNewsWithId(dto);
+        } catch (RuntimeException e) {
+            nearDuplicateDetector.discard(dto);
+            throw e;
+        }
+        afterNews(dto);
+        searchResultCache.evictNews(Collections.singletonList(dto));
+    }
+
+    // ================= 대량 수집 =================
+    @Override
+    public IngestResultDTO insertStockInfoBulk(Iterator<IngestRow<StockInfoDTO>> rows) {
+        return batchWriter.write("STOCK_INFO", rows, new BatchWriter.Handler<StockInfoDTO>() {
+            // chunk 안의 신규 종목/종목명 변경 (캐시 키 전체 비교 대상)
+            private final List<StockInfoDTO> renamed = new ArrayList<>();
+
+            @Override
+            public void insert(StockMapper batch, StockInfoDTO dto) {
+                batch.insertStockInfo(dto);
+            }
+
+            @Override
+            public void committed(StockInfoDTO dto, IngestResultDTO.Row result) {
+                result.setKey(dto.getStockCode());
+                if (afterStockInfo(dto)) renamed.add(dto);
+            }
+
+            @Override
+            public void committedAll(List<StockInfoDTO> rows) {
+                try {
+                    searchResultCache.evictStocks(rows, renamed);
+                } finally {
+                    renamed.clear();
+                }
+            }
+        });
+    }
+
+    @Override
+    public IngestResultDTO insertStockNewsBulk(Iterator<IngestRow<StockNewsDTO>> rows) {
+        return batchWriter.write("STOCK_NEWS", rows, new BatchWriter.Handler<StockNewsDTO>() {
+            // 저장에 실패한 기사 (이 기사를 원본으로 잡은 뒤쪽 기사는 다시 판정)
+            private final Set<Long> failedIds = new HashSet<>();
+
+            @Override
+            public void prepare(List<StockNewsDTO> chunk) {
+                // chunk 건수만큼 한 번에 채번 → 원본 기사는 판정하면서 바로 등록되어 요청 안의 뒤 기사와도 중복 비교
+                List<Long> ids = mapper.selectNewsIds(chunk.size());
+                for (int i = 0; i < chunk.size(); i++) {
+                    StockNewsDTO dto = chunk.get(i);
+                    dto.setNewsId(ids.get(i));
+                    prepareNews(dto);
+                }
+            }
+
+            @Override
+            public void insert(StockMapper batch, StockNewsDTO dto) {
+                // chunk 실패 후 한 행씩 재시도할 때: 앞 기사가 실패했으면 없는 원본을 가리키지 않도록 다시 판정
+                // (재시도는 chunk 순서대로라 원본 기사의 성공/실패가 먼저 정해짐)
+                if (dto.getCanonicalNewsId() != null && failedIds.contains(dto.getCanonicalNewsId())) {
+                    nearDuplicateDetector.classify(dto);
+                }
+                batch.insertStockNewsWithId(dto);
+            }
+
+            @Override
+            public void committed(StockNewsDTO dto, IngestResultDTO.Row result) {
+                result.setKey(String.valueOf(dto.getNewsId()));
+                if (dto.getCanonicalNewsId() != null) {
+                    result.setStatus(IngestResultDTO.DUPLICATE);
+                    result.setCanonicalNewsId(dto.getCanonicalNewsId());
+                }
+                afterNews(dto);
+            }
+
+            @Override
+            public void committedAll(List<StockNewsDTO> rows) {
+                searchResultCache.evictNews(rows);
+            }
+
+            @Override
+            public void failed(StockNewsDTO dto) {
+                nearDuplicateDetector.discard(dto);
+                if (dto.getNewsId() != null) failedIds.add(dto.getNewsId());
+            }
+        });
+    }
+
+    // ================= 수집 전/후 처리 (단건, 대량 공통) =================
+    // 검색 결과 캐시 무효화는 대량 수집이면 chunk 단위 (committedAll)
+    /** @return 신규 종목/종목명 변경 여부 */
+    private boolean afterStockInfo(StockInfoDTO dto) {
+        // 자동완성 인덱스 증분 반영
+        boolean renamed = stockSearchIndex.upsert(dto);
+        // 신규 종목/종목명 변경이면 뉴스 태깅 오토마톤 재구성 예약
+        stockTagger.onStockChanged(dto);
+        return renamed;
+    }
+
+    private void prepareNews(StockNewsDTO dto) {
+        // 종목코드 없이 들어온 뉴스는 제목/본문의 종목명으로 바로 지정
+        if (dto.getStockCode() == null || dto.getStockCode().isBlank()) {
+            dto.setStockCode(stockTagger.tag(dto.getTitle(), dto.getContent()));
+        }
+        // 최근 기사와 거의 같은 기사(다른 매체의 같은 통신사 기사)면 원본 뉴스에 연결
+        nearDuplicateDetector.classify(dto);
+    }
+
+    private void afterNews(StockNewsDTO dto) {
+        // 뉴스 검색 인덱스 증분 반영
+        newsSearchIndex.add(dto);
+
+        // 중복 기사는 집계에 다시 세지 않음 (DB 집계 테이블도 트리거에서 제외)
+        if (dto.getCanonicalNewsId() != null) return;
+        // 트렌드 키워드 요약 반영 (KEYWORDS 가 있는 경우)
+        trendingKeywordTracker.record(dto);
+        // 감성 큐브 즉시 반영 (DB 집계 테이블은 트리거가 갱신)
+        sentimentCube.apply(dto);
     }
 
     @Override
@@ -0,0 +1,48 @@
+package com.boot.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * StockNewsDTO.newsDate(String) 파싱 유틸
+ * - 조회 쿼리는 TO_CHAR(NEWS_DATE, 'YYYY-MM-DD HH24:MI:SS') 형식
+ * - 크롤러가 보내는 값은 ISO("2025-12-01T09:30:00") 또는 날짜만 오는 경우도 있음
+ */
+public final class NewsDateUtil {
+
+    public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private static final DateTimeFormatter DB_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private NewsDateUtil() {
+    }
+
+    /** 파싱할 수 없으면 null */
+    public static LocalDateTime parse(String newsDate) {
+        if (newsDate == null) return null;
+        String s = newsDate.trim().replace('T', ' ');
+        try {
+            if (s.length() >= 19) return LocalDateTime.parse(s.substring(0, 19), DB_FORMAT);
+            if (s.length() >= 16) return LocalDateTime.parse(s.substring(0, 16) + ":00", DB_FORMAT);
+            if (s.length() >= 10) return LocalDate.parse(s.substring(0, 10)).atStartOfDay();
+        } catch (Exception ignored) {
+            // 형식이 다른 값은 null 처리
+        }
+        return null;
+    }
+
+    /** 파싱 실패 시 현재 시각 */
+    public static long toEpochMillis(String newsDate) {
+        LocalDateTime t = parse(newsDate);
+        if (t == null) return System.currentTimeMillis();
+        return t.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    /** 파싱 실패 시 오늘 */
+    public static LocalDate toDate(String newsDate) {
+        LocalDateTime t = parse(newsDate);
+        return t == null ? LocalDate.now(ZONE) : t.toLocalDate();
+    }
+}
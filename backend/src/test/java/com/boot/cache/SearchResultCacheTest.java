@@ -0,0 +1,163 @@
+package com.boot.cache;
+
+import static com.boot.support.TestFixtures.news;
+import static com.boot.support.TestFixtures.stock;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.boot.dto.StockInfoDTO;
+import com.boot.search.NewsTokenizer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 검색 결과 캐시 무효화 - 질의 키와 바뀐 종목/뉴스의 일치 규칙, 로컬 역색인으로 찾은 키만 삭제
+ * (Redis 는 장애 모드로 두고 로컬 캐시만 사용)
+ */
+class SearchResultCacheTest {
+
+    private SearchResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RedisAvailability redisAvailability = new RedisAvailability();
+        ReflectionTestUtils.setField(redisAvailability, "meterRegistry", registry);
+        ReflectionTestUtils.setField(redisAvailability, "retrySeconds", 3600L);
+        redisAvailability.init();
+        redisAvailability.failure(new IllegalStateException("테스트: Redis 없음"));
+
+        CacheInvalidationBus bus = new CacheInvalidationBus();
+        ReflectionTestUtils.setField(bus, "redisAvailability", redisAvailability);
+        bus.init();
+
+        cache = new SearchResultCache();
+        ReflectionTestUtils.setField(cache, "meterRegistry", registry);
+        ReflectionTestUtils.setField(cache, "cacheInvalidationBus", bus);
+        ReflectionTestUtils.setField(cache, "redisAvailability", redisAvailability);
+        ReflectionTestUtils.setField(cache, "localMaxSize", 100L);
+        ReflectionTestUtils.setField(cache, "localTtlSeconds", 60L);
+        cache.init();
+    }
+
+    // ================= 일치 규칙 =================
+    @Test
+    void stockMatchesNameCodeChoseongAndJamo() {
+        List<String[]> samsung = Collections.singletonList(SearchResultCache.stockTerms(stock("005930", "삼성 전자")));
+
+        assertTrue(SearchResultCache.matchesStock("삼성", samsung));
+        assertTrue(SearchResultCache.matchesStock("전자", samsung));
+        assertTrue(SearchResultCache.matchesStock("0059", samsung));
+        assertTrue(SearchResultCache.matchesStock("ㅅㅅㅈ", samsung));
+        // 입력 중인 마지막 글자 ("삼서" → 삼성)
+        assertTrue(SearchResultCache.matchesStock("삼서", samsung));
+        assertFalse(SearchResultCache.matchesStock("하이닉스", samsung));
+        assertFalse(SearchResultCache.matchesStock("LG", samsung));
+    }
+
+    @Test
+    void newsMatchesOnlyWhenOneArticleHasAllTokens() {
+        List<Set<String>> docs = new ArrayList<>();
+        docs.add(SearchResultCache.newsTerms(news(null, null, "삼성전자, HBM 공급", "엔비디아에 납품")));
+        docs.add(SearchResultCache.newsTerms(news(null, null, "반도체 업황", null)));
+
+        // 띄어쓰기 무시 (질의와 기사 모두 bigram)
+        assertTrue(SearchResultCache.matchesNews(NewsTokenizer.tokenize("삼성 전자"), docs));
+        assertTrue(SearchResultCache.matchesNews(NewsTokenizer.tokenize("엔비디아"), docs));
+        // 1글자 질의는 기사 글자와 비교
+        assertTrue(SearchResultCache.matchesNews(NewsTokenizer.tokenize("삼"), docs));
+        // 토큰이 서로 다른 기사에만 있으면 일치하지 않음
+        assertFalse(SearchResultCache.matchesNews(NewsTokenizer.tokenize("삼성 업황"), docs));
+        assertFalse(SearchResultCache.matchesNews(NewsTokenizer.tokenize("!!"), docs));
+    }
+
+    @Test
+    void indexTokenIsLongestToken() {
+        assertEquals("삼성", SearchResultCache.indexToken("삼성전자"));
+        assertEquals("HB", SearchResultCache.indexToken("삼, HBM"));
+        assertEquals("삼", SearchResultCache.indexToken("삼"));
+        assertNull(SearchResultCache.indexToken("!!"));
+    }
+
+    // ================= 무효화 =================
+    @Test
+    void priceUpdateEvictsOnlyKeysContainingStock() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("삼성", () -> result(loads, stock("005930", "삼성전자")));
+        cache.get("하이닉스", () -> result(loads, stock("000660", "SK하이닉스")));
+
+        cache.evictStocks(Collections.singletonList(stock("005930", "삼성전자")), Collections.emptyList());
+
+        cache.get("삼성", () -> result(loads, stock("005930", "삼성전자")));
+        cache.get("하이닉스", () -> result(loads, stock("000660", "SK하이닉스")));
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void newStockEvictsKeysMatchingItsName() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("삼성", () -> result(loads, stock("005930", "삼성전자")));
+        cache.get("하이닉스", () -> result(loads, stock("000660", "SK하이닉스")));
+
+        // 신규 상장 "삼성에피스": 결과에 없던 종목이지만 "삼성" 결과가 달라짐
+        StockInfoDTO listed = stock("207940", "삼성에피스");
+        cache.evictStocks(Collections.singletonList(listed), Collections.singletonList(listed));
+
+        cache.get("삼성", () -> result(loads, stock("005930", "삼성전자")));
+        cache.get("하이닉스", () -> result(loads, stock("000660", "SK하이닉스")));
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void newsEvictsKeysByToken() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("삼성 전자", () -> result(loads));
+        cache.get("하이닉스", () -> result(loads));
+        cache.get("삼", () -> result(loads));
+
+        cache.evictNews(Collections.singletonList(news(null, null, "삼성전자 신고가", "외국인 순매수")));
+
+        cache.get("삼성전자", () -> result(loads));
+        cache.get("하이닉스", () -> result(loads));
+        cache.get("삼", () -> result(loads));
+        assertEquals(5, loads.get());
+    }
+
+    @Test
+    void keyIndexDropsEmptyTerms() {
+        KeyIndex index = new KeyIndex();
+        index.add("삼성", "삼성전자");
+        index.add("삼성", "삼성");
+        index.add("전자", "삼성전자");
+
+        assertEquals(Set.of("삼성전자", "삼성"), index.get(List.of("삼성", "없음")));
+        index.remove("삼성", "삼성");
+        index.remove("삼성", "삼성전자");
+        assertEquals(1, index.size());
+        assertEquals(Set.of("삼성전자"), index.get(List.of("삼성", "전자")));
+    }
+
+    // ================= 도우미 =================
+    private static Map<String, Object> result(AtomicInteger loads, StockInfoDTO... stocks) {
+        loads.incrementAndGet();
+        Map<String, Object> result = new HashMap<>();
+        result.put("stocks", new ArrayList<>(List.of(stocks)));
+        result.put("news", new ArrayList<>());
+        result.put("partial", false);
+        return result;
+    }
+}
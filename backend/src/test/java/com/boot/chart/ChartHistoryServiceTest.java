@@ -0,0 +1,90 @@
+package com.boot.chart;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.boot.cache.CacheInvalidationBus;
+import com.boot.dto.IndexDataDTO;
+import com.boot.service.IndexReadService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 차트 이력 다운샘플 - LTTB 의 x 축은 행 위치가 아니라 기준일자 (epoch day) → 휴장 기간이 모양에 반영
+ */
+class ChartHistoryServiceTest {
+
+    @Test
+    void downsamplesOnEpochDayAxis() {
+        // 01-06 과 01-16 사이 10일 휴장
+        List<IndexDataDTO> history = new ArrayList<>();
+        history.add(row("20250102", 100));
+        history.add(row("20250103", 101));
+        history.add(row("20250104", 104));
+        history.add(row("20250105", 103));
+        history.add(row("20250106", 102));
+        history.add(row("20250116", 99));
+        history.add(row("20250117", 100));
+        history.add(row("20250118", 98));
+        ChartHistoryService service = service(history);
+
+        // 행 위치를 x 로 쓰면 둘째 버킷에서 01-16 (위치 5) 을 고르지만 날짜 간격으로는 01-17
+        assertEquals(List.of("20250102", "20250104", "20250117", "20250118"),
+                dates(service.getHistory(ChartHistoryService.KOSPI, null, null, 4)));
+
+        int[] byPosition = Lttb.select(new int[] { 0, 1, 2, 3, 4, 5, 6, 7 },
+                new double[] { 100, 101, 104, 103, 102, 99, 100, 98 }, 0, 8, 4);
+        assertEquals(5, byPosition[2]);
+    }
+
+    @Test
+    void usesRangeAndSkipsDownsampleWhenSmall() {
+        List<IndexDataDTO> history = new ArrayList<>();
+        for (int d = 1; d <= 9; d++) history.add(row("2025010" + d, 100 + d));
+        ChartHistoryService service = service(history);
+
+        assertEquals(List.of("20250103", "20250104", "20250105"),
+                dates(service.getHistory(ChartHistoryService.KOSPI, "2025-01-03", "20250105", 3)));
+        assertEquals(9, service.getHistory(ChartHistoryService.KOSPI, null, null, null).size());
+        List<String> three = dates(service.getHistory(ChartHistoryService.KOSPI, null, null, 3));
+        assertEquals(3, three.size());
+        assertEquals("20250101", three.get(0));
+        assertEquals("20250109", three.get(2));
+    }
+
+    // ================= 도우미 =================
+    private static ChartHistoryService service(List<IndexDataDTO> history) {
+        IndexReadService indexReadService = mock(IndexReadService.class);
+        when(indexReadService.getKospiTimeSeriesData()).thenReturn(history);
+        ChartHistoryService service = new ChartHistoryService();
+        ReflectionTestUtils.setField(service, "indexReadService", indexReadService);
+        ReflectionTestUtils.setField(service, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "cacheInvalidationBus", new CacheInvalidationBus());
+        ReflectionTestUtils.setField(service, "maxPointsLimit", 5000);
+        ReflectionTestUtils.setField(service, "cacheSize", 256L);
+        ReflectionTestUtils.setField(service, "cacheTtlMinutes", 60L);
+        service.init();
+        return service;
+    }
+
+    private static IndexDataDTO row(String basDt, double clpr) {
+        IndexDataDTO dto = new IndexDataDTO();
+        dto.setIdxNm("코스피");
+        dto.setBasDt(basDt);
+        dto.setClpr(clpr);
+        return dto;
+    }
+
+    private static List<String> dates(List<IndexDataDTO> rows) {
+        List<String> dates = new ArrayList<>();
+        for (IndexDataDTO row : rows) dates.add(row.getBasDt());
+        return dates;
+    }
+}
@@ -0,0 +1,128 @@
+package com.boot.chart;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import com.boot.dto.IndexDataDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 열 형식 지수 이력 코덱 - 왕복 정확성 + 기존 형식 대비 크기
+ * 시간 비교(benchmark) 는 환경마다 달라 출력만 하고 기본 test 에서는 제외 (./gradlew benchmark)
+ */
+class IndexHistoryCodecTest {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    @Test
+    void roundTrip() {
+        List<IndexDataDTO> rows = kospiLike(300);
+        rows.get(5).setVs(null);
+        rows.get(7).setIdxNm(null);
+        rows.get(9).setTrqu(123456789L);
+
+        List<IndexDataDTO> decoded = IndexHistoryCodec.decode(IndexHistoryCodec.encode(rows));
+
+        assertEquals(rows, decoded);
+        assertNull(decoded.get(5).getVs());
+        assertNull(decoded.get(7).getIdxNm());
+        assertEquals(123456789L, decoded.get(9).getTrqu());
+    }
+
+    @Test
+    void emptyAndUnencodable() {
+        assertEquals(List.of(), IndexHistoryCodec.decode(IndexHistoryCodec.encode(List.of())));
+
+        List<IndexDataDTO> rows = kospiLike(3);
+        rows.get(1).setBasDt("2024-01-02");
+        assertThrows(IllegalArgumentException.class, () -> IndexHistoryCodec.encode(rows));
+        assertThrows(IllegalArgumentException.class, () -> IndexHistoryCodec.decode("[]".getBytes()));
+    }
+
+    @Test
+    void smallerThanJson() throws Exception {
+        List<IndexDataDTO> rows = kospiLike(11_500);   // 1980 ~ 현재 KOSPI 영업일 수 정도
+        byte[] http = new ObjectMapper().writeValueAsBytes(rows);
+        byte[] columnar = IndexHistoryCodec.encode(rows);
+
+        assertEquals(rows, IndexHistoryCodec.decode(columnar));
+        assertTrue(columnar.length * 10 < http.length, "열 형식이 JSON 의 1/10 보다 커짐");
+    }
+
+    @Test
+    @Tag("benchmark")
+    void benchmark() throws Exception {
+        List<IndexDataDTO> rows = kospiLike(11_500);
+        ObjectMapper objectMapper = new ObjectMapper();
+        GenericJackson2JsonRedisSerializer redisJson = new GenericJackson2JsonRedisSerializer();
+
+        byte[] http = objectMapper.writeValueAsBytes(rows);
+        byte[] redis = redisJson.serialize(rows);
+        byte[] columnar = IndexHistoryCodec.encode(rows);
+
+        int rounds = 30;
+        long httpNanos = time(rounds, () -> objectMapper.writeValueAsBytes(rows));
+        long redisNanos = time(rounds, () -> redisJson.serialize(rows));
+        long encodeNanos = time(rounds, () -> IndexHistoryCodec.encode(rows));
+        long redisReadNanos = time(rounds, () -> redisJson.deserialize(redis));
+        long decodeNanos = time(rounds, () -> IndexHistoryCodec.decode(columnar));
+
+        System.out.printf("[IndexHistoryCodec] %d행%n", rows.size());
+        System.out.printf("  JSON 배열 (HTTP)     %,10d bytes  쓰기 %6.2f ms%n", http.length, httpNanos / 1e6);
+        System.out.printf("  JSON + 타입 (Redis)  %,10d bytes  쓰기 %6.2f ms  읽기 %6.2f ms%n",
+                redis.length, redisNanos / 1e6, redisReadNanos / 1e6);
+        System.out.printf("  열 형식              %,10d bytes  쓰기 %6.2f ms  읽기 %6.2f ms  (HTTP 대비 %.1f%%)%n",
+                columnar.length, encodeNanos / 1e6, decodeNanos / 1e6, 100.0 * columnar.length / http.length);
+    }
+
+    // ================= 테스트 데이터 =================
+    /** selectKospiHistory 와 같은 컬럼 (idxNm, basDt, clpr, vs, fltRt), 주말 제외 */
+    private static List<IndexDataDTO> kospiLike(int n) {
+        Random random = new Random(42);
+        List<IndexDataDTO> rows = new ArrayList<>(n);
+        LocalDate day = LocalDate.of(1980, 1, 4);
+        long close = 10_000;   // 100.00 (소수 2자리 정수)
+
+        while (rows.size() < n) {
+            if (day.getDayOfWeek() != DayOfWeek.SATURDAY && day.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                long change = Math.round(random.nextGaussian() * close * 0.012);
+                long prev = close;
+                close = Math.max(100, close + change);
+
+                IndexDataDTO dto = new IndexDataDTO();
+                dto.setIdxNm("코스피");
+                dto.setBasDt(day.format(DATE_FORMATTER));
+                dto.setClpr(close / 100.0);
+                dto.setVs((close - prev) / 100.0);
+                dto.setFltRt(Math.round((close - prev) * 10_000.0 / prev) / 100.0);
+                rows.add(dto);
+            }
+            day = day.plusDays(1);
+        }
+        return rows;
+    }
+
+    private static long time(int rounds, ThrowingRunnable r) throws Exception {
+        for (int i = 0; i < 5; i++) r.run();   // 예열
+        long started = System.nanoTime();
+        for (int i = 0; i < rounds; i++) r.run();
+        return (System.nanoTime() - started) / rounds;
+    }
+
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
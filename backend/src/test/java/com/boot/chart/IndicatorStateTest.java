@@ -0,0 +1,114 @@
+package com.boot.chart;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 기술 지표 증분 계산 - 이어서 계산한 값이 처음부터 계산한 값과 같은지
+ * (SMA 주기적 재합산, MACD 시그널 시작 위치 포함)
+ */
+class IndicatorStateTest {
+
+    private static final List<String> SPECS = List.of("sma:20", "ema:20", "rsi:14", "macd:12:26:9", "bb:20:2");
+
+    @Test
+    void appendDays() {
+        double[] closes = closes(300);
+        for (String text : SPECS) {
+            IndicatorSpec spec = IndicatorSpec.parse(text, 500);
+            IndicatorState incremental = spec.newState();
+
+            // 하루씩 붙임 → SMA 재합산 위치(k % n == 0), MACD 시그널 시작 위치를 모두 지나감
+            assertEquals(30, incremental.sync(Arrays.copyOf(closes, 30)));
+            for (int len = 31; len <= closes.length; len++) {
+                assertEquals(1, incremental.sync(Arrays.copyOf(closes, len)), text);
+            }
+            assertSameValues(text, fresh(spec, closes), incremental);
+        }
+    }
+
+    @Test
+    void changePastClose() {
+        double[] closes = closes(300);
+        for (String text : SPECS) {
+            IndicatorSpec spec = IndicatorSpec.parse(text, 500);
+            IndicatorState incremental = spec.newState();
+            incremental.sync(closes);
+
+            // 과거 종가 보정 + 새 영업일 → 처음 달라진 위치부터 다시 계산
+            double[] corrected = Arrays.copyOf(closes, 310);
+            for (int i = 300; i < 310; i++) corrected[i] = corrected[i - 1] * 1.01;
+            corrected[150] += 12.5;
+            assertEquals(160, incremental.sync(corrected), text);
+            assertSameValues(text, fresh(spec, corrected), incremental);
+
+            // 같은 값의 다른 배열이면 다시 계산하지 않음
+            assertEquals(0, incremental.sync(corrected.clone()), text);
+        }
+    }
+
+    @Test
+    void smaMatchesWindowMean() {
+        double[] closes = closes(300);
+        IndicatorState sma = IndicatorSpec.parse("sma:20", 500).newState();
+        sma.sync(closes);
+
+        for (int i = 19; i < closes.length; i++) {
+            double sum = 0;
+            for (int j = i - 19; j <= i; j++) sum += closes[j];
+            assertEquals(sum / 20, sma.value(0, i), 1e-9);
+        }
+    }
+
+    @Test
+    void macdSignalStartsAfterSlowPeriod() {
+        double[] closes = closes(120);
+        IndicatorState macd = IndicatorSpec.parse("macd:12:26:9", 500).newState();
+        macd.sync(closes);
+
+        // MACD 는 25 번째부터, 시그널은 그 뒤 9 개가 모인 33 번째부터 (첫 값은 MACD 9 개 평균)
+        assertTrue(Double.isNaN(macd.value(0, 24)));
+        assertFalse(Double.isNaN(macd.value(0, 25)));
+        assertTrue(Double.isNaN(macd.value(1, 32)));
+        double sum = 0;
+        for (int i = 25; i <= 33; i++) sum += macd.value(0, i);
+        assertEquals(sum / 9, macd.value(1, 33), 1e-9);
+        assertEquals(macd.value(0, 33) - macd.value(1, 33), macd.value(2, 33), 1e-12);
+    }
+
+    // ================= 도우미 =================
+    private static IndicatorState fresh(IndicatorSpec spec, double[] closes) {
+        IndicatorState state = spec.newState();
+        state.sync(closes.clone());
+        return state;
+    }
+
+    private static void assertSameValues(String text, IndicatorState expected, IndicatorState actual) {
+        assertEquals(expected.size(), actual.size(), text);
+        for (int col = 0; col < expected.outputs(); col++) {
+            for (int i = 0; i < expected.size(); i++) {
+                // 같은 연산 순서 → 비트 단위로 같아야 함 (NaN 끼리도 같음)
+                assertEquals(expected.value(col, i), actual.value(col, i), text + " col " + col + " @" + i);
+            }
+        }
+    }
+
+    /** 종가 2,500 근처 랜덤 워크 */
+    private static double[] closes(int n) {
+        Random random = new Random(7);
+        double[] closes = new double[n];
+        double close = 2_500;
+        for (int i = 0; i < n; i++) {
+            close = Math.max(100, close * (1 + random.nextGaussian() * 0.012));
+            closes[i] = Math.round(close * 100) / 100.0;
+        }
+        return closes;
+    }
+}
@@ -0,0 +1,83 @@
+package com.boot.chart;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * LTTB 다운샘플링 - 점 개수, 양 끝점 유지, 버킷마다 한 점 (정수 경계), 알려진 계열의 선택 위치
+ */
+class LttbTest {
+
+    @Test
+    void picksKnownPoints() {
+        // 버킷 [1, 4) [4, 7): 첫 버킷은 급등(2), 둘째 버킷은 급락(5)
+        int[] x = { 0, 1, 2, 3, 4, 5, 6, 7 };
+        double[] y = { 0, 1, 10, 2, 3, -8, 4, 0 };
+        assertArrayEquals(new int[] { 0, 2, 5, 7 }, Lttb.select(x, y, 0, 8, 4));
+
+        // 같은 계열을 앞뒤로 감싼 [2, 10) 구간 → 위치만 2 씩 밀림
+        int[] wx = new int[12];
+        double[] wy = new double[12];
+        for (int i = 0; i < 12; i++) wx[i] = i - 2;
+        System.arraycopy(y, 0, wy, 2, 8);
+        wy[0] = 1000;
+        wy[11] = -1000;
+        assertArrayEquals(new int[] { 2, 4, 7, 9 }, Lttb.select(wx, wy, 2, 10, 4));
+    }
+
+    @Test
+    void keepsCountEndpointsAndBuckets() {
+        Random random = new Random(7);
+        for (int n = 4; n <= 300; n++) {
+            int[] x = new int[n];
+            double[] y = new double[n];
+            for (int i = 0; i < n; i++) {
+                x[i] = i;
+                y[i] = random.nextGaussian();
+            }
+            for (int threshold = 3; threshold < n; threshold++) {
+                int[] picked = Lttb.select(x, y, 0, n, threshold);
+                assertEquals(threshold, picked.length);
+                assertEquals(0, picked[0]);
+                assertEquals(n - 1, picked[threshold - 1]);
+
+                // b 번째 점은 b 번째 버킷 [1 + b(n-2)/B, 1 + (b+1)(n-2)/B) 안
+                int buckets = threshold - 2;
+                for (int b = 0; b < buckets; b++) {
+                    int start = 1 + b * (n - 2) / buckets;
+                    int end = 1 + (b + 1) * (n - 2) / buckets;
+                    int p = picked[b + 1];
+                    assertTrue(start <= p && p < end, "n=" + n + " threshold=" + threshold + " b=" + b);
+                }
+            }
+        }
+    }
+
+    @Test
+    void lastBucketReachesPointBeforeEnd() {
+        // n=17, threshold=13: 부동소수 경계 floor(11 * (15 / 11.0)) = 14 → 위치 15 가 어느 버킷에도 들지 않던 경우
+        int n = 17;
+        int[] x = new int[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) x[i] = i;
+        y[15] = 100;
+
+        int[] picked = Lttb.select(x, y, 0, n, 13);
+        assertEquals(15, picked[11]);
+        assertEquals(16, picked[12]);
+    }
+
+    @Test
+    void returnsWholeRangeWhenSmall() {
+        int[] x = { 0, 1, 2, 3, 4 };
+        double[] y = { 1, 2, 3, 4, 5 };
+        assertArrayEquals(new int[] { 1, 2, 3 }, Lttb.select(x, y, 1, 4, 3));
+        assertArrayEquals(new int[] { 0, 1, 2, 3, 4 }, Lttb.select(x, y, 0, 5, 2));
+        assertArrayEquals(new int[0], Lttb.select(x, y, 3, 3, 3));
+    }
+}
@@ -0,0 +1,207 @@
+package com.boot.ingest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.defaults.DefaultSqlSessionFactory;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.boot.dao.StockMapper;
+import com.boot.dto.IngestResultDTO;
+
+/**
+ * 대량 수집 공통 처리 - chunk 실패 시 한 행씩 재시도, 변환 오류 행, 본문 읽기 중단
+ * (DB 없이: flushStatements 에서 "BAD" 행이 든 배치만 실패시키는 BATCH 세션으로 대체)
+ */
+class BatchWriterTest {
+
+    private FakeBatchSession session;
+    private BatchWriter writer;
+    private RecordingHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        SqlSessionFactory factory = new DefaultSqlSessionFactory(new Configuration(
+                new Environment("test", new JdbcTransactionFactory(), new SimpleDriverDataSource())));
+        writer = new BatchWriter(factory, new NoOpTransactionManager());
+        ReflectionTestUtils.setField(writer, "chunkSize", 2);
+        ReflectionTestUtils.setField(writer, "maxConcurrent", 1);
+        ReflectionTestUtils.setField(writer, "queueWaitMs", 0L);
+        ReflectionTestUtils.setField(writer, "retryAfterSeconds", 5);
+        writer.init();
+
+        session = new FakeBatchSession(factory);
+        ReflectionTestUtils.setField(writer, "batchSession", session);
+        handler = new RecordingHandler(session);
+    }
+
+    @Test
+    void failedChunkIsRetriedRowByRow() {
+        IngestResultDTO result = writer.write("TEST", rows("a", "BAD", "c"), handler);
+
+        assertEquals(3, result.getTotal());
+        assertEquals(2, result.getSucceeded());
+        assertEquals(1, result.getFailed());
+        assertEquals(IngestResultDTO.OK, result.getRows().get(0).getStatus());
+        assertEquals(IngestResultDTO.ERROR, result.getRows().get(1).getStatus());
+        // 드라이버 예외까지 내려간 원인 메시지
+        assertEquals("ORA-00001: unique constraint violated", result.getRows().get(1).getMessage());
+        assertEquals(IngestResultDTO.OK, result.getRows().get(2).getStatus());
+
+        // 실패한 chunk 는 한 행씩 다시 커밋, 커밋된 행만 후처리
+        assertEquals(List.of("a", "c"), session.committed);
+        assertEquals(List.of("a", "c"), handler.committed);
+        assertEquals(List.of(List.of("a"), List.of("c")), handler.committedChunks);
+        assertEquals(List.of("BAD"), handler.failed);
+    }
+
+    @Test
+    void readerErrorRowsSkipHandler() {
+        List<IngestRow<String>> rows = new ArrayList<>();
+        rows.add(IngestRow.of(0, "a"));
+        rows.add(IngestRow.error(1, "JSON 형식 오류: bad"));
+        rows.add(IngestRow.of(2, "b"));
+
+        IngestResultDTO result = writer.write("TEST", rows.iterator(), handler);
+
+        assertEquals(3, result.getTotal());
+        assertEquals(1, result.getFailed());
+        assertEquals("JSON 형식 오류: bad", result.getRows().get(1).getMessage());
+        assertEquals(List.of(List.of("a", "b")), handler.committedChunks);
+        assertTrue(handler.failed.isEmpty());
+    }
+
+    @Test
+    void bodyReadFailureKeepsRowsReadSoFar() {
+        Iterator<IngestRow<String>> broken = new Iterator<IngestRow<String>>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                if (index < 3) return true;
+                throw new UncheckedIOException(new IOException("connection reset"));
+            }
+
+            @Override
+            public IngestRow<String> next() {
+                int i = index++;
+                return IngestRow.of(i, "r" + i);
+            }
+        };
+
+        IngestResultDTO result = writer.write("TEST", broken, handler);
+
+        assertEquals(List.of("r0", "r1", "r2"), session.committed);
+        assertEquals(4, result.getTotal());
+        IngestResultDTO.Row last = result.getRows().get(3);
+        assertEquals(3, last.getIndex());
+        assertEquals(IngestResultDTO.ERROR, last.getStatus());
+        assertTrue(last.getMessage().startsWith("요청 본문 읽기 중단"), last.getMessage());
+        assertNull(last.getKey());
+    }
+
+    // ================= 도우미 =================
+    private static Iterator<IngestRow<String>> rows(String... values) {
+        List<IngestRow<String>> rows = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) rows.add(IngestRow.of(i, values[i]));
+        return rows.iterator();
+    }
+
+    /** insert 는 대기열에 쌓고, flushStatements 에서 "BAD" 가 있으면 배치 전체 실패 */
+    private static final class FakeBatchSession extends SqlSessionTemplate {
+        final List<String> pending = new ArrayList<>();
+        final List<String> committed = new ArrayList<>();
+
+        FakeBatchSession(SqlSessionFactory factory) {
+            super(factory, ExecutorType.BATCH);
+        }
+
+        @Override
+        public <T> T getMapper(Class<T> type) {
+            return null;
+        }
+
+        @Override
+        public List<BatchResult> flushStatements() {
+            try {
+                if (pending.contains("BAD")) {
+                    throw new IllegalStateException("batch failed",
+                            new SQLException("ORA-00001: unique constraint violated\n"));
+                }
+                committed.addAll(pending);
+                return new ArrayList<>();
+            } finally {
+                pending.clear();
+            }
+        }
+    }
+
+    private static final class RecordingHandler implements BatchWriter.Handler<String> {
+        final FakeBatchSession session;
+        final List<String> committed = new ArrayList<>();
+        final List<List<String>> committedChunks = new ArrayList<>();
+        final List<String> failed = new ArrayList<>();
+
+        RecordingHandler(FakeBatchSession session) {
+            this.session = session;
+        }
+
+        @Override
+        public void insert(StockMapper mapper, String row) {
+            session.pending.add(row);
+        }
+
+        @Override
+        public void committed(String row, IngestResultDTO.Row result) {
+            committed.add(row);
+            result.setKey(row);
+        }
+
+        @Override
+        public void committedAll(List<String> rows) {
+            committedChunks.add(new ArrayList<>(rows));
+        }
+
+        @Override
+        public void failed(String row) {
+            failed.add(row);
+        }
+    }
+
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.boot.ingest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.boot.dto.StockInfoDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 대량 수집 본문 읽기 - JSON 배열 / NDJSON 의 오류 행 처리
+ */
+class IngestReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void arrayKeepsGoingAfterTypeError() {
+        List<IngestRow<StockInfoDTO>> rows = readAll(false,
+                "[{\"stockCode\":\"005930\",\"price\":70000},"
+                + "{\"stockCode\":\"000660\",\"price\":\"abc\"},"
+                + "{\"stockCode\":\"035420\",\"price\":200000}]");
+
+        assertEquals(3, rows.size());
+        assertEquals("005930", rows.get(0).getValue().getStockCode());
+        assertEquals(1, rows.get(1).getIndex());
+        assertNull(rows.get(1).getValue());
+        assertTrue(rows.get(1).getError().startsWith("JSON 형식 오류"), rows.get(1).getError());
+        assertEquals(2, rows.get(2).getIndex());
+        assertEquals(Integer.valueOf(200000), rows.get(2).getValue().getPrice());
+    }
+
+    @Test
+    void arrayStopsAtSyntaxError() {
+        List<IngestRow<StockInfoDTO>> rows = readAll(false,
+                "[{\"stockCode\":\"005930\"}, {\"stockCode\": 000660 oops}, {\"stockCode\":\"035420\"}]");
+
+        assertEquals(2, rows.size());
+        assertEquals("005930", rows.get(0).getValue().getStockCode());
+        assertEquals(1, rows.get(1).getIndex());
+        assertTrue(rows.get(1).getError().startsWith("JSON 문법 오류"), rows.get(1).getError());
+    }
+
+    @Test
+    void ndjsonSkipsBadLineAndBlankLines() {
+        List<IngestRow<StockInfoDTO>> rows = readAll(true,
+                "{\"stockCode\":\"005930\"}\n"
+                + "\n"
+                + "{\"stockCode\": oops\n"
+                + "{\"stockCode\":\"035420\"}\n");
+
+        assertEquals(3, rows.size());
+        assertEquals("005930", rows.get(0).getValue().getStockCode());
+        assertEquals(1, rows.get(1).getIndex());
+        assertTrue(rows.get(1).getError().startsWith("JSON 형식 오류"), rows.get(1).getError());
+        assertEquals(2, rows.get(2).getIndex());
+        assertEquals("035420", rows.get(2).getValue().getStockCode());
+    }
+
+    @Test
+    void readFailureSurfacesAsUncheckedIOException() {
+        InputStream broken = new InputStream() {
+            private final byte[] head = "{\"stockCode\":\"005930\"}\n".getBytes(StandardCharsets.UTF_8);
+            private int pos = 0;
+
+            @Override
+            public int read() throws IOException {
+                if (pos < head.length) return head[pos++];
+                throw new IOException("connection reset");
+            }
+        };
+        Iterator<IngestRow<StockInfoDTO>> it = IngestReader.read(objectMapper, broken, true, StockInfoDTO.class);
+
+        // 끊기기 전까지 읽은 행은 그대로 나오고, 그 다음에서 실패
+        assertTrue(it.hasNext());
+        assertEquals("005930", it.next().getValue().getStockCode());
+        assertThrows(UncheckedIOException.class, it::hasNext);
+    }
+
+    @Test
+    void detectsNdjsonContentType() {
+        assertTrue(IngestReader.isNdjson("application/x-ndjson"));
+        assertTrue(IngestReader.isNdjson("application/jsonl; charset=UTF-8"));
+        assertFalse(IngestReader.isNdjson("application/json"));
+        assertFalse(IngestReader.isNdjson(null));
+    }
+
+    private List<IngestRow<StockInfoDTO>> readAll(boolean ndjson, String body) {
+        Iterator<IngestRow<StockInfoDTO>> it = IngestReader.read(objectMapper,
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), ndjson, StockInfoDTO.class);
+        List<IngestRow<StockInfoDTO>> rows = new ArrayList<>();
+        while (it.hasNext()) rows.add(it.next());
+        return rows;
+    }
+}
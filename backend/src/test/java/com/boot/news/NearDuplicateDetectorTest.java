@@ -0,0 +1,198 @@
+package com.boot.news;
+
+import static com.boot.support.TestFixtures.hoursAgo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.boot.dao.StockNewsDAO;
+import com.boot.dto.StockNewsDTO;
+import com.boot.support.TestFixtures;
+
+/**
+ * 유사 중복 뉴스 탐지 - 유사도, 판정 즉시 원본 등록(동시 수집), discard, 창 만료, 최대 건수, 종목코드 범위
+ */
+class NearDuplicateDetectorTest {
+
+    private static final String WIRE = "삼성전자가 올해 2분기 연결 기준 영업이익이 10조 4천억원으로 지난해 같은 기간보다 "
+            + "크게 늘었다고 잠정 공시했다. 매출은 74조원으로 집계됐으며 메모리 반도체 가격 회복과 "
+            + "고대역폭메모리 판매 확대가 실적 개선을 이끌었다는 분석이 나온다. 회사는 하반기에도 "
+            + "인공지능 서버 수요가 이어질 것으로 내다봤다.";
+    private static final String OTHER = "원달러 환율이 미국 고용 지표 발표를 앞두고 소폭 하락 출발했다. 외환시장 참가자들은 "
+            + "연방준비제도의 금리 인하 시점에 주목하고 있으며 수출업체의 달러 매도 물량도 "
+            + "환율 하단을 지지하는 요인으로 꼽힌다.";
+
+    @Test
+    void similarityOfNearIdenticalAndUnrelatedTexts() {
+        byte[] a = NearDuplicateDetector.signature("삼성전자 2분기 영업이익 10조", WIRE);
+        // 매체마다 다른 머리말/기호/공백
+        byte[] b = NearDuplicateDetector.signature("[속보] 삼성전자, 2분기 영업이익 10조",
+                "(서울=뉴스) " + WIRE.replace(". ", ".\n"));
+        byte[] c = NearDuplicateDetector.signature("환율 하락 출발", OTHER);
+
+        assertTrue(NearDuplicateDetector.similarity(a, b) >= 0.8, "near: " + NearDuplicateDetector.similarity(a, b));
+        assertTrue(NearDuplicateDetector.similarity(a, c) < 0.2, "unrelated: " + NearDuplicateDetector.similarity(a, c));
+        assertEquals(1.0, NearDuplicateDetector.similarity(a, a));
+        assertNull(NearDuplicateDetector.signature("짧은 제목", "짧은 본문"));
+    }
+
+    @Test
+    void canonicalIsRegisteredWhenClassified() {
+        NearDuplicateDetector detector = detector(100, null);
+
+        StockNewsDTO first = news(1L, "005930", WIRE);
+        assertNull(detector.classify(first));
+        assertNotNull(first.getMinhash());
+        // INSERT 전이라도 같은 기사는 첫 기사를 원본으로
+        StockNewsDTO second = news(2L, "005930", "(서울=뉴스) " + WIRE);
+        assertEquals(Long.valueOf(1), detector.classify(second));
+        assertEquals(Long.valueOf(1), second.getCanonicalNewsId());
+        // 중복 기사는 원본으로 등록되지 않음
+        assertEquals(Long.valueOf(1), detector.classify(news(3L, "005930", WIRE + " 끝")));
+        assertNull(detector.classify(news(4L, "005930", OTHER)));
+    }
+
+    @Test
+    void concurrentNearIdenticalPostsHaveOneCanonical() throws Exception {
+        NearDuplicateDetector detector = detector(100, null);
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Long>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                long id = 100 + i;
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return detector.classify(news(id, "005930", "[매체" + id + "] " + WIRE));
+                }));
+            }
+            start.countDown();
+
+            int canonical = 0;
+            for (Future<Long> f : results) {
+                if (f.get(5, TimeUnit.SECONDS) == null) canonical++;
+            }
+            assertEquals(1, canonical);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void discardRemovesFailedInsert() {
+        NearDuplicateDetector detector = detector(100, null);
+
+        StockNewsDTO failed = news(1L, "005930", WIRE);
+        assertNull(detector.classify(failed));
+        detector.discard(failed);
+
+        // INSERT 에 실패한 기사는 원본이 아님 → 다음 기사가 원본
+        assertNull(detector.classify(news(2L, "005930", WIRE)));
+        assertEquals(Long.valueOf(2), detector.classify(news(3L, "005930", WIRE)));
+        // 중복 기사 discard 는 원본에 영향 없음
+        detector.discard(news(3L, "005930", WIRE));
+        assertEquals(Long.valueOf(2), detector.classify(news(4L, "005930", WIRE)));
+    }
+
+    @Test
+    void scopedByStockCode() {
+        NearDuplicateDetector detector = detector(100, null);
+
+        assertNull(detector.classify(news(1L, "005930", WIRE)));
+        assertNull(detector.classify(news(2L, "000660", WIRE)));
+        assertNull(detector.classify(news(3L, null, WIRE)));
+        assertEquals(Long.valueOf(2), detector.classify(news(4L, "000660", WIRE)));
+        // 둘 다 종목코드 없음
+        assertEquals(Long.valueOf(3), detector.classify(news(5L, null, WIRE)));
+    }
+
+    @Test
+    void maxEntriesEvictsOldest() {
+        NearDuplicateDetector detector = detector(2, null);
+
+        assertNull(detector.classify(news(1L, "005930", WIRE)));
+        assertNull(detector.classify(news(2L, "000660", WIRE)));
+        assertNull(detector.classify(news(3L, "035420", WIRE)));
+
+        // 중복 기사는 등록되지 않으므로 아무것도 밀어내지 않음
+        assertEquals(Long.valueOf(3), detector.classify(news(4L, "035420", WIRE)));
+        // 1번은 밀려남 → 같은 기사가 새 원본 (이 등록으로 2번이 밀려남)
+        assertNull(detector.classify(news(5L, "005930", WIRE)));
+        assertNull(detector.classify(news(6L, "000660", WIRE)));
+        assertEquals(Long.valueOf(5), detector.classify(news(7L, "005930", WIRE)));
+    }
+
+    @Test
+    void windowExpiry() {
+        List<StockNewsDTO> restored = new ArrayList<>();
+        restored.add(fingerprint(1L, "005930", WIRE, 49));
+        restored.add(fingerprint(2L, "000660", WIRE, 47));
+        NearDuplicateDetector detector = detector(100, restored);
+
+        // 창(48시간) 밖 기사는 원본으로 쓰지 않음
+        assertNull(detector.classify(news(3L, "005930", WIRE)));
+        assertEquals(Long.valueOf(2), detector.classify(news(4L, "000660", WIRE)));
+    }
+
+    @Test
+    void disabledLeavesFieldsEmpty() {
+        NearDuplicateDetector detector = detector(100, null);
+        ReflectionTestUtils.setField(detector, "enabled", false);
+
+        StockNewsDTO dto = news(1L, "005930", WIRE);
+        dto.setCanonicalNewsId(99L);
+        assertNull(detector.classify(dto));
+        assertNull(dto.getMinhash());
+        assertNull(dto.getCanonicalNewsId());
+    }
+
+    // ================= 도우미 =================
+    private static NearDuplicateDetector detector(int maxEntries, List<StockNewsDTO> restored) {
+        NearDuplicateDetector detector = new NearDuplicateDetector(dao(restored));
+        ReflectionTestUtils.setField(detector, "enabled", true);
+        ReflectionTestUtils.setField(detector, "minSimilarity", 0.8);
+        ReflectionTestUtils.setField(detector, "windowHours", 48);
+        ReflectionTestUtils.setField(detector, "maxEntries", maxEntries);
+        detector.init();
+        return detector;
+    }
+
+    // 제목은 모두 같고 본문으로만 구분
+    private static StockNewsDTO news(Long newsId, String stockCode, String content) {
+        return TestFixtures.news(newsId, stockCode, "삼성전자 2분기 실적", content);
+    }
+
+    private static StockNewsDTO fingerprint(Long newsId, String stockCode, String content, int hoursAgo) {
+        StockNewsDTO news = news(newsId, stockCode, content);
+        news.setMinhash(NearDuplicateDetector.signature(news.getTitle(), content));
+        news.setCreatedAt(hoursAgo(hoursAgo));
+        return news;
+    }
+
+    // 창 복원용 조회 (restored 가 null 이면 적재 실패)
+    private static StockNewsDAO dao(List<StockNewsDTO> restored) {
+        StockNewsDAO dao = mock(StockNewsDAO.class);
+        if (restored == null) {
+            when(dao.selectRecentFingerprints(anyInt())).thenThrow(new IllegalStateException("DB 연결 실패"));
+        } else {
+            when(dao.selectRecentFingerprints(anyInt())).thenReturn(restored);
+        }
+        return dao;
+    }
+}
@@ -0,0 +1,73 @@
+package com.boot.news;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 뉴스 목록 커서 - encode / decode 왕복, 날짜 없는 뉴스, 잘못되거나 변조된 커서 거부
+ */
+class NewsCursorTest {
+
+    @Test
+    void roundTrips() {
+        String cursor = NewsCursor.encode("2025-01-01 09:30:00", 12345L);
+        assertEquals("20250101093000_12345", cursor);
+
+        NewsCursor decoded = NewsCursor.decode(cursor);
+        assertEquals("20250101093000", decoded.getDate());
+        assertEquals(12345L, decoded.getNewsId());
+        assertEquals(cursor, NewsCursor.encode("2025-01-01 09:30:00", decoded.getNewsId()));
+    }
+
+    @Test
+    void roundTripsNewsWithoutDate() {
+        String cursor = NewsCursor.encode(null, 7L);
+        assertEquals("_7", cursor);
+
+        NewsCursor decoded = NewsCursor.decode(cursor);
+        assertNull(decoded.getDate());
+        assertEquals(7L, decoded.getNewsId());
+    }
+
+    @Test
+    void blankMeansFirstPage() {
+        assertNull(NewsCursor.decode(null));
+        assertNull(NewsCursor.decode(""));
+        assertNull(NewsCursor.decode("  "));
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        assertInvalid("20250101093000");          // 구분자 없음
+        assertInvalid("20250101093000_");         // ID 없음
+        assertInvalid("202501010930_12345");      // 날짜 자리수 부족
+        assertInvalid("2025-01-01 09:30:00_1");   // 인코딩 전 날짜
+        assertInvalid("20250101093000_abc");
+        assertInvalid("20250101093000_1_2");
+        assertInvalid("x20250101093000_1");
+    }
+
+    @Test
+    void rejectsTamperedCursors() {
+        // 형식은 맞지만 없는 날짜 → TO_DATE 오류 대신 잘못된 요청
+        assertInvalid("20251301093000_1");
+        assertInvalid("20250230093000_1");
+        assertInvalid("20250101250000_1");
+        assertInvalid("20250101096000_1");
+        // 음수 / 부호 / long 범위 밖 ID
+        assertInvalid("20250101093000_-1");
+        assertInvalid("20250101093000_+1");
+        assertInvalid("20250101093000_99999999999999999999");
+        assertInvalid("_-5");
+        // 윤년 2월 29일은 정상
+        assertEquals("20240229235959", NewsCursor.decode("20240229235959_1").getDate());
+    }
+
+    // ================= 도우미 =================
+    private static void assertInvalid(String cursor) {
+        assertThrows(IllegalArgumentException.class, () -> NewsCursor.decode(cursor));
+    }
+}
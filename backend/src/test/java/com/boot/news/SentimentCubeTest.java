@@ -0,0 +1,395 @@
+package com.boot.news;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import com.boot.dao.StockNewsDAO;
+import com.boot.dto.SentimentCubeDTO;
+import com.boot.dto.StockNewsDTO;
+import com.boot.support.TestFixtures;
+import com.boot.util.NewsDateUtil;
+
+/**
+ * 감성 큐브 - 기존 감성 통계 SQL (StockNewsMapper.xml) 과 같은 키/값, 일 단위 기간, refresh / apply
+ * 기준 결과는 뉴스 행을 SQL 과 같은 규칙으로 직접 집계하고, 큐브는 같은 뉴스를 트리거 규칙으로 일자 칸에 모아 적재
+ */
+class SentimentCubeTest {
+
+    private final List<StockNewsDTO> news = new ArrayList<>();
+    private final List<SentimentCubeDTO> changed = new ArrayList<>();
+    private final List<String> sinceArgs = new ArrayList<>();
+
+    @Test
+    void matchesOldSqlForAllPeriods() {
+        fixture();
+        SentimentCube cube = cube();
+
+        assertEquals(sqlOverall(), cube.overall());
+        for (String code : new String[] { "005930", "000660", "035420" }) {
+            assertEquals(sqlStockSummary(code, 0), cube.stockSummary(code, 0), code);
+        }
+        assertEquals(sqlAllStocks(0), cube.allStocks(0));
+        for (int days : new int[] { 1, 3, 7, 30 }) {
+            assertEquals(sqlAllStocks(days), cube.allStocks(days), "days=" + days);
+            for (String code : new String[] { "005930", "000660", "035420" }) {
+                assertEquals(sqlStockSummary(code, days), cube.stockSummary(code, days), code + "/" + days);
+                assertEquals(sqlTrend(code, days), cube.trend(code, days), code + "/" + days);
+            }
+        }
+    }
+
+    @Test
+    void keepsOldColumnKeys() {
+        fixture();
+        SentimentCube cube = cube();
+
+        assertEquals(List.of("TOTALNEWS", "POSITIVECOUNT", "NEGATIVECOUNT", "NEUTRALCOUNT",
+                "POSITIVERATIO", "NEGATIVERATIO", "NEUTRALRATIO", "AVGSCORE"), new ArrayList<>(cube.overall().keySet()));
+        assertEquals(List.of("STOCK_CODE", "TOTALNEWS", "POSITIVECOUNT", "NEGATIVECOUNT", "NEUTRALCOUNT",
+                "POSITIVERATIO", "NEGATIVERATIO", "AVGSCORE"), new ArrayList<>(cube.stockSummary("005930", 0).keySet()));
+        assertEquals(List.of("STOCK_CODE", "STOCK_NAME", "TOTALNEWS", "POSITIVECOUNT", "NEGATIVECOUNT", "NEUTRALCOUNT",
+                "POSITIVERATIO", "NEGATIVERATIO", "AVGSCORE"), new ArrayList<>(cube.allStocks(0).get(0).keySet()));
+        assertEquals(List.of("NEWSDATE", "TOTALNEWS", "POSITIVECOUNT", "NEGATIVECOUNT", "NEUTRALCOUNT", "AVGSCORE"),
+                new ArrayList<>(cube.trend("005930", 30).get(0).keySet()));
+    }
+
+    @Test
+    void roundsLikeSql() {
+        // 평균 -12.125 → ROUND 는 0 에서 먼 쪽 (-12.13), 비율 1/3, 2/3
+        news.add(news("005930", 1, "12:00:00", "부정", -12));
+        news.add(news("005930", 1, "12:00:00", "부정", -12));
+        news.add(news("005930", 1, "12:00:00", "보통", -12));
+        news.add(news("005930", 1, "12:00:00", "긍정", -12));
+        news.add(news("005930", 1, "12:00:00", "부정", -12));
+        news.add(news("005930", 1, "12:00:00", "긍정", -13));
+        news.add(news("000660", 1, "12:00:00", "부정", null));
+        news.add(news("000660", 1, "12:00:00", "긍정", -1));
+        news.add(news("000660", 1, "12:00:00", "긍정", 0));
+        SentimentCube cube = cube();
+
+        Map<String, Object> samsung = cube.stockSummary("005930", 0);
+        assertEquals(-12.17, samsung.get("AVGSCORE"));
+        assertEquals(sqlStockSummary("005930", 0), samsung);
+        Map<String, Object> hynix = cube.stockSummary("000660", 0);
+        assertEquals(66.67, hynix.get("POSITIVERATIO"));
+        assertEquals(33.33, hynix.get("NEGATIVERATIO"));
+        assertEquals(-0.5, hynix.get("AVGSCORE"));
+        assertEquals(sqlStockSummary("000660", 0), hynix);
+
+        news.clear();
+        for (int i = 0; i < 7; i++) news.add(news("035420", 1, "12:00:00", "보통", -12));
+        news.add(news("035420", 1, "12:00:00", "보통", -13));
+        assertEquals(-12.13, cube().stockSummary("035420", 0).get("AVGSCORE"));
+    }
+
+    @Test
+    void daysWindowIsDayGranular() {
+        // 7일 전 00:00:01 은 포함, 8일 전 23:59:59 는 제외 (NEWS_DAY >= TRUNC(SYSDATE - 7))
+        news.add(news("005930", 7, "00:00:01", "긍정", 10));
+        news.add(news("005930", 8, "23:59:59", "부정", -10));
+        news.add(news("005930", 0, "00:00:00", "보통", 0));
+        SentimentCube cube = cube();
+
+        Map<String, Object> week = cube.stockSummary("005930", 7);
+        assertEquals(2L, week.get("TOTALNEWS"));
+        assertEquals(1L, week.get("POSITIVECOUNT"));
+        assertEquals(0L, week.get("NEGATIVECOUNT"));
+        assertEquals(3L, cube.stockSummary("005930", 8).get("TOTALNEWS"));
+        assertEquals(3L, cube.stockSummary("005930", 0).get("TOTALNEWS"));
+        assertEquals(List.of(day(0), day(7)), dates(cube.trend("005930", 7)));
+        assertEquals(1L, cube.stockSummary("005930", 1).get("TOTALNEWS"));
+    }
+
+    @Test
+    void excludesDuplicatesUnanalyzedAndStocklessRows() {
+        fixture();
+        StockNewsDTO dup = news("005930", 1, "12:00:00", "긍정", 100);
+        dup.setCanonicalNewsId(1L);
+        news.add(dup);
+        news.add(news("005930", 1, "12:00:00", null, null));
+        SentimentCube cube = cube();
+
+        assertEquals(sqlStockSummary("005930", 0), cube.stockSummary("005930", 0));
+        // 종목 없는 뉴스는 전체 통계에만
+        assertEquals(sqlOverall(), cube.overall());
+        assertFalse(codes(cube.allStocks(0)).contains(SentimentCube.NO_STOCK));
+        assertNull(cube.stockSummary("999999", 0));
+        assertTrue(cube.trend("999999", 7).isEmpty());
+    }
+
+    @Test
+    void applyAddsNewsImmediately() {
+        fixture();
+        SentimentCube cube = cube();
+
+        StockNewsDTO added = news("035420", 0, "09:00:00", "부정", -40);
+        cube.apply(added);
+        news.add(added);
+        StockNewsDTO stockless = news(null, 0, "09:00:00", "긍정", 30);
+        cube.apply(stockless);
+        news.add(stockless);
+
+        assertEquals(sqlStockSummary("035420", 0), cube.stockSummary("035420", 0));
+        assertEquals(sqlTrend("035420", 7), cube.trend("035420", 7));
+        assertEquals(sqlOverall(), cube.overall());
+
+        // 감성 미분석 / 날짜 해석 불가 뉴스는 반영하지 않음
+        Map<String, Object> before = cube.overall();
+        cube.apply(news("035420", 0, "09:00:00", null, null));
+        StockNewsDTO badDate = news("035420", 0, "09:00:00", "긍정", 10);
+        badDate.setNewsDate("어제");
+        cube.apply(badDate);
+        assertEquals(before, cube.overall());
+    }
+
+    @Test
+    void refreshReplacesChangedCells() {
+        fixture();
+        SentimentCube cube = cube();
+        assertTrue(sinceArgs.isEmpty());
+
+        // apply 로 먼저 반영한 칸도 refresh 때 DB 값으로 교체 (더하지 않음)
+        StockNewsDTO added = news("000660", 1, "15:00:00", "긍정", 50);
+        cube.apply(added);
+        news.add(added);
+        StockNewsDTO reanalyzed = news.get(0);
+        reanalyzed.setSentiment("부정");
+        reanalyzed.setScore(-80);
+        changed.addAll(cells(news, "2099-01-01 00:00:00"));
+
+        cube.refresh(5);
+        assertEquals("2030-01-01 00:00:00", sinceArgs.get(0));
+        assertEquals(sqlOverall(), cube.overall());
+        assertEquals(sqlAllStocks(0), cube.allStocks(0));
+        assertEquals(sqlTrend("000660", 7), cube.trend("000660", 7));
+
+        // 다음 refresh 는 지금까지 읽은 가장 늦은 UPDATED_AT 부터
+        changed.clear();
+        cube.refresh(5);
+        assertEquals("2099-01-01 00:00:00", sinceArgs.get(1));
+        assertEquals(sqlOverall(), cube.overall());
+    }
+
+    // ================= 기준 결과 (기존 SQL 과 같은 규칙) =================
+    // 종목별 (getSentimentSummaryByStock / ...WithPeriod), 행이 없으면 null
+    private Map<String, Object> sqlStockSummary(String code, int days) {
+        List<StockNewsDTO> rows = rows(n -> code.equals(n.getStockCode()) && inPeriod(n, days));
+        if (rows.isEmpty()) return null;
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("STOCK_CODE", code);
+        putCounts(row, rows);
+        row.put("POSITIVERATIO", sqlRatio(count(rows, "긍정"), rows.size()));
+        row.put("NEGATIVERATIO", sqlRatio(count(rows, "부정"), rows.size()));
+        row.put("AVGSCORE", sqlAvg(rows));
+        return row;
+    }
+
+    // getAllStockSentimentSummary / ...WithPeriod (ORDER BY totalNews DESC)
+    private List<Map<String, Object>> sqlAllStocks(int days) {
+        Map<String, List<StockNewsDTO>> byCode = new TreeMap<>();
+        for (StockNewsDTO n : rows(n -> n.getStockCode() != null && inPeriod(n, days))) {
+            byCode.computeIfAbsent(n.getStockCode(), k -> new ArrayList<>()).add(n);
+        }
+        List<Map<String, Object>> list = new ArrayList<>();
+        for (Map.Entry<String, List<StockNewsDTO>> e : byCode.entrySet()) {
+            List<StockNewsDTO> rows = e.getValue();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("STOCK_CODE", e.getKey());
+            row.put("STOCK_NAME", nameOf(e.getKey()));
+            putCounts(row, rows);
+            row.put("POSITIVERATIO", sqlRatio(count(rows, "긍정"), rows.size()));
+            row.put("NEGATIVERATIO", sqlRatio(count(rows, "부정"), rows.size()));
+            row.put("AVGSCORE", sqlAvg(rows));
+            list.add(row);
+        }
+        list.sort(Comparator.comparing((Map<String, Object> r) -> (Long) r.get("TOTALNEWS")).reversed());
+        return list;
+    }
+
+    // getSentimentTrendByStock (ORDER BY newsDate DESC)
+    private List<Map<String, Object>> sqlTrend(String code, int days) {
+        TreeMap<String, List<StockNewsDTO>> byDay = new TreeMap<>(Comparator.reverseOrder());
+        for (StockNewsDTO n : rows(n -> code.equals(n.getStockCode()) && inPeriod(n, days))) {
+            byDay.computeIfAbsent(n.getNewsDate().substring(0, 10), k -> new ArrayList<>()).add(n);
+        }
+        List<Map<String, Object>> list = new ArrayList<>();
+        for (Map.Entry<String, List<StockNewsDTO>> e : byDay.entrySet()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("NEWSDATE", e.getKey());
+            putCounts(row, e.getValue());
+            row.put("AVGSCORE", sqlAvg(e.getValue()));
+            list.add(row);
+        }
+        return list;
+    }
+
+    // getOverallSentimentSummary (종목 없는 뉴스 포함)
+    private Map<String, Object> sqlOverall() {
+        List<StockNewsDTO> rows = rows(n -> true);
+        Map<String, Object> row = new LinkedHashMap<>();
+        putCounts(row, rows);
+        row.put("POSITIVERATIO", sqlRatio(count(rows, "긍정"), rows.size()));
+        row.put("NEGATIVERATIO", sqlRatio(count(rows, "부정"), rows.size()));
+        row.put("NEUTRALRATIO", sqlRatio(count(rows, "보통"), rows.size()));
+        row.put("AVGSCORE", sqlAvg(rows));
+        return row;
+    }
+
+    // WHERE SENTIMENT IS NOT NULL AND CANONICAL_NEWS_ID IS NULL
+    private List<StockNewsDTO> rows(Predicate<StockNewsDTO> filter) {
+        List<StockNewsDTO> rows = new ArrayList<>();
+        for (StockNewsDTO n : news) {
+            if (n.getSentiment() != null && n.getCanonicalNewsId() == null && filter.test(n)) rows.add(n);
+        }
+        return rows;
+    }
+
+    // 일 단위 기간 (큐브 규칙): TRUNC(NEWS_DATE) >= TRUNC(SYSDATE - days)
+    private static boolean inPeriod(StockNewsDTO n, int days) {
+        if (days <= 0) return true;
+        return !LocalDate.parse(n.getNewsDate().substring(0, 10)).isBefore(today().minusDays(days));
+    }
+
+    private static void putCounts(Map<String, Object> row, List<StockNewsDTO> rows) {
+        row.put("TOTALNEWS", (long) rows.size());
+        row.put("POSITIVECOUNT", count(rows, "긍정"));
+        row.put("NEGATIVECOUNT", count(rows, "부정"));
+        row.put("NEUTRALCOUNT", count(rows, "보통"));
+    }
+
+    private static long count(List<StockNewsDTO> rows, String sentiment) {
+        return rows.stream().filter(n -> sentiment.equals(n.getSentiment())).count();
+    }
+
+    // ROUND(part * 100.0 / COUNT(*), 2)
+    private static Double sqlRatio(long part, long total) {
+        return new BigDecimal(part * 100).divide(new BigDecimal(total), 2, RoundingMode.HALF_UP).doubleValue();
+    }
+
+    // ROUND(AVG(SCORE), 2), 점수가 모두 NULL 이면 NULL
+    private static Double sqlAvg(List<StockNewsDTO> rows) {
+        long sum = 0;
+        long cnt = 0;
+        for (StockNewsDTO n : rows) {
+            if (n.getScore() == null) continue;
+            sum += n.getScore();
+            cnt++;
+        }
+        if (cnt == 0) return null;
+        return new BigDecimal(sum).divide(new BigDecimal(cnt), 2, RoundingMode.HALF_UP).doubleValue();
+    }
+
+    // ================= 도우미 =================
+    private void fixture() {
+        String[] sentiments = { "긍정", "부정", "보통" };
+        String[] codes = { "005930", "000660", "035420", null };
+        int i = 0;
+        for (int daysAgo = 0; daysAgo <= 40; daysAgo += 3) {
+            for (int c = 0; c < codes.length; c++) {
+                // 종목마다 뉴스 수를 다르게 (allStocks 정렬이 한 가지로 정해지도록)
+                for (int k = 0; k <= (3 - c) * 2; k++) {
+                    i++;
+                    Integer score = i % 7 == 0 ? null : (i * 37 % 201) - 100;
+                    String time = String.format("%02d:%02d:00", i % 24, i % 60);
+                    news.add(news(codes[c], daysAgo, time, sentiments[i % 3], score));
+                }
+            }
+        }
+    }
+
+    private SentimentCube cube() {
+        SentimentCube cube = new SentimentCube(dao());
+        cube.init();
+        assertTrue(cube.isReady());
+        return cube;
+    }
+
+    private static StockNewsDTO news(String code, int daysAgo, String time, String sentiment, Integer score) {
+        StockNewsDTO n = TestFixtures.news(null, code, null, null);
+        n.setNewsDate(day(daysAgo) + " " + time);
+        n.setSentiment(sentiment);
+        n.setScore(score);
+        return n;
+    }
+
+    private static LocalDate today() {
+        return LocalDate.now(NewsDateUtil.ZONE);
+    }
+
+    private static String day(int daysAgo) {
+        return today().minusDays(daysAgo).toString();
+    }
+
+    private static String nameOf(String code) {
+        return code == null ? null : "종목" + code;
+    }
+
+    private static List<String> dates(List<Map<String, Object>> trend) {
+        List<String> dates = new ArrayList<>();
+        for (Map<String, Object> row : trend) dates.add((String) row.get("NEWSDATE"));
+        return dates;
+    }
+
+    private static List<String> codes(List<Map<String, Object>> rows) {
+        List<String> codes = new ArrayList<>();
+        for (Map<String, Object> row : rows) codes.add((String) row.get("STOCK_CODE"));
+        return codes;
+    }
+
+    // NEWS_SENTIMENT_DAILY 트리거 규칙: 원본 + 감성 분석된 뉴스만, (종목코드 또는 '-', TRUNC(NEWS_DATE)) 칸에 합산
+    private static List<SentimentCubeDTO> cells(List<StockNewsDTO> news, String updatedAt) {
+        Map<String, SentimentCubeDTO> cells = new LinkedHashMap<>();
+        for (StockNewsDTO n : news) {
+            if (n.getSentiment() == null || n.getCanonicalNewsId() != null) continue;
+            String code = n.getStockCode() == null ? SentimentCube.NO_STOCK : n.getStockCode();
+            String day = n.getNewsDate().substring(0, 10);
+            SentimentCubeDTO cell = cells.computeIfAbsent(code + "|" + day, k -> new SentimentCubeDTO(
+                    code, nameOf(Objects.equals(code, SentimentCube.NO_STOCK) ? null : code), day,
+                    0, 0, 0, 0, 0, 0, updatedAt));
+            cell.setTotalCnt(cell.getTotalCnt() + 1);
+            if ("긍정".equals(n.getSentiment())) cell.setPosCnt(cell.getPosCnt() + 1);
+            if ("부정".equals(n.getSentiment())) cell.setNegCnt(cell.getNegCnt() + 1);
+            if ("보통".equals(n.getSentiment())) cell.setNeuCnt(cell.getNeuCnt() + 1);
+            if (n.getScore() != null) {
+                cell.setScoreSum(cell.getScoreSum() + n.getScore());
+                cell.setScoreCnt(cell.getScoreCnt() + 1);
+            }
+        }
+        return new ArrayList<>(cells.values());
+    }
+
+    // 전체 적재 (스트리밍) 는 지금 news 로 만든 칸, 변경분 조회는 changed
+    private StockNewsDAO dao() {
+        StockNewsDAO dao = mock(StockNewsDAO.class);
+        doAnswer(inv -> {
+            TestFixtures.stream(inv.getArgument(0), cells(news, "2030-01-01 00:00:00"));
+            return null;
+        }).when(dao).selectSentimentCube(any());
+        when(dao.selectSentimentCubeChanged(any(), anyInt())).thenAnswer(inv -> {
+            sinceArgs.add(inv.getArgument(0));
+            return new ArrayList<>(changed);
+        });
+        return dao;
+    }
+}
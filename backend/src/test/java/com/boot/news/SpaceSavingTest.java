@@ -0,0 +1,81 @@
+package com.boot.news;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Space-Saving 요약 - 교체 시 오차 승계, 추정 범위(count - error ≤ 실제 ≤ count), minCount 상한
+ */
+class SpaceSavingTest {
+
+    @Test
+    void replacesMinimumAndInheritsCount() {
+        SpaceSaving s = new SpaceSaving(2);
+        s.offer("A");
+        s.offer("A");
+        // 가득 차기 전에는 요약 밖 항목이 없음
+        assertEquals(0, s.minCount());
+        s.offer("B");
+        assertEquals(1, s.minCount());
+
+        s.offer("C");  // B(1) 를 내보내고 1 을 이어받음
+        Map<String, long[]> c = counters(s);
+        assertFalse(s.contains("B"));
+        assertEquals(2, c.get("A")[0]);
+        assertEquals(2, c.get("C")[0]);
+        assertEquals(1, c.get("C")[1]);
+        assertEquals(2, s.minCount());
+        assertEquals(4, s.total());
+    }
+
+    @Test
+    void boundsHoldOnSkewedStream() {
+        SpaceSaving s = new SpaceSaving(20);
+        Map<String, Long> actual = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            // 소수 키워드에 몰린 분포 + 긴 꼬리
+            String item = random.nextInt(4) == 0 ? "T" + random.nextInt(1000) : "H" + (int) Math.abs(random.nextGaussian() * 5);
+            actual.merge(item, 1L, Long::sum);
+            s.offer(item);
+        }
+
+        assertEquals(20, s.size());
+        assertTrue(s.minCount() <= s.total() / 20);
+        s.forEach((item, count, error) -> {
+            long real = actual.getOrDefault(item, 0L);
+            assertTrue(count - error <= real && real <= count, item);
+        });
+        // 요약에 없는 항목은 minCount 이하
+        for (Map.Entry<String, Long> e : actual.entrySet()) {
+            if (!s.contains(e.getKey())) assertTrue(e.getValue() <= s.minCount(), e.getKey());
+        }
+        // 가장 많은 항목은 반드시 남음
+        assertTrue(s.contains("H0"));
+    }
+
+    @Test
+    void clearResets() {
+        SpaceSaving s = new SpaceSaving(1);
+        s.offer("A");
+        s.offer("B");
+        s.clear();
+        assertEquals(0, s.size());
+        assertEquals(0, s.total());
+        s.offer("C");
+        assertEquals(1, counters(s).get("C")[0]);
+    }
+
+    private static Map<String, long[]> counters(SpaceSaving s) {
+        Map<String, long[]> result = new HashMap<>();
+        s.forEach((item, count, error) -> result.put(item, new long[] { count, error }));
+        return result;
+    }
+}
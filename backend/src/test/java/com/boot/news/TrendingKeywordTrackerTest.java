@@ -0,0 +1,114 @@
+package com.boot.news;
+
+import static com.boot.support.TestFixtures.DB_FORMAT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.boot.dto.StockNewsDTO;
+import com.boot.support.TestFixtures;
+import com.boot.util.NewsDateUtil;
+
+/**
+ * 트렌드 키워드 시간 버킷 경계 - 14일 전 시간대(현재 시간과 같은 슬롯)는 버리고 그 다음 시간대부터 반영
+ */
+class TrendingKeywordTrackerTest {
+
+    private static final long HOUR = 60 * 60_000L;
+
+    private TrendingKeywordTracker tracker;
+    private long curHour;
+
+    @BeforeEach
+    void setUp() {
+        // DB 없이 빈 버킷으로 시작 (init 의 초기 적재 실패는 로그만 남김)
+        tracker = new TrendingKeywordTracker(null);
+        ReflectionTestUtils.setField(tracker, "capacity", 10);
+        ReflectionTestUtils.setField(tracker, "spikeRatio", 3.0);
+        ReflectionTestUtils.setField(tracker, "spikeMinCount", 5L);
+        ReflectionTestUtils.setField(tracker, "seenMax", 1000);
+        tracker.init();
+        curHour = System.currentTimeMillis() / HOUR;
+    }
+
+    @Test
+    void boundaryHourIsDropped() {
+        tracker.record(news(1L, System.currentTimeMillis(), "반도체"));
+
+        // curHour - 336 은 현재 시간 버킷과 같은 슬롯 → 버려야 함 (현재 버킷을 덮어쓰거나 예외 없이)
+        tracker.record(news(2L, (curHour - 336) * HOUR + HOUR - 1000, "반도체, 2차전지"));
+
+        Map<String, Object> h24 = tracker.trending(TrendingKeywordTracker.Window.H24, 10);
+        List<Map<String, Object>> keywords = keywords(h24);
+        assertEquals(1L, h24.get("totalCount"));
+        assertEquals(1, keywords.size());
+        assertEquals("반도체", keywords.get(0).get("keyword"));
+        assertEquals(1L, keywords.get(0).get("count"));
+    }
+
+    @Test
+    void hourAfterBoundaryIsKept() {
+        tracker.record(news(1L, System.currentTimeMillis(), "반도체"));
+        tracker.record(news(2L, (curHour - 335) * HOUR, "반도체"));
+
+        // 7d 창의 기준 구간(curHour - 335 ~ curHour - 168) 에 들어감
+        List<Map<String, Object>> keywords = keywords(tracker.trending(TrendingKeywordTracker.Window.D7, 10));
+        assertEquals(1, keywords.size());
+        assertEquals(1L, keywords.get(0).get("count"));
+        assertEquals(1L, keywords.get(0).get("baselineCount"));
+    }
+
+    @Test
+    void sameNewsCountedOnce() {
+        long now = System.currentTimeMillis();
+        tracker.record(news(1L, now, "반도체"));
+        tracker.record(news(1L, now, "반도체"));
+
+        List<Map<String, Object>> keywords = keywords(tracker.trending(TrendingKeywordTracker.Window.H1, 10));
+        assertEquals(1, keywords.size());
+        assertEquals(1L, keywords.get(0).get("count"));
+    }
+
+    @Test
+    void invalidLimitIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> tracker.trending(TrendingKeywordTracker.Window.H1, 0));
+        assertThrows(IllegalArgumentException.class, () -> tracker.trending(TrendingKeywordTracker.Window.H1, -1));
+    }
+
+    @Test
+    void seenIdsAreBounded() {
+        ReflectionTestUtils.setField(tracker, "seenMax", 2);
+        long now = System.currentTimeMillis();
+        tracker.record(news(1L, now, "반도체"));
+        tracker.record(news(2L, now, "반도체"));
+        tracker.record(news(3L, now, "반도체"));
+
+        // 가장 오래 전에 반영한 1 은 잊음 (2, 3 은 계속 중복 제외)
+        tracker.record(news(2L, now, "반도체"));
+        tracker.record(news(3L, now, "반도체"));
+        assertEquals(3L, keywords(tracker.trending(TrendingKeywordTracker.Window.H1, 10)).get(0).get("count"));
+        tracker.record(news(1L, now, "반도체"));
+        assertEquals(4L, keywords(tracker.trending(TrendingKeywordTracker.Window.H1, 10)).get(0).get("count"));
+    }
+
+    // ================= 도우미 =================
+    private static StockNewsDTO news(Long newsId, long epochMillis, String keywords) {
+        StockNewsDTO news = TestFixtures.news(newsId, null, null, null);
+        news.setNewsDate(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), NewsDateUtil.ZONE).format(DB_FORMAT));
+        news.setKeywords(keywords);
+        return news;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> keywords(Map<String, Object> result) {
+        return (List<Map<String, Object>>) result.get("keywords");
+    }
+}
@@ -0,0 +1,73 @@
+package com.boot.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Aho–Corasick 오토마톤 - 겹치는 패턴, 대소문자 무시(글자 단위), 일치 위치
+ */
+class AhoCorasickTest {
+
+    @Test
+    void findsOverlappingPatterns() {
+        AhoCorasick ac = AhoCorasick.builder()
+                .add("삼성", 0)
+                .add("삼성전자", 1)
+                .add("전자", 2)
+                .add("삼성전자우", 3)
+                .build();
+
+        assertEquals(List.of("0:2=0", "0:4=1", "2:4=2", "0:5=3"), matches(ac, "삼성전자우"));
+        assertEquals(List.of("3:5=0", "3:7=1", "5:7=2"), matches(ac, "오늘 삼성전자 발표"));
+    }
+
+    @Test
+    void followsFailLinks() {
+        AhoCorasick ac = AhoCorasick.builder()
+                .add("HE", 0)
+                .add("SHE", 1)
+                .add("HIS", 2)
+                .add("HERS", 3)
+                .build();
+
+        assertEquals(List.of("1:4=1", "2:4=0", "2:6=3"), matches(ac, "USHERS"));
+        assertEquals(List.of("0:3=2", "2:5=1", "3:5=0"), matches(ac, "HISHE"));
+    }
+
+    @Test
+    void ignoresCasePerCharacter() {
+        AhoCorasick ac = AhoCorasick.builder()
+                .add("naver", 0)
+                .add("Straße", 1)
+                .build();
+
+        assertEquals(List.of("0:5=0"), matches(ac, "NaVeR 실적"));
+        // "ß" 는 글자 단위로는 그대로 → 패턴/본문 모두 같은 길이로 비교, 위치도 본문 기준
+        assertEquals(List.of("4:10=1"), matches(ac, "Die STRAßE"));
+        assertEquals(List.of("0:6=1"), matches(ac, "straße 7"));
+    }
+
+    @Test
+    void firstValueWinsForDuplicatePattern() {
+        AhoCorasick ac = AhoCorasick.builder()
+                .add("KT", 0)
+                .add("kt", 1)
+                .add("", 2)
+                .add(null, 3)
+                .build();
+
+        assertEquals(1, ac.size());
+        assertEquals(List.of("0:2=0"), matches(ac, "KT"));
+        assertEquals(List.of(), matches(ac, null));
+    }
+
+    private static List<String> matches(AhoCorasick ac, String text) {
+        List<String> result = new ArrayList<>();
+        ac.scan(text, (start, end, value) -> result.add(start + ":" + end + "=" + value));
+        return result;
+    }
+}
@@ -0,0 +1,117 @@
+package com.boot.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 편집 거리 BK-tree - 전수 비교와 같은 결과, 삭제, 빈 노드 정리
+ */
+class BKTreeTest {
+
+    @Test
+    void levenshteinDistance() {
+        assertEquals(3, BKTree.distance("KITTEN", "SITTING"));
+        assertEquals(0, BKTree.distance("삼성", "삼성"));
+        assertEquals(2, BKTree.distance("", "AB"));
+        assertEquals(1, BKTree.distance(HangulJamo.decompose("삼송전자"), HangulJamo.decompose("삼성전자")));
+    }
+
+    @Test
+    void searchMatchesBruteForce() {
+        List<String> keys = randomKeys(500, 42);
+        BKTree tree = new BKTree();
+        for (int i = 0; i < keys.size(); i++) tree.add(i, keys.get(i));
+
+        for (String query : randomKeys(30, 7)) {
+            for (int max = 0; max <= 2; max++) {
+                assertEquals(bruteForce(keys, query, max), matches(tree.search(query, max)), query + "/" + max);
+            }
+        }
+    }
+
+    @Test
+    void sameKeyKeepsAllDocs() {
+        BKTree tree = new BKTree();
+        tree.add(1, "ABCD");
+        tree.add(2, "ABCD");
+        tree.add(2, "ABCD");
+        tree.add(3, "ABCE");
+
+        assertEquals(new TreeSet<>(List.of("1:ABCD:0", "2:ABCD:0", "3:ABCE:1")), matches(tree.search("ABCD", 1)));
+        assertTrue(tree.search("ABCD", -1).isEmpty());
+        assertTrue(tree.search("", 2).isEmpty());
+    }
+
+    @Test
+    void removeHidesDocAndKeepsSubtree() {
+        BKTree tree = new BKTree();
+        tree.add(1, "ABCD");
+        tree.add(2, "ABCE");
+        tree.add(3, "ABXY");
+
+        // 루트 노드의 문서를 빼도 아래 노드는 그대로 찾음
+        tree.remove(1, "ABCD");
+        assertEquals(new TreeSet<>(List.of("2:ABCE:1", "3:ABXY:2")), matches(tree.search("ABCD", 2)));
+
+        tree.add(1, "ABCD");
+        assertEquals(new TreeSet<>(List.of("1:ABCD:0")), matches(tree.search("ABCD", 0)));
+    }
+
+    @Test
+    void compactsWhenMostNodesAreEmpty() {
+        List<String> keys = randomKeys(200, 3);
+        BKTree tree = new BKTree();
+        for (int i = 0; i < keys.size(); i++) tree.add(i, keys.get(i));
+
+        // 빈 노드가 64개 이상이고 절반을 넘는 순간 정리
+        for (int i = 0; i < 150; i++) tree.remove(i, keys.get(i));
+        Map<?, ?> nodes = (Map<?, ?>) ReflectionTestUtils.getField(tree, "nodes");
+        assertTrue(nodes.size() < 200, "compacted: " + nodes.size());
+        assertTrue(nodes.size() >= 50);
+
+        List<String> live = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) live.add(i < 150 ? null : keys.get(i));
+        for (String query : randomKeys(20, 11)) {
+            assertEquals(bruteForce(live, query, 2), matches(tree.search(query, 2)), query);
+        }
+    }
+
+    // ================= 도우미 =================
+    // 4~6 글자, 4종류 문자 → 서로 가까운 키가 많이 생김
+    private static List<String> randomKeys(int count, long seed) {
+        Random random = new Random(seed);
+        List<String> keys = new ArrayList<>();
+        while (keys.size() < count) {
+            StringBuilder sb = new StringBuilder();
+            int len = 4 + random.nextInt(3);
+            for (int i = 0; i < len; i++) sb.append("ABCD".charAt(random.nextInt(4)));
+            if (!keys.contains(sb.toString())) keys.add(sb.toString());
+        }
+        return keys;
+    }
+
+    private static TreeSet<String> bruteForce(List<String> keys, String query, int max) {
+        TreeSet<String> result = new TreeSet<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (keys.get(i) == null) continue;
+            int d = BKTree.distance(query, keys.get(i));
+            if (d <= max) result.add(i + ":" + keys.get(i) + ":" + d);
+        }
+        return result;
+    }
+
+    private static TreeSet<String> matches(List<BKTree.Match> list) {
+        TreeSet<String> result = new TreeSet<>();
+        for (BKTree.Match m : list) result.add(m.docId + ":" + m.key + ":" + m.distance);
+        return result;
+    }
+}
@@ -0,0 +1,70 @@
+package com.boot.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 한글 자모 분해 - 초성, 겹모음/겹받침 낱자 분해, 글자 시작 위치
+ */
+class HangulJamoTest {
+
+    @Test
+    void choseong() {
+        assertEquals("ㅅㅅㅈㅈ", HangulJamo.choseong("삼성전자"));
+        assertEquals("SKㅎㅇㄴㅅ", HangulJamo.choseong("SK하이닉스"));
+        assertEquals("ㄲㅃ", HangulJamo.choseong("꿈빵"));
+    }
+
+    @Test
+    void choseongOnlyQuery() {
+        assertTrue(HangulJamo.isChoseongOnly("ㅅㅅㅈㅈ"));
+        assertTrue(HangulJamo.isChoseongOnly("ㄲ"));
+        // 모음, 겹받침 자모, 완성형 글자, 영문이 섞이면 초성 질의가 아님
+        assertFalse(HangulJamo.isChoseongOnly("ㅅㅏ"));
+        assertFalse(HangulJamo.isChoseongOnly("ㄳ"));
+        assertFalse(HangulJamo.isChoseongOnly("ㅅ성"));
+        assertFalse(HangulJamo.isChoseongOnly("SKㅎ"));
+        assertFalse(HangulJamo.isChoseongOnly(""));
+    }
+
+    @Test
+    void decomposesCompoundVowelsAndFinals() {
+        assertEquals("ㅅㅏㅁㅅㅓㅇ", HangulJamo.decompose("삼성"));
+        assertEquals("ㅎㅗㅏ", HangulJamo.decompose("화"));
+        assertEquals("ㅇㅡㅣ", HangulJamo.decompose("의"));
+        assertEquals("ㄷㅏㄹㄱ", HangulJamo.decompose("닭"));
+        assertEquals("ㄱㅏㅂㅅ", HangulJamo.decompose("값"));
+        // 단독 겹자모도 같은 낱자로
+        assertEquals("ㅗㅏ", HangulJamo.decompose("ㅘ"));
+        assertEquals("ㄱㅅ", HangulJamo.decompose("ㄳ"));
+        assertEquals("SK", HangulJamo.decompose("SK"));
+    }
+
+    @Test
+    void unfinishedSyllableIsPrefix() {
+        // 입력 중인 "호" → "화", "달" → "닭", "갑" → "값"
+        assertTrue(HangulJamo.decompose("한화").startsWith(HangulJamo.decompose("한호")));
+        assertTrue(HangulJamo.decompose("닭").startsWith(HangulJamo.decompose("달")));
+        assertTrue(HangulJamo.decompose("값").startsWith(HangulJamo.decompose("갑")));
+        assertTrue(HangulJamo.decompose("삼성").startsWith(HangulJamo.decompose("삼서")));
+    }
+
+    @Test
+    void marksSyllableStarts() {
+        BitSet starts = new BitSet();
+        assertEquals("ㅎㅗㅏSㄷㅏㄹㄱ", HangulJamo.decompose("화S닭", starts));
+        assertEquals("{0, 3, 4}", starts.toString());
+    }
+
+    @Test
+    void detectsHangul() {
+        assertTrue(HangulJamo.containsHangul("SK하이닉스"));
+        assertTrue(HangulJamo.containsHangul("ㅅ"));
+        assertFalse(HangulJamo.containsHangul("KODEX 200"));
+    }
+}
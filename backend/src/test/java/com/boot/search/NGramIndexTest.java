@@ -0,0 +1,68 @@
+package com.boot.search;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 문자 n-gram 포스팅 - bigram 교집합, 1글자 질의, 삭제
+ */
+class NGramIndexTest {
+
+    @Test
+    void intersectsBigramPostings() {
+        NGramIndex index = new NGramIndex();
+        index.add(3, "전자랜드");
+        index.add(1, "삼성전자");
+        index.add(2, "삼성물산");
+
+        assertArrayEquals(new int[] { 1, 2 }, index.candidates("삼성"));
+        assertArrayEquals(new int[] { 1, 3 }, index.candidates("전자"));
+        assertArrayEquals(new int[] { 1 }, index.candidates("성전"));
+        assertArrayEquals(new int[] { 1 }, index.candidates("삼성전자"));
+        // 없는 bigram 이 하나라도 있으면 후보 없음
+        assertArrayEquals(new int[0], index.candidates("삼성화재"));
+    }
+
+    @Test
+    void bigramIntersectionIsOnlyCandidates() {
+        NGramIndex index = new NGramIndex();
+        index.add(1, "나가가나");
+
+        // "가나", "나가" 는 모두 있지만 "가나가" 는 부분 문자열이 아님 → 호출 측에서 재검증
+        assertArrayEquals(new int[] { 1 }, index.candidates("가나가"));
+        assertEquals(-1, "나가가나".indexOf("가나가"));
+    }
+
+    @Test
+    void singleCharacterQueryUsesUnigrams() {
+        NGramIndex index = new NGramIndex();
+        index.add(1, "삼성전자");
+        index.add(2, "LG전자");
+        index.add(3, "SK하이닉스");
+
+        assertArrayEquals(new int[] { 1, 2 }, index.candidates("전"));
+        assertArrayEquals(new int[] { 2 }, index.candidates("L"));
+        assertArrayEquals(new int[0], index.candidates("현"));
+        assertArrayEquals(new int[0], index.candidates(""));
+        assertArrayEquals(new int[0], index.candidates(null));
+    }
+
+    @Test
+    void removeDropsDocFromPostings() {
+        NGramIndex index = new NGramIndex();
+        index.add(1, "삼성전자");
+        index.add(2, "삼성물산");
+        // 같은 문서에 여러 텍스트 (종목명 + 별칭)
+        index.add(1, "삼전");
+
+        index.remove(1, "삼성전자");
+        assertArrayEquals(new int[] { 2 }, index.candidates("삼성"));
+        assertArrayEquals(new int[0], index.candidates("전자"));
+        assertArrayEquals(new int[] { 1 }, index.candidates("삼전"));
+
+        index.clear();
+        assertArrayEquals(new int[0], index.candidates("삼"));
+    }
+}
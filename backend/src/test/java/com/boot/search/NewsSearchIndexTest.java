@@ -0,0 +1,118 @@
+package com.boot.search;
+
+import static com.boot.support.TestFixtures.DB_FORMAT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.boot.dao.StockInfoDAO;
+import com.boot.dto.StockNewsDTO;
+import com.boot.support.TestFixtures;
+import com.boot.util.NewsDateUtil;
+
+/**
+ * 뉴스 역색인 - 위치로 확인하는 연속 일치, BM25 + 최신성 가중치 순위, 삭제 표시 문서를 뺀 df
+ */
+class NewsSearchIndexTest {
+
+    @Test
+    void requiresConsecutiveTokens() {
+        NewsSearchIndex index = new NewsSearchIndex(null);
+        index.add(news(1L, "삼성전자 실적 발표", null, 0));
+        // bigram(삼성, 성전, 전자) 은 모두 있지만 이어지지 않음
+        index.add(news(2L, "전자 삼성 성전", null, 0));
+        // 제목 끝과 본문 시작은 이어지지 않음
+        index.add(news(3L, "반도체 삼성", "전자 업계 동향", 0));
+        index.add(news(4L, "삼성-전자 합병설", null, 0));
+
+        assertEquals(List.of(1L), ids(index.search("삼성 전자", 10)));
+        // 기호로 끊긴 질의는 같은 자리에서 끊긴 문서만
+        assertEquals(List.of(4L), ids(index.search("삼성-전자", 10)));
+        assertEquals(List.of(3L), ids(index.search("업계동향", 10)));
+        assertTrue(index.search("삼성 화재", 10).isEmpty());
+    }
+
+    @Test
+    void titleAndTermFrequencyRankHigher() {
+        NewsSearchIndex index = new NewsSearchIndex(null);
+        index.add(news(1L, "시장 동향", "반도체 수출 증가", 0));
+        index.add(news(2L, "반도체 수출 증가", "시장 동향", 0));
+        index.add(news(3L, "시장 동향", "반도체 반도체 반도체 수출", 0));
+        index.add(news(4L, "환율 동향", "원화 약세", 0));
+
+        // 본문 3회 > 제목 1회 (TITLE_WEIGHT 2) > 본문 1회
+        assertEquals(List.of(3L, 2L, 1L), ids(index.search("반도체", 10)));
+        assertEquals(List.of(3L, 2L), ids(index.search("반도체", 2)));
+    }
+
+    @Test
+    void recentNewsRanksHigher() {
+        NewsSearchIndex index = new NewsSearchIndex(null);
+        index.add(news(1L, "반도체 업황", "메모리 가격 상승", 30));
+        index.add(news(2L, "반도체 업황", "메모리 가격 상승", 1));
+        index.add(news(3L, "반도체 업황", "메모리 가격 상승", 7));
+
+        assertEquals(List.of(2L, 3L, 1L), ids(index.search("반도체", 10)));
+    }
+
+    @Test
+    void deletedDocsAreNotCountedInDf() {
+        // X: 가나 2회, Y: 다라 2회 → 더 드문 토큰을 많이 가진 문서가 위
+        List<StockNewsDTO> all = new ArrayList<>();
+        all.add(news(1L, null, "가나-다라. 가나", 0));
+        all.add(news(2L, null, "가나-다라. 다라", 0));
+        for (long id = 10; id < 13; id++) all.add(news(id, null, "가나 기사", 0));
+        for (long id = 20; id < 30; id++) all.add(news(id, null, "다라 기사", 0));
+
+        // 다라 기사들이 본문 갱신으로 다라 를 더 이상 포함하지 않음
+        List<StockNewsDTO> changed = new ArrayList<>();
+        for (long id = 20; id < 30; id++) {
+            StockNewsDTO updated = news(id, null, "마바 기사", 0);
+            updated.setUpdatedAt("2099-01-01 00:00:00");
+            changed.add(updated);
+        }
+
+        NewsSearchIndex index = new NewsSearchIndex(dao(all, changed));
+        index.rebuild();
+        assertEquals(List.of(1L, 2L), ids(index.search("가나-다라", 10)));
+
+        index.poll(0);
+        assertEquals(List.of(2L, 1L), ids(index.search("가나-다라", 10)));
+        assertTrue(index.search("다라 기사", 10).isEmpty());
+    }
+
+    // ================= 도우미 =================
+    private static StockNewsDTO news(Long newsId, String title, String content, int daysAgo) {
+        StockNewsDTO news = TestFixtures.news(newsId, null, title, content);
+        news.setNewsDate(LocalDateTime.now(NewsDateUtil.ZONE).minusDays(daysAgo).format(DB_FORMAT));
+        return news;
+    }
+
+    private static List<Long> ids(List<StockNewsDTO> result) {
+        List<Long> ids = new ArrayList<>();
+        for (StockNewsDTO news : result) ids.add(news.getNewsId());
+        return ids;
+    }
+
+    // 전체 적재 (스트리밍) / 변경분 조회
+    private static StockInfoDAO dao(List<StockNewsDTO> all, List<StockNewsDTO> changed) {
+        StockInfoDAO dao = mock(StockInfoDAO.class);
+        doAnswer(inv -> {
+            TestFixtures.stream(inv.getArgument(0), all);
+            return null;
+        }).when(dao).selectAllNewsForIndex(any());
+        when(dao.selectNewsForIndexChanged(anyLong(), any(), anyInt())).thenReturn(changed);
+        return dao;
+    }
+}
@@ -0,0 +1,55 @@
+package com.boot.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 뉴스 토크나이저 - bigram 분할, 1글자 구간, 토큰 위치와 구간 경계
+ */
+class NewsTokenizerTest {
+
+    @Test
+    void bigramsIgnoreSpacesAndBreakOnSymbols() {
+        assertEquals(List.of("삼성", "성전", "전자", "HB", "BM", "M공", "공급"),
+                NewsTokenizer.tokenize("삼성 전자, HBM 공급"));
+        assertEquals(List.of("HB", "BM"), NewsTokenizer.tokenize("hbm"));
+        assertTrue(NewsTokenizer.tokenize(null).isEmpty());
+        assertTrue(NewsTokenizer.tokenize("  ,.! ").isEmpty());
+    }
+
+    @Test
+    void singleCharRunIsOneToken() {
+        List<String> tokens = NewsTokenizer.tokenize("삼, 반도체");
+        assertEquals(List.of("삼", "반도", "도체"), tokens);
+        assertFalse(NewsTokenizer.isBigramOnly(tokens));
+        assertTrue(NewsTokenizer.isBigramOnly(NewsTokenizer.tokenize("반도체")));
+    }
+
+    @Test
+    void positionsLeaveGapBetweenRuns() {
+        assertEquals(List.of("삼성@0*", "성전@1", "전자@2"), positions("삼성 전자", 0));
+        // 기호로 끊기면 빈 위치 하나 뒤에서 다시 시작
+        assertEquals(List.of("삼성@0*", "전자@2*"), positions("삼성-전자", 0));
+        assertEquals(List.of("삼@5*", "HB@7*", "BM@8"), positions("삼 · HBM", 5));
+    }
+
+    @Test
+    void returnsNextStartAfterGap() {
+        assertEquals(4, NewsTokenizer.tokenize("삼성-전자", 0, (token, position, runStart) -> { }));
+        assertEquals(4, NewsTokenizer.tokenize("삼성전자", 0, (token, position, runStart) -> { }));
+        assertEquals(7, NewsTokenizer.tokenize("", 7, (token, position, runStart) -> { }));
+    }
+
+    private static List<String> positions(String text, int start) {
+        List<String> result = new ArrayList<>();
+        NewsTokenizer.tokenize(text, start, (token, position, runStart) ->
+                result.add(token + "@" + position + (runStart ? "*" : "")));
+        return result;
+    }
+}
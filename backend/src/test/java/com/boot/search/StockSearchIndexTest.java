@@ -0,0 +1,329 @@
+package com.boot.search;
+
+import static com.boot.support.TestFixtures.alias;
+import static com.boot.support.TestFixtures.stock;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.boot.dao.StockInfoDAO;
+import com.boot.dto.StockAliasDTO;
+import com.boot.dto.StockInfoDTO;
+
+/**
+ * 종목 자동완성 인덱스 - 기존 searchStocks SQL 과 같은 결과/순서, 1글자 질의, 증분 반영(종목명 변경),
+ * 초성/입력 중 글자 질의, 오타 보정(가장 가까운 키 기준 순위, 이름 변경 뒤 남은 키 제외), 별칭 사전 재적재
+ */
+class StockSearchIndexTest {
+
+    private final List<StockInfoDTO> stocks = new ArrayList<>();
+    private final List<StockAliasDTO> aliases = new ArrayList<>();
+    private boolean failAliases;
+
+    @Test
+    void matchesOldSqlOrder() {
+        fixture();
+        StockSearchIndex index = index(0);
+
+        for (String keyword : new String[] { "삼성", "삼성전자", "sk", "전자", "lg 전자", "이노", "현대", "SDI", "0059" }) {
+            assertEquals(codes(sqlSearch(keyword)), codes(index.search(keyword)), keyword);
+        }
+    }
+
+    @Test
+    void ranksExactThenPrefixThenMarketCap() {
+        fixture();
+        StockSearchIndex index = index(0);
+
+        // 완전 일치 → 접두 일치(시총순) → 포함(시총순)
+        assertEquals(List.of("005930", "005935", "006400", "032830", "028260", "009150", "999999"),
+                codes(index.search("삼성")));
+        assertEquals(List.of("005930", "005935"), codes(index.search("삼성 전자")));
+    }
+
+    @Test
+    void nullMarketCapSortsFirstLikeSql() {
+        fixture();
+        stocks.add(stock("000001", "삼성스팩", "-"));
+        stocks.add(stock("000002", "삼성신규상장", null));
+        StockSearchIndex index = index(0);
+
+        // ORDER BY ... DESC 는 Oracle 기본값이 NULLS FIRST → 같은 단계(접두 일치)의 맨 앞
+        List<String> codes = codes(index.search("삼성"));
+        assertEquals(List.of("000001", "000002", "005930", "005935"), codes.subList(0, 4));
+        // 완전 일치보다는 뒤
+        assertEquals(List.of("005930", "005935"), codes(index.search("삼성전자")).subList(0, 2));
+        assertEquals(codes(sqlSearch("삼성")), codes);
+        assertEquals(codes(sqlSearch("삼성신규")), codes(index.search("삼성신규")));
+    }
+
+    @Test
+    void singleCharacterQuery() {
+        fixture();
+        StockSearchIndex index = index(0);
+
+        assertEquals(List.of("005380", "012330"), codes(index.search("현")));
+        // 완전 일치(기아) → 포함(삼성전기)
+        assertEquals(List.of("000270", "009150"), codes(index.search("기")));
+        assertTrue(index.search("뷁").isEmpty());
+        assertTrue(index.search(" ").isEmpty());
+    }
+
+    @Test
+    void upsertReindexesRenamedStock() {
+        fixture();
+        StockSearchIndex index = index(0);
+
+        StockInfoDTO renamed = stock("066570", "LG일렉트로닉스", null);
+        renamed.setPrice(90000);
+        assertTrue(index.upsert(renamed));
+
+        assertEquals(List.of("066570"), codes(index.search("일렉")));
+        assertFalse(codes(index.search("LG전자")).contains("066570"));
+        // 기존 종목은 STOCK_NAME / PRICE / CHANGE_RATE 만 갱신, 시가총액은 유지
+        StockInfoDTO hit = index.search("LG일렉트로닉스").get(0);
+        assertEquals(Integer.valueOf(90000), hit.getPrice());
+        assertEquals("150000", hit.getMarketCap());
+
+        // 종목명이 그대로면 false
+        assertFalse(index.upsert(stock("066570", "LG 일렉트로닉스", null)));
+    }
+
+    @Test
+    void upsertAddsNewStock() {
+        fixture();
+        StockSearchIndex index = index(0);
+
+        assertTrue(index.upsert(stock("207940", "삼성바이오로직스", "600000")));
+        assertEquals("207940", codes(index.search("삼성")).get(1));
+        assertEquals(List.of("207940"), codes(index.search("바이오")));
+    }
+
+    @Test
+    void choseongQuery() {
+        fixture();
+        StockSearchIndex index = index(0);
+
+        assertEquals(List.of("005930", "005935"), codes(index.search("ㅅㅅㅈㅈ")));
+        // 접두 일치 → 포함 (각각 시총순), 영문 섞인 종목명도 초성 색인
+        assertEquals(List.of("005930", "005935", "006400", "032830", "028260", "009150", "999999"),
+                codes(index.search("ㅅㅅ")));
+        assertEquals(List.of("000660"), codes(index.search("ㅎㅇㄴㅅ")));
+    }
+
+    @Test
+    void unfinishedLastSyllable() {
+        fixture();
+        StockSearchIndex index = index(0);
+
+        assertEquals("005930", codes(index.search("삼성전ㅈ")).get(0));
+        assertEquals(List.of("005930", "005935", "009150"), codes(index.search("삼성저")));
+        // 겹모음: "호" 입력 중 → "화"
+        assertEquals(List.of("009830"), codes(index.search("한호")));
+        assertEquals(List.of("051910"), codes(index.search("LG호")));
+    }
+
+    @Test
+    void literalMatchRanksBeforeJamoMatch() {
+        stocks.add(stock("000001", "전장부품", "100"));
+        stocks.add(stock("000002", "전자랜드", "1"));
+        StockSearchIndex index = index(0);
+
+        // 같은 접두 일치라도 글자 그대로(전자랜드)가 자모로만 일치(전장 ← ㅈㅓㄴㅈㅏ)보다 앞, 시총과 무관
+        assertEquals(List.of("000002", "000001"), codes(index.search("전자")));
+    }
+
+    @Test
+    void choseongReindexedOnRename() {
+        fixture();
+        StockSearchIndex index = index(0);
+
+        index.upsert(stock("066570", "LG일렉트로닉스", null));
+        assertEquals(List.of("066570"), codes(index.search("ㅇㄹㅌㄹ")));
+        assertFalse(codes(index.search("LGㅈㅈ")).contains("066570"));
+    }
+
+    @Test
+    void fuzzyFallbackForTypos() {
+        fixture();
+        StockSearchIndex index = index(2);
+
+        assertEquals(List.of("005930"), codes(index.search("삼송전자")));
+        assertEquals(List.of("000660"), codes(index.search("SK하이닉슨")));
+        // 일반 검색 결과가 fuzzy.min-hits 이상이면 오타 보정 안 함
+        assertEquals(List.of("005930", "005935", "009150"), codes(index.search("삼성저")));
+    }
+
+    @Test
+    void fuzzyRanksByClosestKey() {
+        stocks.add(stock("000001", "ABCDEFHH", "100"));
+        stocks.add(stock("000002", "ABCDEXYZ", "999"));
+        aliases.add(alias("ABCDEFGY", "000001"));
+        StockSearchIndex index = index(2);
+
+        // 000001: 종목명 거리 2, 별칭 거리 1 → 거리 1 로 시총이 큰 000002(거리 2)보다 앞
+        assertEquals(List.of("000001", "000002"), codes(index.search("ABCDEFGZ")));
+    }
+
+    @Test
+    void fuzzyIgnoresKeysBeforeRename() {
+        fixture();
+        StockSearchIndex index = index(2);
+
+        index.upsert(stock("005930", "삼성일렉", null));
+        assertTrue(index.search("삼송전자").isEmpty());
+        assertEquals(List.of("005930"), codes(index.search("삼송일렉")));
+
+        // 원래 이름으로 돌아오면 다시 오타 보정 대상
+        index.upsert(stock("005930", "삼성전자", null));
+        assertEquals(List.of("005930"), codes(index.search("삼송전자")));
+    }
+
+    @Test
+    void aliasesResolveLikeNames() {
+        fixture();
+        aliases.add(alias("삼전", "005930"));
+        aliases.add(alias(" 하 닉 ", "000660"));
+        aliases.add(alias("하닉", "000660"));
+        StockSearchIndex index = index(0);
+
+        assertEquals("005930", codes(index.search("삼전")).get(0));
+        // 공백 제거로 같은 별칭이 되면 한 번만 색인
+        assertEquals(List.of("000660"), codes(index.search("하닉")));
+        // 1글자 질의도 별칭으로 접두 일치 (글자 그대로 일치라 자모로만 걸리는 한화솔루션보다 앞)
+        assertEquals("000660", codes(index.search("하")).get(0));
+    }
+
+    @Test
+    void reloadAliasesReplacesIndex() {
+        fixture();
+        aliases.add(alias("삼전", "005930"));
+        StockSearchIndex index = index(0);
+        assertEquals(List.of("005930"), codes(index.search("삼전")));
+
+        aliases.clear();
+        aliases.add(alias("하닉", "000660"));
+        aliases.add(alias("엘전", "066570"));
+        assertEquals(2, index.reloadAliases());
+
+        assertTrue(index.search("삼전").isEmpty());
+        assertEquals(List.of("000660"), codes(index.search("하닉")));
+        assertEquals(List.of("066570"), codes(index.search("엘전")));
+        // 종목명 색인은 그대로
+        assertEquals("005930", codes(index.search("삼성전자")).get(0));
+
+        // 재적재 뒤 종목명이 바뀌어도 별칭 유지
+        index.upsert(stock("000660", "SK하이닉스반도체", null));
+        assertEquals(List.of("000660"), codes(index.search("하닉")));
+    }
+
+    @Test
+    void aliasKeysAreFuzzyKeysAfterReload() {
+        fixture();
+        StockSearchIndex index = index(2);
+        assertTrue(index.search("하이닉수반도체").isEmpty());
+
+        aliases.add(alias("하이닉스반도체", "000660"));
+        index.reloadAliases();
+        assertEquals(List.of("000660"), codes(index.search("하이닉수반도체")));
+
+        aliases.clear();
+        index.reloadAliases();
+        assertTrue(index.search("하이닉수반도체").isEmpty());
+    }
+
+    @Test
+    void namesStillIndexedWhenAliasTableFails() {
+        fixture();
+        failAliases = true;
+        StockSearchIndex index = index(0);
+
+        assertEquals("005930", codes(index.search("삼성전자")).get(0));
+        assertTrue(index.search("삼전").isEmpty());
+    }
+
+    // ================= 도우미 =================
+    private void fixture() {
+        stocks.add(stock("005930", "삼성전자", "4900000"));
+        stocks.add(stock("005935", "삼성전자우", "450000"));
+        stocks.add(stock("028260", "삼성물산", "250000"));
+        stocks.add(stock("006400", "삼성SDI", "300000"));
+        stocks.add(stock("009150", "삼성전기", "120000"));
+        stocks.add(stock("032830", "삼성생명", "260000"));
+        stocks.add(stock("999999", "KODEX 삼성그룹", "20000"));
+        stocks.add(stock("000660", "SK하이닉스", "1300000"));
+        stocks.add(stock("402340", "SK스퀘어", "150000"));
+        stocks.add(stock("096770", "SK이노베이션", "110000"));
+        stocks.add(stock("373220", "LG에너지솔루션", "900000"));
+        stocks.add(stock("066570", "LG전자", "150000"));
+        stocks.add(stock("051910", "LG화학", "220000"));
+        stocks.add(stock("011070", "LG이노텍", "50000"));
+        stocks.add(stock("009830", "한화솔루션", "60000"));
+        stocks.add(stock("005380", "현대차", "500000"));
+        stocks.add(stock("012330", "현대모비스", "210000"));
+        stocks.add(stock("000270", "기아", "400000"));
+    }
+
+    private StockSearchIndex index(int fuzzyMaxDistance) {
+        StockSearchIndex index = new StockSearchIndex(dao());
+        ReflectionTestUtils.setField(index, "fuzzyMaxDistance", fuzzyMaxDistance);
+        ReflectionTestUtils.setField(index, "fuzzyMinHits", 3);
+        index.init();
+        assertTrue(index.isReady());
+        return index;
+    }
+
+    private static List<String> codes(List<StockInfoDTO> result) {
+        List<String> codes = new ArrayList<>();
+        for (StockInfoDTO dto : result) codes.add(dto.getStockCode());
+        return codes;
+    }
+
+    /** StockInfoMapper.xml searchStocks 의 WHERE / ORDER BY 를 그대로 옮긴 기준 결과 */
+    private List<StockInfoDTO> sqlSearch(String keyword) {
+        String q = keyword.replace(" ", "").toUpperCase(Locale.ROOT);
+        String raw = keyword.toUpperCase(Locale.ROOT);
+
+        List<StockInfoDTO> result = new ArrayList<>();
+        for (StockInfoDTO s : stocks) {
+            String name = s.getStockName().replace(" ", "").toUpperCase(Locale.ROOT);
+            if (name.contains(q) || s.getStockCode().toUpperCase(Locale.ROOT).contains(q)
+                    || s.getStockName().toUpperCase(Locale.ROOT).contains(raw)) {
+                result.add(s);
+            }
+        }
+        result.sort(Comparator
+                .comparingInt((StockInfoDTO s) -> s.getStockName().replace(" ", "").toUpperCase(Locale.ROOT).equals(q) ? 0 : 1)
+                .thenComparingInt(s -> s.getStockName().replace(" ", "").toUpperCase(Locale.ROOT).startsWith(q) ? 0 : 1)
+                .thenComparingInt(s -> s.getStockName().toUpperCase(Locale.ROOT).startsWith(raw) ? 0 : 1)
+                .thenComparing(StockSearchIndexTest::sqlMarketCap, Comparator.nullsFirst(Comparator.reverseOrder())));
+        return result;
+    }
+
+    // TO_NUMBER(REGEXP_REPLACE(MARKET_CAP, '[^0-9]', '')), 숫자가 없으면 NULL ('' 도 Oracle 에서는 NULL)
+    private static Long sqlMarketCap(StockInfoDTO s) {
+        String digits = s.getMarketCap() == null ? "" : s.getMarketCap().replaceAll("[^0-9]", "");
+        return digits.isEmpty() ? null : Long.valueOf(digits);
+    }
+
+    // 전체 종목 / 별칭 사전 (호출 시점의 stocks / aliases)
+    private StockInfoDAO dao() {
+        StockInfoDAO dao = mock(StockInfoDAO.class);
+        when(dao.selectAllStocksForIndex()).thenAnswer(inv -> new ArrayList<>(stocks));
+        when(dao.selectAllStockAliases()).thenAnswer(inv -> {
+            if (failAliases) throw new IllegalStateException("ORA-00942: table or view does not exist");
+            return new ArrayList<>(aliases);
+        });
+        return dao;
+    }
+}
@@ -0,0 +1,177 @@
+package com.boot.search;
+
+import static com.boot.support.TestFixtures.alias;
+import static com.boot.support.TestFixtures.stock;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.boot.dao.StockInfoDAO;
+import com.boot.dto.StockAliasDTO;
+import com.boot.dto.StockInfoDTO;
+
+/**
+ * 뉴스 종목코드 자동 지정 - 점수/겹침/단어 경계, 백그라운드 재구성 (태깅 스레드는 기다리지 않음)
+ */
+class StockTaggerTest {
+
+    private final List<StockInfoDTO> stocks = new ArrayList<>();
+    private final List<StockAliasDTO> aliases = new ArrayList<>();
+    private volatile CountDownLatch blockBuild;
+    private volatile CountDownLatch buildStarted;
+    private volatile boolean failBuild;
+    private StockTagger tagger;
+
+    @AfterEach
+    void tearDown() {
+        if (blockBuild != null) blockBuild.countDown();
+        if (tagger != null) tagger.shutdown();
+    }
+
+    @Test
+    void picksMostMentionedStock() {
+        fixture();
+        tagger = tagger();
+
+        assertEquals("005930", tagger.tag("반도체 업황", "삼성전자 와 SK하이닉스, 삼성전자 실적"));
+        // 제목 출현은 TITLE_WEIGHT 점
+        assertEquals("000660", tagger.tag("SK하이닉스 HBM", "삼성전자 와 삼성전자"));
+        // 동점이면 먼저 나온 종목
+        assertEquals("000660", tagger.tag(null, "SK하이닉스 삼성전자"));
+        assertNull(tagger.tag("환율 동향", "원화 약세"));
+        assertNull(tagger.tag(null, null));
+    }
+
+    @Test
+    void leftmostLongestAndWordBoundary() {
+        fixture();
+        tagger = tagger();
+
+        // "삼성전자우" 안의 "삼성전자" 는 따로 세지 않음
+        assertEquals("005935", tagger.tag(null, "삼성전자우 배당"));
+        // 영문 이름은 앞뒤가 영문/숫자가 아닐 때만
+        assertNull(tagger.tag("KTX 증편", null));
+        assertEquals("030200", tagger.tag("KT, 요금제 개편", null));
+        // 별칭, 대소문자 무시
+        assertEquals("005930", tagger.tag("삼전 주가", null));
+        assertEquals("035420", tagger.tag("naver 실적", null));
+    }
+
+    @Test
+    void rebuildsInBackgroundOnChange() throws Exception {
+        fixture();
+        tagger = tagger();
+        assertNull(tagger.tag("카카오 실적", null));
+
+        // 재구성을 막아 둔 채로 변경 → 태깅은 기다리지 않고 기존 오토마톤 사용
+        blockBuild = new CountDownLatch(1);
+        buildStarted = new CountDownLatch(1);
+        StockInfoDTO kakao = stock("035720", "카카오");
+        stocks.add(kakao);
+        tagger.onStockChanged(kakao);
+        assertTrue(buildStarted.await(5, TimeUnit.SECONDS));
+
+        long start = System.nanoTime();
+        assertNull(tagger.tag("카카오 실적", null));
+        assertEquals("005930", tagger.tag("삼성전자", null));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+
+        blockBuild.countDown();
+        assertEquals("035720", await(() -> tagger.tag("카카오 실적", null)));
+    }
+
+    @Test
+    void unchangedNameDoesNotRebuild() {
+        fixture();
+        tagger = tagger();
+
+        failBuild = true;
+        tagger.onStockChanged(stock("005930", " 삼성전자 "));
+        assertEquals("005930", tagger.tag("삼성전자", null));
+    }
+
+    @Test
+    void failedRebuildKeepsSnapshotAndRetries() {
+        fixture();
+        tagger = tagger();
+
+        failBuild = true;
+        aliases.add(alias("하닉", "000660"));
+        tagger.markDirty();
+        assertEquals("005930", tagger.tag("삼성전자", null));
+        assertNull(tagger.tag("하닉 실적", null));
+
+        // 다음 태깅 때 다시 시도
+        failBuild = false;
+        assertEquals("000660", await(() -> tagger.tag("하닉 실적", null)));
+    }
+
+    @Test
+    void initialLoadFailureRetriesOnTag() {
+        fixture();
+        failBuild = true;
+        tagger = tagger();
+        assertNull(tagger.tag("삼성전자", null));
+
+        failBuild = false;
+        assertEquals("005930", await(() -> tagger.tag("삼성전자", null)));
+    }
+
+    // ================= 도우미 =================
+    private void fixture() {
+        stocks.add(stock("005930", "삼성전자"));
+        stocks.add(stock("005935", "삼성전자우"));
+        stocks.add(stock("000660", "SK하이닉스"));
+        stocks.add(stock("030200", "KT"));
+        stocks.add(stock("035420", "NAVER"));
+        aliases.add(alias("삼전", "005930"));
+        // 없는 종목의 별칭은 무시
+        aliases.add(alias("없는종목", "999999"));
+    }
+
+    private StockTagger tagger() {
+        StockTagger tagger = new StockTagger(dao());
+        tagger.init();
+        return tagger;
+    }
+
+    // 재구성이 반영될 때까지 (최대 5초)
+    private static String await(Supplier<String> tag) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String result = tag.get();
+        while (result == null && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            result = tag.get();
+        }
+        return result;
+    }
+
+    // 종목 조회는 blockBuild 가 풀릴 때까지 대기, failBuild 면 실패
+    private StockInfoDAO dao() {
+        StockInfoDAO dao = mock(StockInfoDAO.class);
+        when(dao.selectAllStocksForIndex()).thenAnswer(inv -> {
+            if (buildStarted != null) buildStarted.countDown();
+            if (blockBuild != null) blockBuild.await(5, TimeUnit.SECONDS);
+            if (failBuild) throw new IllegalStateException("DB 연결 실패");
+            return new ArrayList<>(stocks);
+        });
+        when(dao.selectAllStockAliases()).thenAnswer(inv -> new ArrayList<>(aliases));
+        return dao;
+    }
+}
@@ -0,0 +1,129 @@
+package com.boot.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.boot.dao.StockNewsDAO;
+import com.boot.dto.StockNewsPageDTO;
+import com.boot.dto.StockNewsSummaryDTO;
+import com.boot.news.NewsCursor;
+
+/**
+ * 뉴스 목록 키셋 페이지 - pageSize + 1 건 조회, 다음 페이지가 있을 때만 nextCursor, 커서 → DAO 인자
+ */
+class StockNewsServiceImplTest {
+
+    private final List<StockNewsSummaryDTO> rows = new ArrayList<>();
+    private final List<Object[]> calls = new ArrayList<>();
+
+    @Test
+    void emitsCursorOnlyWhenMoreRows() {
+        StockNewsServiceImpl service = service();
+        addRows(3);
+
+        // 3건 요청 → 4건 조회, 3건만 와서 마지막 페이지
+        StockNewsPageDTO last = service.getNewsPageByStock("005930", null, 3);
+        assertFalse(last.isHasMore());
+        assertNull(last.getNextCursor());
+        assertEquals(3, last.getNewsList().size());
+        assertEquals(Integer.valueOf(4), calls.get(0)[3]);
+
+        // 2건 요청 → 3건 와서 다음 페이지 있음, 커서는 페이지의 마지막 행
+        StockNewsPageDTO first = service.getNewsPageByStock("005930", null, 2);
+        assertTrue(first.isHasMore());
+        assertEquals(2, first.getNewsList().size());
+        assertEquals(NewsCursor.encode(rows.get(1).getNewsDate(), rows.get(1).getNewsId()), first.getNextCursor());
+    }
+
+    @Test
+    void emptyPageHasNoCursor() {
+        StockNewsPageDTO page = service().getNewsPageByStock("005930", null, 20);
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+        assertTrue(page.getNewsList().isEmpty());
+    }
+
+    @Test
+    void passesCursorToDao() {
+        StockNewsServiceImpl service = service();
+        addRows(5);
+
+        StockNewsPageDTO first = service.getNewsPageByStock("005930", null, 2);
+        service.getNewsPageByStock("005930", first.getNextCursor(), 2);
+        Object[] args = calls.get(1);
+        assertEquals("005930", args[0]);
+        assertEquals("20250101080000", args[1]);
+        assertEquals(Long.valueOf(99), args[2]);
+
+        // 날짜 없는 뉴스 커서
+        service.getNewsPageByStock("005930", "_42", 2);
+        assertNull(calls.get(2)[1]);
+        assertEquals(Long.valueOf(42), calls.get(2)[2]);
+    }
+
+    @Test
+    void nullDateRowMakesDatelessCursor() {
+        StockNewsServiceImpl service = service();
+        addRows(2);
+        rows.get(0).setNewsDate(null);
+
+        assertEquals("_100", service.getNewsPageByStock("005930", null, 1).getNextCursor());
+    }
+
+    @Test
+    void clampsPageSize() {
+        StockNewsServiceImpl service = service();
+        service.getNewsPageByStock("005930", null, 1000);
+        service.getNewsPageByStock("005930", null, 0);
+        assertEquals(Integer.valueOf(101), calls.get(0)[3]);
+        assertEquals(Integer.valueOf(2), calls.get(1)[3]);
+    }
+
+    @Test
+    void rejectsInvalidCursorBeforeDao() {
+        StockNewsServiceImpl service = service();
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getNewsPageByStock("005930", "20251301093000_1", 20));
+        assertTrue(calls.isEmpty());
+    }
+
+    // ================= 도우미 =================
+    // 최신순 (NEWS_DATE DESC, NEWS_ID DESC)
+    private void addRows(int count) {
+        for (int i = 0; i < count; i++) {
+            StockNewsSummaryDTO row = new StockNewsSummaryDTO();
+            row.setNewsId(100L - i);
+            row.setStockCode("005930");
+            row.setTitle("뉴스" + i);
+            row.setNewsDate(String.format("2025-01-01 %02d:00:00", 9 - i));
+            rows.add(row);
+        }
+    }
+
+    // DAO 는 (stockCode, cursorDate, cursorId, limit) 기록, 앞에서부터 limit 건 반환
+    private StockNewsServiceImpl service() {
+        StockNewsDAO dao = mock(StockNewsDAO.class);
+        when(dao.getNewsSummaryPageByStock(anyString(), any(), any(), anyInt())).thenAnswer(inv -> {
+            calls.add(inv.getArguments());
+            int limit = inv.getArgument(3);
+            return new ArrayList<>(rows.subList(0, Math.min(limit, rows.size())));
+        });
+        StockNewsServiceImpl service = new StockNewsServiceImpl(dao, null, null, null);
+        ReflectionTestUtils.setField(service, "maxPageSize", 100);
+        return service;
+    }
+}
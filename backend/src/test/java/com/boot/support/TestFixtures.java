@@ -0,0 +1,69 @@
+package com.boot.support;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.apache.ibatis.session.ResultHandler;
+
+import com.boot.dto.StockAliasDTO;
+import com.boot.dto.StockInfoDTO;
+import com.boot.dto.StockNewsDTO;
+import com.boot.util.NewsDateUtil;
+
+/**
+ * 테스트 공용 데이터 / DAO 응답 도우미
+ * - DTO 는 테스트에 필요한 필드만 채우고, 나머지는 각 테스트에서 setter 로
+ * - DAO 는 각 테스트에서 Mockito 로 만들고, ResultHandler 로 받는 조회만 stream 으로 응답
+ */
+public final class TestFixtures {
+
+    /** TO_CHAR(..., 'YYYY-MM-DD HH24:MI:SS') 형식 */
+    public static final DateTimeFormatter DB_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private TestFixtures() {
+    }
+
+    public static StockInfoDTO stock(String code, String name) {
+        return stock(code, name, null);
+    }
+
+    public static StockInfoDTO stock(String code, String name, String marketCap) {
+        StockInfoDTO dto = new StockInfoDTO();
+        dto.setStockCode(code);
+        dto.setStockName(name);
+        dto.setMarketCap(marketCap);
+        return dto;
+    }
+
+    public static StockAliasDTO alias(String alias, String code) {
+        StockAliasDTO dto = new StockAliasDTO();
+        dto.setAlias(alias);
+        dto.setStockCode(code);
+        return dto;
+    }
+
+    public static StockNewsDTO news(Long newsId, String stockCode, String title, String content) {
+        StockNewsDTO news = new StockNewsDTO();
+        news.setNewsId(newsId);
+        news.setStockCode(stockCode);
+        news.setTitle(title);
+        news.setContent(content);
+        return news;
+    }
+
+    /** 지금(NewsDateUtil.ZONE)에서 hours 시간 전, DB 문자열 형식 */
+    public static String hoursAgo(long hours) {
+        return LocalDateTime.now(NewsDateUtil.ZONE).minusHours(hours).format(DB_FORMAT);
+    }
+
+    /** MyBatis 스트리밍 조회 (ResultHandler) 처럼 행을 하나씩 전달 */
+    public static <T> void stream(ResultHandler<T> handler, Iterable<? extends T> rows) {
+        DefaultResultContext<T> context = new DefaultResultContext<>();
+        for (T row : rows) {
+            context.nextResultObject(row);
+            handler.handleResult(context);
+            if (context.isStopped()) return;
+        }
+    }
+}
@@ -35,7 +35,7 @@ function KosdaqLineChart() {
 
   useEffect(() => {
     axios
-      .get("http://localhost:8484/api/chart/kosdaq-history")
+      .get("http://localhost:8484/api/chart/kosdaq-history", { params: { maxPoints: 1000 } })
       .then((res) => {
         console.log("🔥 KOSDAQ RAW DATA:", res.data);
         if (!Array.isArray(res.data)) {
@@ -35,7 +35,7 @@ function KospiLineChart() {
 
   useEffect(() => {
     axios
-      .get("http://localhost:8484/api/chart/kospi-history")
+      .get("http://localhost:8484/api/chart/kospi-history", { params: { maxPoints: 1000 } })
       .then((res) => {
         console.log("🔥 KOSPI RAW DATA:", res.data);
         if (!Array.isArray(res.data)) {
@@ -560,11 +560,17 @@ const ShowMoreButton = styled.button`
 // Main Component
 // ============================================
 
+// 키워드 뉴스 한 번에 받아오는 건수
+const NEWS_PAGE_SIZE = 10;
+
 function KeywordTrendPage() {
     const [keywords, setKeywords] = useState([]);
     const [selectedKeyword, setSelectedKeyword] = useState(null);
     const [stocks, setStocks] = useState([]);
     const [news, setNews] = useState([]);
+    // 키워드 뉴스 다음 페이지 커서 (없으면 마지막 페이지)
+    const [newsCursor, setNewsCursor] = useState(null);
+    const [loadingMoreNews, setLoadingMoreNews] = useState(false);
     const [loading, setLoading] = useState(true);
     const [loadingRelated, setLoadingRelated] = useState(false);
     const [error, setError] = useState(null);
@@ -715,6 +721,7 @@ function KeywordTrendPage() {
         if (!selectedKeyword) {
             setStocks([]);
             setNews([]);
+            setNewsCursor(null);
             setShowAllStocks(false);
             // 키워드 선택 해제 시 모든 구독 해제
             resetSubscriptions([]);
@@ -728,7 +735,7 @@ function KeywordTrendPage() {
                 
                 const [stocksRes, newsRes] = await Promise.all([
                     axios.get(`http://localhost:8484/api/news/stocks-by-keyword?keyword=${encodeURIComponent(selectedKeyword)}`),
-                    axios.get(`http://localhost:8484/api/news/by-keyword?keyword=${encodeURIComponent(selectedKeyword)}`)
+                    axios.get(`http://localhost:8484/api/news/by-keyword?keyword=${encodeURIComponent(selectedKeyword)}&size=${NEWS_PAGE_SIZE}`)
                 ]);
                 
                 const stocksData = (stocksRes.data || []).map(stock => ({
@@ -745,7 +752,8 @@ function KeywordTrendPage() {
                 }));
                 
                 setStocks(stocksData);
-                setNews(newsRes.data || []);
+                setNews(newsRes.data?.newsList || []);
+                setNewsCursor(newsRes.data?.hasMore ? newsRes.data.nextCursor : null);
 
                 // ⭐ 종목 리스트가 갱신되면 구독 갱신 요청
                 resetSubscriptions(stocksData); 
@@ -754,6 +762,7 @@ function KeywordTrendPage() {
                 console.error("관련 데이터 로드 실패:", err);
                 setStocks([]);
                 setNews([]);
+                setNewsCursor(null);
                 // 실패 시에도 구독 해제 (데이터가 없으므로)
                 resetSubscriptions([]);
             } finally {
@@ -810,7 +819,25 @@ function KeywordTrendPage() {
     });
     
     // 최신 뉴스 최대 10개만 표시
-    const displayedNews = filteredNews.slice(0, 10);
+    // 서버에서 NEWS_PAGE_SIZE 건씩 받아오므로 받아온 뉴스는 모두 표시
+    const displayedNews = filteredNews;
+
+    // 키워드 뉴스 다음 페이지
+    const handleLoadMoreNews = async () => {
+        if (!selectedKeyword || !newsCursor || loadingMoreNews) return;
+        try {
+            setLoadingMoreNews(true);
+            const res = await axios.get('http://localhost:8484/api/news/by-keyword', {
+                params: { keyword: selectedKeyword, cursor: newsCursor, size: NEWS_PAGE_SIZE },
+            });
+            setNews(prev => [...prev, ...(res.data?.newsList || [])]);
+            setNewsCursor(res.data?.hasMore ? res.data.nextCursor : null);
+        } catch (err) {
+            console.error("뉴스 추가 로드 실패:", err);
+        } finally {
+            setLoadingMoreNews(false);
+        }
+    };
 
     const maxScore = keywords.length > 0 ? Math.max(...keywords.map(k => k.score)) : 1;
 
@@ -958,7 +985,7 @@ function KeywordTrendPage() {
                                         displayedNews.map((item) => (
                                             <NewsItem key={item.newsId || item.NEWS_ID} sentiment={item.sentiment || item.SENTIMENT}>
                                                 <NewsTitle>{item.title || item.TITLE}</NewsTitle>
-                                                <NewsContent>{item.content || item.CONTENT || ''}</NewsContent>
+                                                <NewsContent>{item.summary || item.content || item.CONTENT || ''}</NewsContent>
                                                 <NewsMeta>
                                                     <SentimentBadge sentiment={item.sentiment || item.SENTIMENT || '보통'}>
                                                         {item.sentiment || item.SENTIMENT || '보통'}
@@ -978,6 +1005,11 @@ function KeywordTrendPage() {
                                             <p>선택한 감성 필터에 해당하는 뉴스가 없습니다.</p>
                                         </EmptyState>
                                     )}
+                                    {newsCursor && (
+                                        <ShowMoreButton onClick={handleLoadMoreNews} disabled={loadingMoreNews}>
+                                            {loadingMoreNews ? '불러오는 중...' : '뉴스 더보기'}
+                                        </ShowMoreButton>
+                                    )}
                                 </NewsList>
                             )}
 
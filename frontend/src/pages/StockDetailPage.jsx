@@ -132,6 +132,26 @@ const styles = {
         marginBottom: '8px',
         lineHeight: '1.4',
     },
+    newsBodyToggle: {
+        background: 'none',
+        border: 'none',
+        color: '#007bff',
+        fontSize: '13px',
+        cursor: 'pointer',
+        padding: 0,
+        marginBottom: '8px',
+    },
+    moreNewsButton: {
+        display: 'block',
+        width: '100%',
+        padding: '10px',
+        marginTop: '10px',
+        border: '1px solid #ccc',
+        backgroundColor: 'white',
+        borderRadius: '6px',
+        cursor: 'pointer',
+        fontWeight: 'bold',
+    },
     newsInfo: {
         fontSize: '12px',
         color: '#888',
@@ -447,6 +467,13 @@ function StockDetailPage() {
     const [isFavorite, setIsFavorite] = useState(false);
     const [savedBookmarks, setSavedBookmarks] = useState([]);
 
+    // 뉴스 목록 (첫 페이지는 상세 정보와 함께, 이후는 커서로 이어서 조회)
+    const [newsList, setNewsList] = useState([]);
+    const [newsCursor, setNewsCursor] = useState(null);
+    const [newsLoading, setNewsLoading] = useState(false);
+    // 펼친 뉴스 본문 (newsId → content)
+    const [newsBodies, setNewsBodies] = useState({});
+
     // STOMP 객체
     const stompClientRef = useRef(null);
     const subscriptionRef = useRef(null);
@@ -465,6 +492,9 @@ function StockDetailPage() {
                 // 주식 기본 정보
                 const stockRes = await axios.get(`/api/stocks/${stockCode}`);
                 setData(stockRes.data);
+                setNewsList(stockRes.data.newsList || []);
+                setNewsCursor(stockRes.data.newsNextCursor || null);
+                setNewsBodies({});
 
                 // ⭐ 초기 가격 설정 (실시간 데이터 없을 때 대비)
                 const initialPrice = Number(stockRes.data.stockInfo.price); 
@@ -606,6 +636,41 @@ function StockDetailPage() {
         }
     };
 
+    // 뉴스 다음 페이지
+    const handleLoadMoreNews = async () => {
+        if (!newsCursor || newsLoading) return;
+        try {
+            setNewsLoading(true);
+            const res = await axios.get(`/api/news/${stockCode}/page`, {
+                params: { cursor: newsCursor, size: 20 },
+            });
+            setNewsList(prev => [...prev, ...(res.data.newsList || [])]);
+            setNewsCursor(res.data.hasMore ? res.data.nextCursor : null);
+        } catch (e) {
+            console.error(e);
+        } finally {
+            setNewsLoading(false);
+        }
+    };
+
+    // 뉴스 본문 펼치기 / 접기 (본문은 펼칠 때 한 건만 조회)
+    const handleToggleNewsBody = async (newsId) => {
+        if (newsBodies[newsId] !== undefined) {
+            setNewsBodies(prev => {
+                const next = { ...prev };
+                delete next[newsId];
+                return next;
+            });
+            return;
+        }
+        try {
+            const res = await axios.get(`/api/news/article/${newsId}`);
+            setNewsBodies(prev => ({ ...prev, [newsId]: res.data.content || "" }));
+        } catch (e) {
+            console.error(e);
+        }
+    };
+
     const handleNewsClick = async (newsId, url, isBookmarked) => {
         window.open(url, "_blank", "noopener,noreferrer");
         const token = localStorage.getItem("accessToken");
@@ -634,7 +699,7 @@ function StockDetailPage() {
     if (loading) return <div style={styles.container}>로딩중...</div>;
     if (!data || !data.stockInfo) return <div style={styles.container}>데이터가 없습니다.</div>; 
 
-    const { stockInfo, newsList, sentiment } = data;
+    const { stockInfo, sentiment } = data;
 
     // ------------------------------
     // 실시간 가격 적용 
@@ -774,7 +839,15 @@ function StockDetailPage() {
                                         {news.title}
                                     </a>
 
-                                    <div style={styles.newsSummary}>{news.content}</div>
+                                    <div style={styles.newsSummary}>
+                                        {newsBodies[newsId] !== undefined ? newsBodies[newsId] : news.summary}
+                                    </div>
+                                    <button
+                                        onClick={() => handleToggleNewsBody(newsId)}
+                                        style={styles.newsBodyToggle}
+                                    >
+                                        {newsBodies[newsId] !== undefined ? "본문 접기" : "본문 보기"}
+                                    </button>
 
                                     <div style={styles.newsInfo}>
                                         <span
@@ -811,6 +884,16 @@ function StockDetailPage() {
                 ) : (
                     <p style={styles.noNews}>관련 뉴스가 없습니다.</p>
                 )}
+
+                {newsCursor && (
+                    <button
+                        onClick={handleLoadMoreNews}
+                        disabled={newsLoading}
+                        style={styles.moreNewsButton}
+                    >
+                        {newsLoading ? "불러오는 중..." : "뉴스 더보기"}
+                    </button>
+                )}
             </div>
         </div>
     );